@@ -83,6 +83,22 @@ public interface BookmarkService {
      */
     Optional<Object> lookup(@Nullable Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #lookup(Bookmark)}, that fetches entities of the same type
+     * in one or a few round-trips, rather than one by one.
+     *
+     * @param bookmarks - representing domain objects
+     * @return - the corresponding domain objects, aligned with given {@code bookmarks}
+     *      (same size and order), where an empty {@link Optional} marks a bookmark that could not be found
+     */
+    default List<Optional<Object>> lookupAll(final @Nullable List<Bookmark> bookmarks) {
+        return bookmarks==null
+                ? List.of()
+                : bookmarks.stream()
+                    .map(this::lookup)
+                    .toList();
+    }
+
     // -- SHORTCUTS
 
     /**
@@ -163,6 +163,46 @@ InteractionLayer openInteraction(
      */
     void runAnonymous(@NonNull ThrowingRunnable runnable);
 
+    // -- CONTEXT PROPAGATION
+
+    /**
+     * Captures the current {@link InteractionContext} (if any), returning a {@link Callable} that, when called,
+     * calls given callable within an {@link InteractionLayer} of that same context, as per
+     * {@link #call(InteractionContext, Callable)}, or else as per {@link #callAnonymous(Callable)}.
+     *
+     * <p>
+     *     Intended for sub-tasks forked off the current interaction, eg. submitted to an
+     *     {@link java.util.concurrent.ExecutorService} (such as one creating a virtual thread per task).
+     *     As an {@link org.apache.causeway.applib.services.iactn.Interaction} (and its transaction) is confined
+     *     to the thread it was opened with, the sub-task runs within its own interaction, inheriting the
+     *     context (user, clock, locale and time zone) only.
+     * </p>
+     *
+     * @param callable (non-null)
+     *
+     * @see #inheritingRunnable(ThrowingRunnable)
+     */
+    default <R> Callable<R> inheritingCallable(final @NonNull Callable<R> callable) {
+        var interactionContext = currentInteractionContext().orElse(null);
+        return interactionContext != null
+                ? ()->call(interactionContext, callable)
+                : ()->callAnonymous(callable);
+    }
+
+    /**
+     * Variant of {@link #inheritingCallable(Callable)} that takes a runnable.
+     *
+     * @param runnable (non-null)
+     *
+     * @see #inheritingCallable(Callable)
+     */
+    default Runnable inheritingRunnable(final @NonNull ThrowingRunnable runnable) {
+        var interactionContext = currentInteractionContext().orElse(null);
+        return interactionContext != null
+                ? ()->run(interactionContext, runnable)
+                : ()->runAnonymous(runnable);
+    }
+
     // -- TRY SUPPORT
 
     /**
@@ -0,0 +1,49 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.publishing.spi;
+
+/**
+ * Optionally implemented by an {@link ExecutionSubscriber}, {@link EntityChangesSubscriber} or
+ * {@link EntityPropertyChangeSubscriber}, to declare that it may receive its events asynchronously.
+ *
+ * <p>
+ *     If async publishing is enabled (<code>causeway.core.runtime-services.async-publishing.enabled</code>),
+ *     the events for such a subscriber are queued and then delivered (in order of publication) by a dedicated
+ *     worker thread, taking the subscriber off the user-facing latency path.
+ * </p>
+ *
+ * <p>
+ *     Being async-safe means that the subscriber must neither rely on being called within the originating
+ *     interaction (for example its user or its transaction), nor on being able to veto that interaction by
+ *     throwing an exception: any exception thrown is merely logged.
+ * </p>
+ *
+ * @since 3.x {@index}
+ */
+public interface AsyncSafeSubscriber {
+
+    /**
+     * Allows an implementation to opt out at runtime.
+     */
+    default boolean isAsyncSafe() {
+        // async-safe by default
+        return true;
+    }
+
+}
@@ -22,6 +22,7 @@
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
@@ -301,6 +302,34 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * As per {@link #allMatches(Query)}, but returns a lazily evaluated {@link Stream},
+     * backed by a database cursor (where supported by the ORM),
+     * rather than materializing all matching instances in memory.
+     *
+     * <p>
+     *     Intended for batch processing of large result sets.
+     *     The returned {@link Stream} holds on to database resources, hence must be closed
+     *     (eg. using try-with-resources) and must be consumed within the current transaction.
+     * </p>
+     *
+     * <p>
+     *     The JDBC fetch size and whether the persistence context is periodically flushed and cleared
+     *     while iterating are configured using
+     *     <code>causeway.persistence.commons.repository-service.stream-fetch-size</code> and
+     *     <code>causeway.persistence.commons.repository-service.stream-clear-interval</code>.
+     * </p>
+     *
+     * <p>
+     *     This default materializes the result of {@link #allMatches(Query)}.
+     * </p>
+     *
+     * @see #allMatches(Query)
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query) {
+        return allMatches(query).stream();
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.applib.services.swagger;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Generates Swagger schema definition files to describe the public and/or
  * private RESTful APIs exposed by the RestfulObjects viewer.
@@ -44,4 +46,20 @@ String generateSwaggerSpec(
             final Visibility visibility,
             final Format format);
 
+    /**
+     * As {@link #generateSwaggerSpec(Visibility, Format)}, but UTF-8 encoded, ready to be written out as is.
+     *
+     * <p>
+     *     Implementations that cache the generated spec should override, to also cache the encoded bytes.
+     * </p>
+     *
+     * @param visibility
+     * @param format
+     */
+    default byte[] generateSwaggerSpecAsUtf8(
+            final Visibility visibility,
+            final Format format) {
+        return generateSwaggerSpec(visibility, format).getBytes(StandardCharsets.UTF_8);
+    }
+
 }
@@ -25,9 +25,11 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.wrapper.callable.AsyncCallable;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
+import org.apache.causeway.applib.services.wrapper.control.BatchControl;
 import org.apache.causeway.applib.services.wrapper.control.SyncControl;
 import org.apache.causeway.applib.services.wrapper.events.InteractionEvent;
 import org.apache.causeway.applib.services.wrapper.listeners.InteractionListener;
+import org.apache.causeway.commons.functional.IndexedFunction;
 
 /**
  *
@@ -222,6 +224,57 @@ default <T extends MIXEE,MIXEE, R> T asyncWrapMixinT(
         return asyncWrapMixin(mixinClass, mixee, asyncControl);
     }
 
+    //
+    // -- BATCH
+    //
+
+    /**
+     * Applies given {@code invocation} to each of the given domain objects, as {@link #wrap(Object, SyncControl) wrapped}
+     * (using the rules and exception handling of given {@link BatchControl}), all within the current interaction.
+     *
+     * <p>
+     *     The {@code invocation} is passed the index of the domain object (for example to look up the arguments to
+     *     use for it) and its wrapper, for example:
+     * </p>
+     * <pre>
+     * wrapperFactory.wrapBatch(customers, (i, customer) -&gt; customer.updateRating(ratings.get(i)), BatchControl.control());
+     * </pre>
+     *
+     * <p>
+     *     Business rules (hide/disable/validate) are checked for each invocation, except those that do not depend on
+     *     the target object (such as authorization, or members hidden through their layout): these are checked only
+     *     once per member, for the whole batch.
+     * </p>
+     *
+     * <p>
+     *     As for {@link #wrap(Object, SyncControl)}, all invocations run within the current interaction (and share
+     *     its command).  Unless {@link BatchControl#withChunkSize(int) chunked}, they are also executed within
+     *     the current transaction.
+     * </p>
+     *
+     * @param domainObjects - the targets of the invocations
+     * @param invocation - invoked once for each of the (wrapped) domain objects, in order
+     * @param batchControl
+     * @return the results of the invocations, aligned with given {@code domainObjects}
+     *
+     * @since 3.x
+     */
+    <T, R> List<R> wrapBatch(
+            List<T> domainObjects,
+            IndexedFunction<T, R> invocation,
+            BatchControl batchControl);
+
+    /**
+     * {@link #wrapBatch(List, IndexedFunction, BatchControl)}, using the default {@link BatchControl}.
+     *
+     * @since 3.x
+     */
+    default <T, R> List<R> wrapBatch(
+            final List<T> domainObjects,
+            final IndexedFunction<T, R> invocation) {
+        return wrapBatch(domainObjects, invocation, BatchControl.control());
+    }
+
     //
     // -- INTERACTION EVENT HANDLING
     //
@@ -131,6 +131,27 @@ public AsyncControl<R> with(final ExecutorService executorService) {
         // ...
     }
 
+    @Getter
+    private int maxConcurrency = 0;
+
+    /**
+     * Limits the number of concurrent executions of the targeted action (or property edit), among those
+     * submitted with the same limit.
+     * <p>
+     * Executions beyond that limit are held back (without occupying a thread), and are submitted in order
+     * as earlier ones complete.
+     * The limit only applies to the framework's own executor, not to one {@link #with(ExecutorService) provided}.
+     * The default is {@code 0}, indicating no limit.
+     *
+     * @param maxConcurrency - non-negative
+     */
+    public AsyncControl<R> withMaxConcurrency(final int maxConcurrency) {
+        _Assert.assertTrue(maxConcurrency >= 0, ()->"maxConcurrency must not be negative");
+        this.maxConcurrency = maxConcurrency;
+        return this;
+        // ...
+    }
+
     /**
      * Defaults to the system clock, if not overridden
      */
@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.wrapper.control;
+
+import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+
+import lombok.Getter;
+
+/**
+ * Controls the way that a batch of (synchronous) wrapper invocations works,
+ * as initiated through {@link WrapperFactory#wrapBatch(java.util.List, org.apache.causeway.commons.functional.IndexedFunction, BatchControl)}.
+ *
+ * @since 3.x {@index}
+ */
+public class BatchControl extends ControlAbstract<BatchControl> {
+
+    public static BatchControl control() {
+        return new BatchControl();
+    }
+
+    private BatchControl() {
+        with(exception -> {
+            throw exception;
+        });
+    }
+
+    /**
+     * Skip checking business rules (hide/disable/validate) before
+     * executing the underlying properties or actions
+     */
+    @Override
+    public BatchControl withSkipRules() {
+        return super.withSkipRules();
+    }
+
+    /**
+     * How to handle exceptions if they occur, using the provided
+     * {@link ExceptionHandler}.
+     *
+     * <p>
+     *     The default behaviour is to rethrow the exception (aborting the batch).
+     * </p>
+     */
+    @Override
+    public BatchControl with(final ExceptionHandler exceptionHandler) {
+        return super.with(exceptionHandler);
+    }
+
+    @Getter
+    private int chunkSize = 0;
+
+    /**
+     * Commits every {@code chunkSize} invocations, each chunk being executed in a new transaction (and any entities
+     * being retrieved afresh within that transaction).
+     * <p>
+     * The default is {@code 0}, indicating that all invocations are executed within the current transaction.
+     *
+     * @param chunkSize - non-negative
+     */
+    public BatchControl withChunkSize(final int chunkSize) {
+        if(chunkSize < 0) {
+            throw new IllegalArgumentException("chunkSize must not be negative");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @Getter
+    private boolean executionPublishing = true;
+
+    /**
+     * Explicitly set the individual executions of the batch to be published (the default).
+     */
+    public BatchControl withExecutionPublishing() {
+        executionPublishing = true;
+        return this;
+    }
+
+    /**
+     * Explicitly set the individual executions of the batch to <i>not</i> be published.
+     *
+     * <p>
+     *     If the batch is initiated from within an action, its invocations are still recorded as child executions
+     *     of that action's execution, hence are included (in aggregate) when that execution is published
+     *     using a deep {@link org.apache.causeway.applib.util.schema.InteractionDtoUtils.Strategy strategy}.
+     * </p>
+     */
+    public BatchControl withNoExecutionPublishing() {
+        executionPublishing = false;
+        return this;
+    }
+
+    /**
+     * Not API.
+     */
+    public SyncControl asSyncControl() {
+        var syncControl = SyncControl.control();
+        if(getExecutionModes().contains(ExecutionMode.SKIP_RULE_VALIDATION)) {
+            syncControl.withSkipRules();
+        }
+        getExceptionHandler().ifPresent(syncControl::with);
+        return syncControl;
+    }
+
+}
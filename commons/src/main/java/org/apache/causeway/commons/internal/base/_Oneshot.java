@@ -37,6 +37,12 @@
 
     private volatile int triggerCount = 0;
 
+    /**
+     * Set once a {@link Runnable} passed to {@link #trigger(Runnable)} has completed,
+     * allowing subsequent triggers to return without locking.
+     */
+    private volatile boolean exhausted = false;
+
     /**
      * Returns whether the trigger was accepted.
      */
@@ -56,10 +62,17 @@ public boolean trigger() {
      * If the {@link Runnable} throws an {@link Exception}, this one-shot will be exhausted regardless.
      */
     public boolean trigger(final Runnable runnable) {
+        if(exhausted) {
+            return false; // fast path, no contention once completed
+        }
         synchronized ($lock) {
             if(triggerCount==0) {
                 ++ triggerCount;
-                runnable.run();
+                try {
+                    runnable.run();
+                } finally {
+                    exhausted = true;
+                }
             }
             return false;
         }
@@ -71,6 +84,7 @@ public boolean trigger(final Runnable runnable) {
     public void reset() {
         synchronized ($lock) {
             triggerCount = 0;
+            exhausted = false;
         }
     }
 
@@ -1707,6 +1707,32 @@ public static class Validator {
                  */
                 private boolean parallelize = true;
 
+                /**
+                 * If set, the directory in which a fingerprint of the metamodel (its introspected types, the
+                 * programming model and the configuration) is stored, after metamodel validation on
+                 * bootstrapping passed without failures.
+                 *
+                 * <p>
+                 *     On subsequent bootstrapping, if the fingerprint is unchanged, the metamodel validators are
+                 *     not run again (as they cannot come to a different conclusion).  Intended for production,
+                 *     to shorten (rolling) deployments of an application that has been validated before.
+                 *     Introspection itself is not skipped.
+                 * </p>
+                 *
+                 * <p>
+                 *     Besides the bytecode of the types, the fingerprint covers their <code>Xxx.layout.xml</code>
+                 *     and <code>Xxx.columnOrder.txt</code> files (and their fallbacks), and the menubars layout file.
+                 *     It does not cover named layouts (<code>Xxx-name.layout.xml</code>), column orders per
+                 *     collection (<code>Xxx#coll.columnOrder.txt</code>), nor any layouts provided by custom
+                 *     <code>LayoutResourceLoader</code>s; if any of those change, delete the snapshot directory.
+                 * </p>
+                 *
+                 * <p>
+                 *     If not set (the default), validators are run on every bootstrapping.
+                 * </p>
+                 */
+                private String snapshotDirectory = null;
+
                 /**
                  * This setting is used to determine whether the use of such deprecated features is
                  * allowed.
@@ -2013,6 +2039,77 @@ public static class ApplicationFeatures {
                 ApplicationFeaturesInitConfiguration init = ApplicationFeaturesInitConfiguration.NOT_SPECIFIED;
             }
 
+            private final AsyncPublishing asyncPublishing = new AsyncPublishing();
+            @Data
+            public static class AsyncPublishing {
+
+                /**
+                 * Whether execution, entity changes and entity property change events are delivered asynchronously
+                 * to those subscribers that declare themselves as
+                 * {@link org.apache.causeway.applib.services.publishing.spi.AsyncSafeSubscriber async-safe}.
+                 *
+                 * <p>
+                 *     Each such subscriber then has its own bounded queue, drained (in order) by a dedicated worker
+                 *     thread, outside of the interaction and its transaction.  All other subscribers continue to be
+                 *     called synchronously.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The maximum number of events pending delivery, per async subscriber.
+                 */
+                @Min(value = 1)
+                private int queueCapacity = 1000;
+
+                /**
+                 * What to do with an event, if the queue of the async subscriber it is to be delivered to is full.
+                 */
+                private BackPressurePolicy backPressure = BackPressurePolicy.BLOCK;
+
+                public enum BackPressurePolicy {
+                    /**
+                     * The publishing thread waits until there is space in the queue.
+                     *
+                     * <p>
+                     *     No events are lost and order is preserved, at the cost of the user-facing latency
+                     *     whenever the subscriber cannot keep up.
+                     * </p>
+                     */
+                    BLOCK,
+                    /**
+                     * The event is discarded (and counted as dropped).
+                     */
+                    DROP,
+                    /**
+                     * The event is delivered synchronously, on the publishing thread.
+                     *
+                     * <p>
+                     *     No events are lost, but the event may overtake those still queued.
+                     * </p>
+                     */
+                    CALLER_RUNS;
+                }
+            }
+
+            private final Instrumentation instrumentation = new Instrumentation();
+            @Data
+            public static class Instrumentation {
+
+                /**
+                 * Whether interactions, action invocations, property edits, transaction commits, entity change
+                 * publishing, title and icon computation and viewer requests are observed (timed and traced),
+                 * using the Micrometer {@code ObservationRegistry} (if any) provided by the application.
+                 *
+                 * <p>
+                 *     Has no effect, if no such registry is configured (as is the case unless Spring Boot's
+                 *     actuator, or some other means, provides one).
+                 * </p>
+                 */
+                private boolean enabled = true;
+
+            }
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -2102,6 +2199,40 @@ public static class Po {
                 }
             }
 
+            private final WrapperFactory wrapperFactory = new WrapperFactory();
+            @Data
+            public static class WrapperFactory {
+
+                /**
+                 * The kind of {@link java.util.concurrent.ExecutorService} used to execute actions (and property
+                 * edits) invoked through
+                 * {@link org.apache.causeway.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.causeway.applib.services.wrapper.control.AsyncControl)}
+                 * and its brethren, unless
+                 * {@link org.apache.causeway.applib.services.wrapper.control.AsyncControl#with(java.util.concurrent.ExecutorService) overridden}.
+                 */
+                private AsyncExecutorPolicy asyncExecutor = AsyncExecutorPolicy.FIXED_THREAD_POOL;
+
+                public enum AsyncExecutorPolicy {
+                    /**
+                     * A fixed pool of threads, sized by the number of available processors (between 2 and 4).
+                     *
+                     * <p>
+                     *     Suited to CPU-bound tasks; tasks beyond the pool size are queued.
+                     * </p>
+                     */
+                    FIXED_THREAD_POOL,
+                    /**
+                     * A new virtual thread per task.
+                     *
+                     * <p>
+                     *     Suited to I/O-bound tasks (database, email, calls to other systems).  Requires Java 21 or
+                     *     later at runtime; if not available, falls back to {@link #FIXED_THREAD_POOL}.
+                     * </p>
+                     */
+                    VIRTUAL_THREAD_PER_TASK;
+                }
+            }
+
             private final EntityPropertyChangePublisher entityPropertyChangePublisher = new EntityPropertyChangePublisher();
 
             @Data
@@ -2149,6 +2280,29 @@ public static class RepositoryService {
                  * </p>
                  */
                 private boolean disableAutoFlush = false;
+
+                /**
+                 * The number of rows fetched per database round-trip (JDBC fetch size hint), when iterating over
+                 * the {@link java.util.stream.Stream} returned by
+                 * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(org.apache.causeway.applib.query.Query)}.
+                 *
+                 * <p>
+                 *     A non-positive value leaves the fetch size to the ORM/JDBC driver's default.
+                 * </p>
+                 */
+                private int streamFetchSize = 500;
+
+                /**
+                 * If positive, the persistence context is flushed and cleared each time this many instances have been
+                 * consumed from the {@link java.util.stream.Stream} returned by
+                 * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(org.apache.causeway.applib.query.Query)},
+                 * so that it does not grow without bound.
+                 *
+                 * <p>
+                 *     Disabled by default, as any instances already consumed become detached.
+                 * </p>
+                 */
+                private int streamClearInterval = 0;
             }
 
             private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
@@ -2654,6 +2808,95 @@ public enum ApiScope {
              */
             private ApiScope apiScope = ApiScope.ALL;
 
+            /**
+             * Specifies how the resolution of the fields of a GraphQL operation is mapped onto
+             * {@link org.apache.causeway.applib.services.iactn.Interaction}s (and their transactions).
+             *
+             * @since 3.x {@index}
+             */
+            public enum InteractionScope {
+                /**
+                 * Each field is resolved by calling into its own interaction; nested fields participate in the
+                 * interaction of their parent field only if their interaction context happens to be the same.
+                 *
+                 * <p>
+                 *     This is the default, and how the viewer has always behaved.
+                 * </p>
+                 */
+                PER_FIELD,
+                /**
+                 * A single interaction is opened for the whole GraphQL operation, with all of its fields resolved
+                 * within it.  For queries, that interaction additionally runs within a single read-only
+                 * transaction.
+                 *
+                 * <p>
+                 *     Mutations are still isolated: each top-level mutation field (along with its sub-selection)
+                 *     is resolved within its own interaction and transaction.
+                 * </p>
+                 *
+                 * <p>
+                 *     For queries, this also enables the lookup of domain entities to be batched (and de-duplicated)
+                 *     per entity type, rather than each field looking up its target object one at a time.
+                 * </p>
+                 */
+                PER_OPERATION,
+                ;
+                public boolean isPerOperation() { return this == PER_OPERATION; }
+            }
+
+            /**
+             * Whether to open an interaction {@link InteractionScope#PER_FIELD per field} (the default) or
+             * {@link InteractionScope#PER_OPERATION per operation}.
+             *
+             * <p>
+             *     The latter avoids the overhead of opening and closing an interaction (and its transaction,
+             *     change tracking and publishing bookkeeping) for every field of a query touching many objects.
+             * </p>
+             */
+            private InteractionScope interactionScope = InteractionScope.PER_FIELD;
+
+            private final QueryCost queryCost = new QueryCost();
+            @Data
+            public static class QueryCost {
+
+                /**
+                 * The maximum depth of a query (or mutation); any deeper is rejected before execution.
+                 *
+                 * <p>
+                 *     A value of zero or less (the default) means that depth is not limited.
+                 * </p>
+                 */
+                private int maxDepth = 0;
+
+                /**
+                 * The maximum cost of a query (or mutation), as estimated from the metamodel; any costlier is rejected
+                 * before execution.
+                 *
+                 * <p>
+                 *     Each field costs 1, except for derived properties (see {@link #getDerivedPropertyCost()}).
+                 *     The cost of the sub-selection of a list-valued field (collections, and actions returning a
+                 *     list) is multiplied by its estimated cardinality: the page size specified for the collection
+                 *     (or for the element type) if any, else {@link #getDefaultCardinality()}.
+                 * </p>
+                 *
+                 * <p>
+                 *     A value of zero or less (the default) means that the cost is only calculated, not limited.
+                 * </p>
+                 */
+                private int maxCost = 0;
+
+                /**
+                 * The estimated cardinality of a list-valued field, for which no page size is specified.
+                 */
+                private int defaultCardinality = 10;
+
+                /**
+                 * The cost of a derived property, that is one with no setter, whose value is computed
+                 * rather than read from persisted state.
+                 */
+                private int derivedPropertyCost = 5;
+            }
+
             private final MetaData metaData = new MetaData();
             @Data
             public static class MetaData {
@@ -3894,6 +4137,49 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * When property changes are persisted in bulk (see
+             * <code>causeway.core.runtime-services.entity-property-change-publisher.bulk.threshold</code>),
+             * the number of audit trail entries after which pending inserts are flushed to the database.
+             *
+             * <p>
+             *     Each flush then contains at most this many inserts, which the ORM can send as a single JDBC batch
+             *     (if batch writing is enabled for the ORM, eg. <code>eclipselink.jdbc.batch-writing</code> or
+             *     <code>datanucleus.rdbms.statementBatchLimit</code>).  A value of 0 flushes only once,
+             *     after all entries have been persisted.
+             * </p>
+             */
+            private int batchSize = 500;
+
+            private final WriteBehind writeBehind = new WriteBehind();
+            @Data
+            public static class WriteBehind {
+
+                /**
+                 * Whether audit trail entries are written asynchronously, once the business transaction has
+                 * committed, in a transaction of their own.
+                 *
+                 * <p>
+                 *     This takes the inserts off the business transaction, but audit trail entries are then
+                 *     <i>not</i> committed atomically with the changes they record: queued entries are lost if the
+                 *     JVM terminates abnormally.  By default write-behind is disabled, and entries are persisted
+                 *     within the business transaction.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Maximum number of property changes buffered, waiting to be written.
+                 */
+                private int queueCapacity = 10_000;
+
+                /**
+                 * How long a committing transaction waits for space in a full buffer (back-pressure), before
+                 * writing its audit trail entries itself.
+                 */
+                private Duration offerTimeout = Duration.ofSeconds(1);
+            }
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3982,6 +4268,60 @@ public enum OnFailurePolicy {
                  * If there is an exception executing one of the commands, what should be done?
                  */
                 private OnFailurePolicy onFailurePolicy = OnFailurePolicy.STOP_THE_LINE;
+
+                /**
+                 * The maximum number of pending commands that the <code>RunBackgroundCommandsJob</code>
+                 * will execute concurrently.
+                 *
+                 * <p>
+                 *     If greater than 1, the commands of a batch are partitioned by their target, and the partitions
+                 *     are executed on a pool of (at most) this many worker threads.  Commands against the same target
+                 *     are still executed one after another, in the order they were created.  The
+                 *     {@link #getOnFailurePolicy() onFailurePolicy} then applies per partition, that is, a
+                 *     failure stops the line only for the commands against that same target.
+                 * </p>
+                 *
+                 * <p>
+                 *     By default, commands are executed in serial.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int maxConcurrency = 1;
+
+                /**
+                 * Whether each pending command is first claimed (in its own transaction, by marking it as started)
+                 * before it is executed, skipping any commands that have since been claimed by someone else.
+                 *
+                 * <p>
+                 *     This allows multiple nodes to run the <code>RunBackgroundCommandsJob</code> against the same
+                 *     database concurrently, without executing any command twice.  If a command that was claimed then
+                 *     fails and the {@link #getOnFailurePolicy() onFailurePolicy} is to
+                 *     {@link OnFailurePolicy#STOP_THE_LINE stop the line}, then the claim is released so that the
+                 *     command is retried.
+                 * </p>
+                 *
+                 * <p>
+                 *     Because the claim is committed before the command is executed, a node that dies in between leaves
+                 *     the command claimed (<code>startedAt</code> set) but never completed (<code>completedAt</code>
+                 *     still null).  Such stranded claims are reclaimed once older than the
+                 *     {@link #getClaimTimeout() claimTimeout}; they can also be found using
+                 *     <code>CommandLogEntryRepository#findBackgroundAndStranded(..)</code>.
+                 * </p>
+                 */
+                private boolean claimBeforeExecution = false;
+
+                /**
+                 * Only applies if {@link #isClaimBeforeExecution() claimBeforeExecution}: how long a claimed command
+                 * may remain not completed, before it is considered stranded (for example, because the node that
+                 * claimed it died), and so can be claimed and executed again.
+                 *
+                 * <p>
+                 *     Should comfortably exceed the time taken to execute any command, as a command that is still
+                 *     running when its claim times out may be executed twice.  If zero (or negative), stranded claims
+                 *     are never reclaimed.
+                 * </p>
+                 */
+                private Duration claimTimeout = Duration.ofHours(1);
             }
         }
 
@@ -4512,6 +4852,51 @@ public enum PermissionsEvaluationPolicy {
              */
             private PermissionsEvaluationPolicy permissionsEvaluationPolicy = PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
 
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * How long the permissions of a user, once loaded for the purpose of authorization, are cached
+                 * (across interactions).
+                 *
+                 * <p>
+                 *     Cached permissions are invalidated whenever an <code>ApplicationPermission</code>,
+                 *     <code>ApplicationRole</code> or <code>ApplicationUser</code> is persisted, updated or removed,
+                 *     or any of secman's actions is executed. This expiry is a safety net for changes not observed
+                 *     by this instance, eg. those made by other nodes of a cluster.
+                 * </p>
+                 *
+                 * <p>
+                 *     A non-positive value means cached permissions never expire.
+                 * </p>
+                 */
+                private int expiryDurationInMinutes = 5;
+            }
+
+            private final TenancyCache tenancyCache = new TenancyCache();
+            @Data
+            public static class TenancyCache {
+
+                /**
+                 * Outcomes of <code>ApplicationTenancyEvaluator</code>s that declare to be object-level are always
+                 * memoized per user, domain entity and hides/disables for the duration of the interaction.
+                 *
+                 * <p>
+                 *     If positive, such outcomes are also cached across interactions, for the given number of seconds.
+                 *     Such outcomes are invalidated whenever users or tenancies change, and per domain entity
+                 *     whenever that entity is updated.
+                 * </p>
+                 */
+                private int expiryDurationInSeconds = 0;
+
+                /**
+                 * Upper bound for the number of outcomes cached across interactions
+                 * (as per {@link #getExpiryDurationInSeconds()}).
+                 */
+                private int maxSizeInEntries = 10_000;
+            }
+
             private final UserRegistration userRegistration = new UserRegistration();
             @Data
             public static class UserRegistration {
@@ -4579,6 +4964,41 @@ public static class Caffeine {
                  */
                 private int maxSizeInEntries = 1000;
             }
+
+            private final Jcache jcache = new Jcache();
+            @Data
+            public static class Jcache {
+                /**
+                 * Default duration that entries remain in the shared (JCache) store (for a given logical type name),
+                 * in minutes.
+                 *
+                 * <p>
+                 *     Default is 20 mins.
+                 * </p>
+                 */
+                private int expiryDurationInMinutes = 20;
+
+                /**
+                 * Default maximum number of entries in the in-process near cache (for a given logical type name).
+                 * The size of the shared store itself is configured with the JCache provider.
+                 *
+                 * <p>
+                 *     Default is 1000
+                 * </p>
+                 */
+                private int maxSizeInEntries = 1000;
+
+                /**
+                 * Duration that entries remain in the in-process near cache, in seconds.
+                 * Bounds the staleness of titles held by other nodes, in case the JCache provider
+                 * does not propagate entry removals to this node.
+                 *
+                 * <p>
+                 *     Default is 60 secs.
+                 * </p>
+                 */
+                private int nearCacheExpiryDurationInSeconds = 60;
+            }
         }
     }
 
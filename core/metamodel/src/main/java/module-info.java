@@ -46,6 +46,8 @@
     exports org.apache.causeway.core.metamodel.facets.object.bookmarkpolicy;
     exports org.apache.causeway.core.metamodel.facets.object.callbacks;
     exports org.apache.causeway.core.metamodel.facets.object.domainobject;
+    exports org.apache.causeway.core.metamodel.facets.object.domainobjectlayout
+        to org.apache.causeway.extensions.titlecache.caffeine;
     exports org.apache.causeway.core.metamodel.facets.object.domainservicelayout;
     exports org.apache.causeway.core.metamodel.facets.object.entity;
     exports org.apache.causeway.core.metamodel.facets.object.grid;
@@ -55,6 +57,8 @@
     exports org.apache.causeway.core.metamodel.facets.object.navchild
         to org.apache.causeway.core.runtimeservices;
     exports org.apache.causeway.core.metamodel.facets.object.objectvalidprops;
+    exports org.apache.causeway.core.metamodel.facets.object.paged
+        to org.apache.causeway.incubator.viewer.graphql.model;
     exports org.apache.causeway.core.metamodel.facets.object.publish.entitychange;
     exports org.apache.causeway.core.metamodel.facets.object.title;
     exports org.apache.causeway.core.metamodel.facets.object.value;
@@ -104,6 +108,7 @@
     exports org.apache.causeway.core.metamodel.services.grid.bootstrap;
     exports org.apache.causeway.core.metamodel.services.grid;
     exports org.apache.causeway.core.metamodel.services.idstringifier;
+    exports org.apache.causeway.core.metamodel.services.instrumentation;
     exports org.apache.causeway.core.metamodel.services.ixn;
     exports org.apache.causeway.core.metamodel.services.layout;
     exports org.apache.causeway.core.metamodel.services.message;
@@ -23,9 +23,11 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.callable.AsyncCallable;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
+import org.apache.causeway.applib.services.wrapper.control.BatchControl;
 import org.apache.causeway.applib.services.wrapper.control.SyncControl;
 import org.apache.causeway.applib.services.wrapper.events.InteractionEvent;
 import org.apache.causeway.applib.services.wrapper.listeners.InteractionListener;
+import org.apache.causeway.commons.functional.IndexedFunction;
 
 /** just a stub, not actually used */
 class WrapperFactory_forTesting implements WrapperFactory {
@@ -70,6 +72,11 @@ public <T, R> T asyncWrapMixin(Class<T> mixinClass, Object mixedIn, AsyncControl
         return null;
     }
 
+    @Override
+    public <T, R> List<R> wrapBatch(List<T> domainObjects, IndexedFunction<T, R> invocation, BatchControl batchControl) {
+        return null;
+    }
+
     @Override
     public List<InteractionListener> getListeners() {
         return null;
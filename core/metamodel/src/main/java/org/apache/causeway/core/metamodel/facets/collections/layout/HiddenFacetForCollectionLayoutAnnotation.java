@@ -53,4 +53,9 @@ public String hiddenReason(final ManagedObject targetAdapter, final Where whereC
         return "Hidden on " + where().getFriendlyName();
     }
 
+    @Override
+    public boolean isTargetIndependent() {
+        return true;
+    }
+
 }
@@ -86,6 +86,10 @@ public TitleFacetViaDomainObjectLayoutAnnotationUsingTitleUiEvent(
         this.metamodelEventService = metamodelEventService;
     }
 
+    public Class<? extends TitleUiEvent<Object>> getTitleUiEventClass() {
+        return titleUiEventClass;
+    }
+
     @Override
     public String title(final TitleRenderRequest titleRenderRequest) {
 
@@ -21,6 +21,7 @@
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.ClassUtils;
@@ -141,8 +142,37 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #fetchByBookmark(Bookmark)}.
+     * <p>
+     * Returns entity pojos aligned with given {@code bookmarks} (same size and order),
+     * where an empty {@link Optional} marks a bookmark that could not be found.
+     * <p>
+     * Implementations may fetch all entities in one or a few round-trips,
+     * this default simply fetches one by one.
+     */
+    default Can<Optional<Object>> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        return bookmarks.map(this::fetchByBookmark);
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Lazily evaluated variant of {@link #fetchByQuery(Query)}, backed by a database cursor where supported.
+     * <p>
+     * The returned {@link Stream} holds on to database resources, hence must be closed
+     * (eg. using try-with-resources) and consumed within the current transaction.
+     * <p>
+     * This default is not lazy, it simply streams the result of {@link #fetchByQuery(Query)}.
+     *
+     * @param fetchSize - number of rows to fetch per database round-trip (hint), if non-positive uses the provider's default
+     * @param clearInterval - if positive, the persistence context is flushed and cleared each time this many elements
+     *      have been consumed, such that it does not grow without bound (previously consumed elements become detached)
+     */
+    default Stream<ManagedObject> streamByQuery(final Query<?> query, final int fetchSize, final int clearInterval) {
+        return fetchByQuery(query).stream();
+    }
+
     void persist(Object pojo);
 
     @Nullable <T> T refresh(@Nullable T pojo);
@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Shared utilities for {@link EntityFacet#streamByQuery(org.apache.causeway.applib.query.Query, int, int)}
+ * implementations.
+ *
+ * @since 3.x
+ */
+public final class _EntityStreams {
+
+    private _EntityStreams() {}
+
+    /**
+     * Returns a {@link Stream} of the elements of given (cursor backed) {@code resultStream},
+     * that calls {@code flushAndClear} after every {@code clearInterval} elements consumed,
+     * so that the persistence context does not grow without bound.
+     * <p>
+     * The callback is run before advancing the underlying cursor,
+     * such that the element handed out next is still managed.
+     * Closing the returned {@link Stream} closes the {@code resultStream}.
+     *
+     * @param clearInterval - if non-positive, returns the {@code resultStream} as is
+     */
+    public static <T> Stream<T> clearingPeriodically(
+            final @NonNull Stream<T> resultStream,
+            final int clearInterval,
+            final @NonNull Runnable flushAndClear) {
+        if(clearInterval<=0) {
+            return resultStream;
+        }
+        var iterator = new ClearingIterator<T>(resultStream.iterator(), clearInterval, flushAndClear);
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false)
+                .onClose(resultStream::close);
+    }
+
+    // -- HELPER
+
+    private static final class ClearingIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> delegate;
+        private final int clearInterval;
+        private final Runnable flushAndClear;
+        private long consumed;
+        private long clearedAt;
+
+        ClearingIterator(final Iterator<T> delegate, final int clearInterval, final Runnable flushAndClear) {
+            this.delegate = delegate;
+            this.clearInterval = clearInterval;
+            this.flushAndClear = flushAndClear;
+        }
+
+        @Override
+        public boolean hasNext() {
+            // some providers already load the next row with hasNext()
+            clearIfDue();
+            return delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+            clearIfDue();
+            var next = delegate.next();
+            consumed++;
+            return next;
+        }
+
+        private void clearIfDue() {
+            if(consumed>0
+                    && consumed%clearInterval==0
+                    && clearedAt!=consumed) {
+                clearedAt = consumed;
+                flushAndClear.run();
+            }
+        }
+    }
+
+}
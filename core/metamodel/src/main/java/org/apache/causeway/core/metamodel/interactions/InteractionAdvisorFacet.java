@@ -40,4 +40,15 @@
  */
 public interface InteractionAdvisorFacet extends InteractionAdvisor, Facet {
 
+    /**
+     * Whether the advice of this facet depends only on the feature it is attached to (and the current user),
+     * but not on the target object; if so, the advice need only be sought once for many targets.
+     *
+     * <p>
+     * Defaults to <tt>false</tt>.
+     */
+    default boolean isTargetIndependent() {
+        return false;
+    }
+
 }
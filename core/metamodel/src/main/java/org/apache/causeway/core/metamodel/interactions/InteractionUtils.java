@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.interactions;
 
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 
@@ -45,6 +46,17 @@
 public final class InteractionUtils {
 
     public InteractionResult isVisibleResult(final FacetHolder facetHolder, final VisibilityContext context) {
+        return isVisibleResult(facetHolder, context, advisor->true);
+    }
+
+    /**
+     * As {@link #isVisibleResult(FacetHolder, VisibilityContext)}, but only consulting those advisors
+     * that pass given {@code advisorFilter}.
+     */
+    public InteractionResult isVisibleResult(
+            final FacetHolder facetHolder,
+            final VisibilityContext context,
+            final Predicate<? super InteractionAdvisorFacet> advisorFilter) {
 
         var iaResult = new InteractionResult(context.createInteractionEvent());
 
@@ -54,6 +66,7 @@ public InteractionResult isVisibleResult(final FacetHolder facetHolder, final Vi
             case HIDE:
                 facetHolder.streamFacets(HidingInteractionAdvisor.class)
                 .filter(advisor->compatible(advisor, context))
+                .filter(advisorFilter)
                 .forEach(advisor->{
                     var hidingReasonString = advisor.hides(context);
                     var hidingReason = Optional.ofNullable(hidingReasonString)
@@ -73,6 +86,17 @@ public InteractionResult isVisibleResult(final FacetHolder facetHolder, final Vi
     }
 
     public InteractionResult isUsableResult(final FacetHolder facetHolder, final UsabilityContext context) {
+        return isUsableResult(facetHolder, context, advisor->true);
+    }
+
+    /**
+     * As {@link #isUsableResult(FacetHolder, UsabilityContext)}, but only consulting those advisors
+     * that pass given {@code advisorFilter}.
+     */
+    public InteractionResult isUsableResult(
+            final FacetHolder facetHolder,
+            final UsabilityContext context,
+            final Predicate<? super InteractionAdvisorFacet> advisorFilter) {
 
         var isResult = new InteractionResult(context.createInteractionEvent());
 
@@ -86,6 +110,7 @@ public InteractionResult isUsableResult(final FacetHolder facetHolder, final Usa
                 var visibilityContext = context.asVisibilityContext();
                 facetHolder.streamFacets(HidingInteractionAdvisor.class)
                         .filter(advisor->compatible(advisor, context))
+                        .filter(advisorFilter)
                         .forEach(advisor->{
                             String hidingReasonString = advisor.hides(visibilityContext);
                             Consent.VetoReason hidingReason = Optional.ofNullable(hidingReasonString)
@@ -103,6 +128,7 @@ public InteractionResult isUsableResult(final FacetHolder facetHolder, final Usa
         var ifDisabledPolicy = context.getRenderPolicy().getIfDisabledPolicy();
         facetHolder.streamFacets(DisablingInteractionAdvisor.class)
         .filter(advisor->compatible(advisor, context))
+        .filter(advisorFilter)
         .forEach(advisor->{
             Consent.VetoReason disablingReason = advisor.disables(context).orElse(null);
             if(disablingReason != null
@@ -18,8 +18,12 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import jakarta.inject.Named;
 
@@ -30,6 +34,7 @@
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.IndexedConsumer;
 import org.apache.causeway.commons.handler.ChainOfResponsibility;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -120,6 +125,53 @@ public Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}.
+     * <p>
+     * Returns objects aligned with given {@code bookmarks} (same size and order).
+     * Entities sharing the same {@link ObjectSpecification} are fetched in bulk
+     * via {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#fetchByBookmarks(Can)},
+     * any other are loaded one by one.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     * <p>
+     * Supports alias lookup.
+     */
+    public Can<Optional<ManagedObject>> loadObjects(final @NonNull Can<Bookmark> bookmarks) {
+        if(bookmarks.size()<2) {
+            return bookmarks.map(this::loadObject);
+        }
+        var specLoader = getMetaModelContext().getSpecificationLoader();
+        var protoObjects = bookmarks.map(bookmark->ProtoObject.resolve(specLoader, bookmark));
+
+        // group entity indexes by spec, preserving encounter order
+        var entityIndexesBySpec = new LinkedHashMap<ObjectSpecification, List<Integer>>();
+        var results = new ArrayList<Optional<ManagedObject>>(bookmarks.size());
+        protoObjects.forEach(IndexedConsumer.zeroBased((index, protoObjectIfAny)->{
+            results.add(Optional.empty());
+            protoObjectIfAny
+                .filter(protoObject->protoObject.getObjectSpecification().isEntity())
+                .ifPresentOrElse(
+                    protoObject->entityIndexesBySpec
+                        .computeIfAbsent(protoObject.getObjectSpecification(), __->new ArrayList<>())
+                        .add(index),
+                    ()->results.set(index, protoObjectIfAny.map(this::loadObject)));
+        }));
+
+        entityIndexesBySpec.forEach((spec, indexes)->{
+            var entityBookmarks = Can.ofCollection(indexes).map(bookmarks::getElseFail);
+            var entityPojos = spec.entityFacetElseFail().fetchByBookmarks(entityBookmarks);
+            entityPojos.forEach(IndexedConsumer.zeroBased((i, entityPojoIfAny)->{
+                var bookmark = entityBookmarks.getElseFail(i);
+                results.set(indexes.get(i), Optional.of(entityPojoIfAny
+                        .map(entityPojo->ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))
+                        .orElseGet(()->ManagedObject.empty(spec))));
+            }));
+        });
+
+        return Can.ofCollection(results);
+    }
+
     /**
      * Introduced for serializing action parameter values to bookmarks and vice versa.
      * <p>
@@ -162,6 +214,25 @@ public Can<ManagedObject> queryObjects(final BulkLoadRequest objectQuery) {
         return objectBulkLoader().handleElseFail(objectQuery);
     }
 
+    /**
+     * Lazily evaluated variant of {@link #queryObjects(BulkLoadRequest)}.
+     * The returned {@link Stream} must be closed.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     *
+     * @see org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#streamByQuery(org.apache.causeway.applib.query.Query, int, int)
+     */
+    public Stream<ManagedObject> streamObjects(
+            final BulkLoadRequest objectQuery,
+            final int fetchSize,
+            final int clearInterval) {
+        var spec = objectQuery.objectSpecification();
+        return spec!=null
+                && spec.isEntity()
+            ? spec.entityFacetElseFail().streamByQuery(objectQuery.query(), fetchSize, clearInterval)
+            : queryObjects(objectQuery).stream();
+    }
+
     public Optional<ObjectSpecification> specForPojo(final @Nullable Object pojo) {
         if(pojo==null) return Optional.empty();
 
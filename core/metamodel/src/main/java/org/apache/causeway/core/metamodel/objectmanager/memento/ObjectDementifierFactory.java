@@ -18,7 +18,11 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager.memento;
 
+import java.util.HashMap;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.IndexedConsumer;
 import org.apache.causeway.commons.handler.ChainOfResponsibility;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager.MementoRecreateRequest;
@@ -66,8 +70,33 @@ public boolean isHandling(final MementoRecreateRequest request) {
             public ManagedObject handle(final MementoRecreateRequest request) {
                 var elementSpec = request.objectSpecification();
                 var om = elementSpec.getMetaModelContext().getObjectManager();
-                var objects = ((ObjectMementoPacked)request.memento()).streamElements()
-                        .map(om::demementify) // recursively unwrap
+                var specLoader = elementSpec.getSpecificationLoader();
+                var mementos = ((ObjectMementoPacked)request.memento()).streamElements()
+                        .collect(Can.toCan());
+
+                // fetch entities in bulk, rather than one by one
+                var entityBookmarks = mementos.stream()
+                        .filter(ObjectMementoSingular.class::isInstance)
+                        .filter(memento->specLoader.specForLogicalType(memento.logicalType())
+                                .map(spec->spec.isEntity())
+                                .orElse(false))
+                        .map(ObjectMemento::bookmark)
+                        .collect(Can.toCan());
+                var entitiesByBookmark = new HashMap<Bookmark, ManagedObject>();
+                om.loadObjects(entityBookmarks).forEach(IndexedConsumer.zeroBased((index, entityIfAny)->
+                    entityIfAny
+                        .filter(entity->entity.getPojo()!=null)
+                        .ifPresent(entity->entitiesByBookmark.put(entityBookmarks.getElseFail(index), entity))));
+
+                var objects = mementos.stream()
+                        .map(memento->{
+                            var entity = memento instanceof ObjectMementoSingular
+                                    ? entitiesByBookmark.get(memento.bookmark())
+                                    : null;
+                            return entity!=null
+                                    ? entity
+                                    : om.demementify(memento); // recursively unwrap, fails if not found
+                        })
                         .collect(Can.toCan());
                 return ManagedObject.packed(elementSpec, objects);
             }
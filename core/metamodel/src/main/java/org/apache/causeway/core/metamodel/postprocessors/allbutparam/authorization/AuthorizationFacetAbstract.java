@@ -47,6 +47,14 @@ public AuthorizationFacetAbstract(
         this.authorizationManager = getAuthorizationManager();
     }
 
+    /**
+     * Authorization depends on the feature and the current user only.
+     */
+    @Override
+    public boolean isTargetIndependent() {
+        return true;
+    }
+
     @Override
     public String hides(final VisibilityContext ic) {
 
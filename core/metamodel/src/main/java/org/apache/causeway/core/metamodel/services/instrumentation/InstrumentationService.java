@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.instrumentation;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.Identifier;
+
+import org.jspecify.annotations.NonNull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Instrumentation hooks of the framework's runtime, to be observed (timed and traced) by the
+ * implementation, typically reporting to a metrics registry and/or a tracing backend.
+ *
+ * <p>
+ * Each observation is tagged by the logical type name and member id (if applicable),
+ * both of which are of bounded cardinality.
+ *
+ * @since 3.x {@index}
+ */
+public interface InstrumentationService {
+
+    /**
+     * The points of the framework's runtime that are instrumented.
+     */
+    @RequiredArgsConstructor
+    enum Point {
+        /** Lifetime of an {@link org.apache.causeway.applib.services.iactnlayer.InteractionLayer}. */
+        INTERACTION_LAYER("causeway.interaction.layer"),
+        ACTION_INVOCATION("causeway.action.invocation"),
+        PROPERTY_EDIT("causeway.property.edit"),
+        TRANSACTION_COMMIT("causeway.transaction.commit"),
+        /** Evaluation and publishing of entity changes, when a transaction is about to commit. */
+        ENTITY_CHANGES_PUBLISHING("causeway.entity-changes.publishing"),
+        TITLE("causeway.object.title"),
+        ICON("causeway.object.icon"),
+        /** Handling of a request by the Wicket viewer, from begin to end of its request cycle. */
+        WICKET_REQUEST("causeway.viewer.wicket.request"),
+        /** Handling of an (authenticated) request by the Restful Objects viewer. */
+        RESTFUL_OBJECTS_REQUEST("causeway.viewer.restfulobjects.request"),
+        /**
+         * Resolution of (part of) a GraphQL operation within an interaction, that is, either a whole query,
+         * a top-level mutation field or a single field, depending on the configured interaction scope.
+         */
+        GRAPHQL_RESOLUTION("causeway.viewer.graphql.resolution");
+
+        /**
+         * Name of the observation (timer and span), as reported.
+         */
+        @Getter private final String observationName;
+    }
+
+    /**
+     * An observation started, to be {@link #close() closed} on the same thread.
+     */
+    interface Observation extends AutoCloseable {
+
+        Observation NOOP = new Observation() {
+            @Override public void error(final Throwable cause) {}
+            @Override public void close() {}
+        };
+
+        /**
+         * Marks the observation as failed with given cause.
+         */
+        void error(@NonNull Throwable cause);
+
+        /**
+         * Stops the observation.
+         */
+        @Override
+        void close();
+    }
+
+    InstrumentationService NOOP = (point, logicalTypeName, memberId) -> Observation.NOOP;
+
+    /**
+     * Starts an observation at given point.
+     *
+     * @param logicalTypeName - if applicable
+     * @param memberId - if applicable
+     */
+    Observation start(@NonNull Point point, @Nullable String logicalTypeName, @Nullable String memberId);
+
+    /**
+     * Starts an observation at given point, for the member (or type) of given identifier.
+     */
+    default Observation start(final @NonNull Point point, final @NonNull Identifier identifier) {
+        return start(point,
+                identifier.logicalType().logicalName(),
+                identifier.type().isClass()
+                    ? null
+                    : identifier.memberLogicalName());
+    }
+
+    /**
+     * Observes the computation of given supplier at given point.
+     */
+    default <R> R observe(
+            final @NonNull Point point,
+            final @Nullable String logicalTypeName,
+            final @Nullable String memberId,
+            final @NonNull Supplier<R> supplier) {
+        return observe(start(point, logicalTypeName, memberId), supplier);
+    }
+
+    /**
+     * Observes the computation of given supplier at given point, for the member (or type) of given identifier.
+     */
+    default <R> R observe(
+            final @NonNull Point point,
+            final @NonNull Identifier identifier,
+            final @NonNull Supplier<R> supplier) {
+        return observe(start(point, identifier), supplier);
+    }
+
+    private static <R> R observe(
+            final @NonNull Observation started,
+            final @NonNull Supplier<R> supplier) {
+        try(var observation = started) {
+            try {
+                return supplier.get();
+            } catch (RuntimeException | Error e) {
+                observation.error(e);
+                throw e;
+            }
+        }
+    }
+
+}
@@ -75,6 +75,33 @@ public static PropertyChangeRecord ofDeleting(
                 .withPostValueSetToDeleted();
     }
 
+    /**
+     * For pre- and post-values that have already been captured elsewhere.
+     */
+    public static PropertyChangeRecord of(
+            final @NonNull PropertyChangeRecordId id,
+            final @NonNull PreAndPostValue preAndPostValue) {
+        var propertyChangeRecord = new PropertyChangeRecord(id);
+        propertyChangeRecord.preAndPostValue = preAndPostValue;
+        return propertyChangeRecord;
+    }
+
+    /**
+     * The current value of given entity's property, else {@link PropertyValuePlaceholder#UNKNOWN} if it cannot be read
+     * (rethrowing however if it cannot be read due to a deadlock).
+     */
+    public static Object currentValueElseUnknown(
+            final @NonNull ManagedObject entity,
+            final @NonNull OneToOneAssociation property,
+            final DeadlockRecognizer deadlockRecognizer) {
+        try {
+            return currentValue(entity, property);
+        } catch (Exception ex) {
+            deadlockRecognizer.rethrowIfDeadlock(ex);
+            return PropertyValuePlaceholder.UNKNOWN;
+        }
+    }
+
     private PropertyChangeRecord(final @NonNull PropertyChangeRecordId id) {
         this.id = id;
     }
@@ -162,7 +189,11 @@ public EntityPropertyChange toEntityPropertyChange(
     // -- HELPER
 
     private Object getPropertyValue() {
-        var referencedAdapter = getProperty().get(getEntity(), InteractionInitiatedBy.PASS_THROUGH);
+        return currentValue(getEntity(), getProperty());
+    }
+
+    private static Object currentValue(final ManagedObject entity, final OneToOneAssociation property) {
+        var referencedAdapter = property.get(entity, InteractionInitiatedBy.PASS_THROUGH);
         return MmUnwrapUtils.single(referencedAdapter);
     }
 
@@ -23,6 +23,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apache.causeway.applib.annotation.CollectionLayout;
@@ -45,6 +46,7 @@
 import org.apache.causeway.core.metamodel.facets.members.layout.order.LayoutOrderFacet;
 import org.apache.causeway.core.metamodel.facets.object.paged.PagedFacet;
 import org.apache.causeway.core.metamodel.facets.object.tabledec.TableDecoratorFacet;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdvisorFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -102,6 +104,16 @@ Consent isVisible(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where);
 
+    /**
+     * As {@link #isVisible(ManagedObject, InteractionInitiatedBy, Where)}, but only consulting those
+     * advisors that pass given {@code advisorFilter}.
+     */
+    Consent isVisible(
+            final ManagedObject target,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where,
+            final Predicate<? super InteractionAdvisorFacet> advisorFilter);
+
     // /////////////////////////////////////////////////////////////
     // Disabled (or enabled)
     // /////////////////////////////////////////////////////////////
@@ -119,6 +131,16 @@ Consent isUsable(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where);
 
+    /**
+     * As {@link #isUsable(ManagedObject, InteractionInitiatedBy, Where)}, but only consulting those
+     * advisors that pass given {@code advisorFilter}.
+     */
+    Consent isUsable(
+            final ManagedObject target,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where,
+            final Predicate<? super InteractionAdvisorFacet> advisorFilter);
+
     // /////////////////////////////////////////////////////////////
     // isAssociation, isAction
     // /////////////////////////////////////////////////////////////
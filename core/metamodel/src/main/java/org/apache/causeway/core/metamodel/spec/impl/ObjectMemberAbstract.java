@@ -24,6 +24,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.apache.causeway.applib.Identifier;
@@ -48,6 +49,7 @@
 import org.apache.causeway.core.metamodel.interactions.AccessContext;
 import org.apache.causeway.core.metamodel.interactions.DisablingInteractionAdvisor;
 import org.apache.causeway.core.metamodel.interactions.HidingInteractionAdvisor;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdvisorFacet;
 import org.apache.causeway.core.metamodel.interactions.InteractionContext;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.interactions.InteractionUtils;
@@ -219,6 +221,17 @@ public Consent isVisible(
         return InteractionUtils.isVisibleResult(this, visibilityContext).createConsent();
     }
 
+    @Override
+    public Consent isVisible(
+            final ManagedObject target,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where,
+            final Predicate<? super InteractionAdvisorFacet> advisorFilter) {
+
+        var visibilityContext = createVisibleInteractionContext(target, interactionInitiatedBy, where);
+        return InteractionUtils.isVisibleResult(this, visibilityContext, advisorFilter).createConsent();
+    }
+
     // -- Disabled (or enabled)
     /**
      * Create an {@link InteractionContext} to represent an attempt to
@@ -249,6 +262,17 @@ public Consent isUsable(
         return InteractionUtils.isUsableResult(this, usabilityContext).createConsent();
     }
 
+    @Override
+    public Consent isUsable(
+            final ManagedObject target,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where,
+            final Predicate<? super InteractionAdvisorFacet> advisorFilter) {
+
+        var usabilityContext = createUsableInteractionContext(target, interactionInitiatedBy, where);
+        return InteractionUtils.isUsableResult(this, usabilityContext, advisorFilter).createConsent();
+    }
+
     // -- PREDICATES
 
     @Override
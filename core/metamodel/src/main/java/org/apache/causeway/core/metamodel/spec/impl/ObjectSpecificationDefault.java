@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.spec.impl;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -49,8 +51,6 @@
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.collections._Maps;
-import org.apache.causeway.commons.internal.collections._Multimaps;
-import org.apache.causeway.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.collections._Streams;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -59,7 +59,6 @@
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
 import org.apache.causeway.commons.internal.reflection._Reflect;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
-import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
 import org.apache.causeway.core.metamodel.consent.Consent;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.consent.InteractionResult;
@@ -101,6 +100,8 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutorRegistry;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.core.metamodel.spec.ActionScope;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
@@ -110,8 +111,6 @@
 import org.apache.causeway.core.metamodel.spi.EntityTitleSubscriber;
 import org.apache.causeway.core.metamodel.util.Facets;
 
-import static org.apache.causeway.commons.internal.base._NullSafe.stream;
-
 import lombok.Getter;
 import org.jspecify.annotations.NonNull;
 import lombok.extern.log4j.Log4j2;
@@ -316,14 +315,20 @@ public Optional<ObjectAction> getDeclaredAction(
 
         introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
 
-        return _Strings.isEmpty(id)
-            ? Optional.empty()
-            : streamDeclaredActions(actionScopes, mixedIn)
-                .filter(action->
-                    id.equals(action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString())
-                            || id.equals(action.getFeatureIdentifier().memberLogicalName())
-                )
-                .findFirst();
+        if(_Strings.isEmpty(id)) {
+            return Optional.empty();
+        }
+
+        mixedInActionAdder.trigger(this::createMixedInActionsAndResort);
+
+        var actionIndexByScope = this.actionIndexByScope;
+        for (var actionScope : actionScopes) {
+            var action = actionIndexByScope.get(actionScope).lookup(id, mixedIn);
+            if(action.isPresent()) {
+                return action;
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -467,26 +472,20 @@ public Can<ObjectSpecification> snapshot() {
 
     // -- ASSOCIATIONS
 
-    private final List<ObjectAssociation> associations = _Lists.newArrayList();
-
-    // defensive immutable lazy copy of associations
-    private final _Lazy<Can<ObjectAssociation>> unmodifiableAssociations =
-            _Lazy.threadSafe(()->Can.ofCollection(associations));
+    // immutable, replaced as a whole (under lock) in replaceAssociations(), hence lock-free to read
+    private volatile _MemberIndex<ObjectAssociation> associationIndex = _MemberIndex.empty();
 
     // -- ACTIONS
 
-    private final List<ObjectAction> objectActions = _Lists.newArrayList();
-
     /** not API, used for validation */
     @Getter private final Set<ResolvedMethod> potentialOrphans = _Sets.newHashSet();
 
-    // defensive immutable lazy copy of objectActions
-    private final _Lazy<Can<ObjectAction>> unmodifiableActions =
-            _Lazy.threadSafe(()->Can.ofCollection(objectActions));
+    // partitions actions by scope; immutable, replaced as a whole (under lock) in replaceActions(),
+    // hence lock-free to read
+    private volatile Map<ActionScope, _MemberIndex<ObjectAction>> actionIndexByScope =
+            indexActionsByScope(List.of());
 
-    // partitions and caches objectActions by type; updated in sortCacheAndUpdateActions()
-    private final ListMultimap<ActionScope, ObjectAction> objectActionsByType =
-            _Multimaps.newConcurrentListMultimap();
+    private final Object memberIndexLock = new Object();
 
     // -- INTERFACES
 
@@ -670,31 +669,34 @@ private void updateSubclasses(final ObjectSpecification subclass) {
 
     protected final void replaceAssociations(final Stream<ObjectAssociation> associations) {
         var orderedAssociations = _MemberSortingUtils.sortAssociationsIntoList(associations);
-        synchronized (unmodifiableAssociations) {
-            this.associations.clear();
-            this.associations.addAll(orderedAssociations);
-            unmodifiableAssociations.clear(); // invalidate
+        synchronized (memberIndexLock) {
+            this.associationIndex = _MemberIndex.of(orderedAssociations,
+                    association->Stream.of(association.getId()));
         }
     }
 
     protected final void replaceActions(final Stream<ObjectAction> objectActions) {
         var orderedActions = _MemberSortingUtils.sortActionsIntoList(objectActions);
-        synchronized (unmodifiableActions){
-            this.objectActions.clear();
-            this.objectActions.addAll(orderedActions);
-            unmodifiableActions.clear(); // invalidate
-
-            // rebuild objectActionsByType multi-map
-            for (var actionType : ActionScope.values()) {
-                var objectActionForType = objectActionsByType.getOrElseNew(actionType);
-                objectActionForType.clear();
-                orderedActions.stream()
-                .filter(ObjectAction.Predicates.ofActionType(actionType))
-                .forEach(objectActionForType::add);
-            }
+        synchronized (memberIndexLock) {
+            this.actionIndexByScope = indexActionsByScope(orderedActions);
         }
     }
 
+    private static Map<ActionScope, _MemberIndex<ObjectAction>> indexActionsByScope(
+            final List<ObjectAction> orderedActions) {
+        var actionIndexByScope = new EnumMap<ActionScope, _MemberIndex<ObjectAction>>(ActionScope.class);
+        for (var actionScope : ActionScope.values()) {
+            actionIndexByScope.put(actionScope, _MemberIndex.of(
+                    orderedActions.stream()
+                        .filter(ObjectAction.Predicates.ofActionType(actionScope))
+                        .toList(),
+                    action->Stream.of(
+                            action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString(),
+                            action.getFeatureIdentifier().memberLogicalName())));
+        }
+        return Collections.unmodifiableMap(actionIndexByScope);
+    }
+
     void invalidateCachedFacets() {
         this.valueFacet = getFacet(ValueFacet.class);
         this.titleFacet = lookupNonFallbackFacet(TitleFacet.class).orElse(null);
@@ -743,7 +745,8 @@ public final Optional<ViewModelFacet> viewmodelFacet() {
     @Override
     public String getTitle(final TitleRenderRequest titleRenderRequest) {
         if (titleFacet != null) {
-            var titleString = titleFacet.title(titleRenderRequest);
+            var titleString = getInstrumentationService().observe(Point.TITLE, getLogicalTypeName(), null,
+                    ()->titleFacet.title(titleRenderRequest));
             if (!_Strings.isEmpty(titleString)) {
                 notifySubscribersIfEntity(titleRenderRequest, titleString);
                 return titleString;
@@ -779,8 +782,10 @@ public String getIconName(final ManagedObject domainObject) {
 
     @Override
     public ObjectIcon getIcon(final ManagedObject domainObject) {
-        var iconNameModifier = getIconName(domainObject);
-        return getObjectIconService().getObjectIcon(this, iconNameModifier);
+        return getInstrumentationService().observe(Point.ICON, getLogicalTypeName(), null, ()->{
+            var iconNameModifier = getIconName(domainObject);
+            return getObjectIconService().getObjectIcon(this, iconNameModifier);
+        });
     }
 
     @Override
@@ -993,10 +998,7 @@ public Stream<ObjectAssociation> streamDeclaredAssociations(final MixedIn mixedI
 
         mixedInAssociationAdder.trigger(this::createMixedInAssociationsAndResort); // only if not already
 
-        synchronized(unmodifiableAssociations) {
-            return stream(unmodifiableAssociations.get())
-                    .filter(mixedIn.toFilter());
-        }
+        return associationIndex.stream(mixedIn);
     }
 
     @Override
@@ -1026,9 +1028,9 @@ public Optional<ObjectAssociation> getDeclaredAssociation(final String id, final
             return Optional.empty();
         }
 
-        return streamDeclaredAssociations(mixedIn)
-                .filter(objectAssociation->objectAssociation.getId().equals(id))
-                .findFirst();
+        mixedInAssociationAdder.trigger(this::createMixedInAssociationsAndResort); // only if not already
+
+        return associationIndex.lookup(id, mixedIn);
     }
 
     @Override
@@ -1045,9 +1047,9 @@ public Stream<ObjectAction> streamDeclaredActions(
 
         mixedInActionAdder.trigger(this::createMixedInActionsAndResort);
 
+        var actionIndexByScope = this.actionIndexByScope;
         return actionScopes.stream()
-                .flatMap(actionScope->stream(objectActionsByType.get(actionScope)))
-                .filter(mixedIn.toFilter());
+                .flatMap(actionScope->actionIndexByScope.get(actionScope).stream(mixedIn));
     }
 
     // -- mixin associations (properties and collections)
@@ -1058,7 +1060,7 @@ private Stream<ObjectAssociation> createMixedInAssociations() {
         if (isInjectable() || isValue()) {
             return Stream.empty();
         }
-        return getCausewayBeanTypeRegistry().streamMixinTypes()
+        return specLoaderInternal().streamMixinTypesFor(getCorrespondingClass())
                 .flatMap(this::createMixedInAssociation);
     }
 
@@ -1092,7 +1094,7 @@ private Stream<ObjectAssociation> createMixedInAssociation(final Class<?> mixinT
      * Creates all mixed in actions for this spec.
      */
     private Stream<ObjectActionMixedIn> createMixedInActions() {
-        return getCausewayBeanTypeRegistry().streamMixinTypes()
+        return specLoaderInternal().streamMixinTypesFor(getCorrespondingClass())
             .flatMap(this::createMixedInAction);
     }
 
@@ -1209,7 +1211,9 @@ private void createMixedInActionsAndResort() {
            return; // nothing to do (this spec has no mixed-in actions, regular actions have already been added)
         }
 
-        var regularActions = _Lists.newArrayList(objectActions); // defensive copy
+        var regularActions = actionIndexByScope.values().stream()
+                .flatMap(actionIndex->actionIndex.stream(MixedIn.INCLUDED))
+                .collect(Collectors.toList());
 
         // note: we are doing this before any member sorting
         _MemberIdClashReporting.flagAnyMemberIdClashes(this, regularActions, mixedInActions);
@@ -1232,7 +1236,7 @@ private void createMixedInAssociationsAndResort() {
            return; // nothing to do (this spec has no mixed-in associations, regular associations have already been added)
         }
 
-        var regularAssociations = _Lists.newArrayList(associations); // defensive copy
+        var regularAssociations = associationIndex.members(MixedIn.INCLUDED).toList();
 
         // note: we are doing this before any member sorting
         _MemberIdClashReporting.flagAnyMemberIdClashes(this, regularAssociations, mixedInAssociations);
@@ -1242,13 +1246,13 @@ private void createMixedInAssociationsAndResort() {
                 mixedInAssociations.stream()));
     }
 
-    @Getter(lazy = true)
-    private final CausewayBeanTypeRegistry causewayBeanTypeRegistry =
-        getServiceRegistry()
-                .lookupServiceElseFail(CausewayBeanTypeRegistry.class);
-
     @Getter(lazy = true)
     private final Can<EntityTitleSubscriber> titleSubscribers =
         getServiceRegistry().select(EntityTitleSubscriber.class);
 
+    @Getter(lazy = true)
+    private final InstrumentationService instrumentationService =
+        getServiceRegistry().lookupService(InstrumentationService.class)
+            .orElse(InstrumentationService.NOOP);
+
 }
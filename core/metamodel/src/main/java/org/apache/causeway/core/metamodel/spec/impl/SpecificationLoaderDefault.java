@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.spec.impl;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,8 +30,10 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
@@ -41,6 +44,7 @@
 import jakarta.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
 import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
@@ -53,10 +57,10 @@
 import org.apache.causeway.applib.value.semantics.ValueSemanticsResolver;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
-import org.apache.causeway.commons.internal.base._Blackhole;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.commons.internal.context._Context;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
@@ -131,6 +135,7 @@
 
     private final Map<Class<?>, ObjectSpecificationMutable> cache = new ConcurrentHashMap<>();
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolver();
+    private final AtomicLong reloadCount = new AtomicLong();
 
     /**
      * We only ever mark the meta-model as fully introspected if in {@link #isFullIntrospect() full}
@@ -284,8 +289,20 @@ public void createMetaModel() {
             introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
         }
 
-        log.info(" - running remaining validators");
-        _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+        var validationSnapshot = validationSnapshot().orElse(null);
+        if(validationSnapshot!=null
+                && validationSnapshot.isUpToDate()) {
+            log.info(" - skipping validators, metamodel unchanged since last passed validation ({})",
+                    validationSnapshot.file());
+            validationResult.set(validationFailures); // only those (if any) added during introspection
+        } else {
+            log.info(" - running remaining validators");
+            var failures = getOrAssessValidationResult(); // as a side effect memoizes the validation result
+            if(validationSnapshot!=null
+                    && !failures.hasFailures()) {
+                validationSnapshot.write();
+            }
+        }
 
         stopWatch.stop();
         log.info("Metamodel created in {}ms. ({} introspection)", stopWatch.getMillis(), parallel ? "parallel" : "sequential");
@@ -310,6 +327,7 @@ public void disposeMetaModel() {
         waitForValidationToFinish();
         logicalTypeResolver.clear();
         cache.clear();
+        mixinIndex.clear();
         validationResult.clear();
         serviceRegistry.clearRegisteredBeans();
         log.info("Metamodel disposed.");
@@ -354,6 +372,12 @@ private boolean isFullIntrospect() {
     public void reloadSpecification(final Class<?> domainType) {
         invalidateCache(domainType);
         loadSpecification(domainType, IntrospectionState.FULLY_INTROSPECTED);
+        reloadCount.incrementAndGet();
+    }
+
+    @Override
+    public long getReloadCount() {
+        return reloadCount.get();
     }
 
     @Override
@@ -384,6 +408,18 @@ public ObjectSpecification loadSpecification(
         return loadSpecificationNullable(type, this::classify, upTo);
     }
 
+    private final _Lazy<_MixinIndex> mixinIndex =
+            _Lazy.threadSafe(this::createMixinIndex);
+
+    @Override
+    public Stream<Class<?>> streamMixinTypesFor(final @NonNull Class<?> mixeeType) {
+        return mixinIndex.get().candidatesFor(mixeeType).stream();
+    }
+
+    private _MixinIndex createMixinIndex() {
+        return new _MixinIndex(causewayBeanTypeRegistry.streamMixinTypes());
+    }
+
     @Override
     public void validateLater(final ObjectSpecification objectSpec) {
         if(!isMetamodelFullyIntrospected()) {
@@ -489,6 +525,45 @@ public void addValidationFailure(final ValidationFailure validationFailure) {
     private final AtomicBoolean validationInProgress = new AtomicBoolean(false);
     private final BlockingQueue<ObjectSpecification> validationQueue = new LinkedBlockingQueue<>();
 
+    private Optional<_ValidationSnapshot> validationSnapshot() {
+        var metaModelConfig = causewayConfiguration.getCore().getMetaModel();
+        return Optional.ofNullable(metaModelConfig.getValidator().getSnapshotDirectory())
+            .map(Path::of)
+            .map(directory->_ValidationSnapshot.of(
+                    directory,
+                    validationRelevantConfiguration(),
+                    Stream.of(
+                            snapshotSpecifications().stream()
+                                .<Class<?>>map(ObjectSpecification::getCorrespondingClass),
+                            programmingModel.streamFactories()
+                                .<Class<?>>map(Object::getClass),
+                            programmingModel.streamValidators()
+                                .<Class<?>>map(Object::getClass))
+                        .flatMap(Function.identity()),
+                    _Context.getDefaultClassLoader(),
+                    Stream.ofNullable(causewayConfiguration.getViewer().getCommon().getApplication().getMenubarsLayoutFile())
+                        .map(menubarsLayoutFile->new ClassPathResource(menubarsLayoutFile).getPath()))); // as resolved by MenuBarsLoaderService
+    }
+
+    /**
+     * All explicitly configured {@code causeway.*} properties (the applib's included, as for example
+     * {@code causeway.applib.annotation.*} affect introspection), plus the applib and metamodel configuration
+     * as defaulted.
+     */
+    private String validationRelevantConfiguration() {
+        var rootPrefix = CausewayConfiguration.ROOT_PREFIX + ".";
+        var configuredProperties = causewayConfiguration.streamConfigurationPropertyNames()
+                .filter(name->name.startsWith(rootPrefix))
+                .distinct()
+                .sorted()
+                .map(name->name + "=" + causewayConfiguration.valueOf(name).orElse(""))
+                .collect(Collectors.joining("\n"));
+        return String.join("\n",
+                configuredProperties,
+                causewayConfiguration.getApplib().toString(),
+                causewayConfiguration.getCore().getMetaModel().toString());
+    }
+
     private ValidationFailures runMetaModelValidators() {
         validationInProgress.set(true);
         _ValidateUtil.runValidators(programmingModel, this);
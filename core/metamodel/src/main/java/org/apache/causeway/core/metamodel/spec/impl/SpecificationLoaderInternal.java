@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.spec.impl;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import jakarta.inject.Named;
 
@@ -48,6 +49,12 @@ interface SpecificationLoaderInternal extends SpecificationLoader {
      */
     @Nullable
     ObjectSpecification loadSpecification(@Nullable Class<?> domainType, @NonNull IntrospectionState upTo);
+
+    /**
+     * Mixin types that potentially contribute members to given mixee type,
+     * to be verified by their {@link org.apache.causeway.core.metamodel.facets.object.mixin.MixinFacet}.
+     */
+    Stream<Class<?>> streamMixinTypesFor(@NonNull Class<?> mixeeType);
     
     // -- SUPPORT FOR LOOKUP BY LOGICAL TYPE NAME
 
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+/**
+ * Immutable index of (ordered) members, partitioned by {@link MixedIn} variant and keyed by member id,
+ * such that once published (via a volatile field), lookups require neither locking nor a linear scan.
+ *
+ * <p>
+ * A member may be keyed by more than one id. If ids clash, the first member (in order) wins,
+ * same as with a linear search.
+ */
+record _MemberIndex<T extends ObjectMember>(
+        Map<MixedIn, Can<T>> membersByMixedIn,
+        Map<MixedIn, Map<String, T>> membersById) {
+
+    static <T extends ObjectMember> _MemberIndex<T> empty() {
+        return of(List.of(), member->Stream.empty());
+    }
+
+    static <T extends ObjectMember> _MemberIndex<T> of(
+            final List<T> orderedMembers,
+            final Function<T, Stream<String>> idsOf) {
+        var membersByMixedIn = new EnumMap<MixedIn, Can<T>>(MixedIn.class);
+        var membersById = new EnumMap<MixedIn, Map<String, T>>(MixedIn.class);
+        for (var mixedIn : MixedIn.values()) {
+            var members = Can.ofCollection(orderedMembers).filter(mixedIn.toFilter());
+            var byId = new HashMap<String, T>(members.size() * 2);
+            members.forEach(member->
+                idsOf.apply(member).forEach(id->byId.putIfAbsent(id, member)));
+            membersByMixedIn.put(mixedIn, members);
+            membersById.put(mixedIn, Collections.unmodifiableMap(byId));
+        }
+        return new _MemberIndex<>(
+                Collections.unmodifiableMap(membersByMixedIn),
+                Collections.unmodifiableMap(membersById));
+    }
+
+    Can<T> members(final MixedIn mixedIn) {
+        return membersByMixedIn.get(mixedIn);
+    }
+
+    Stream<T> stream(final MixedIn mixedIn) {
+        return members(mixedIn).stream();
+    }
+
+    Optional<T> lookup(final String id, final MixedIn mixedIn) {
+        return Optional.ofNullable(membersById.get(mixedIn).get(id));
+    }
+
+}
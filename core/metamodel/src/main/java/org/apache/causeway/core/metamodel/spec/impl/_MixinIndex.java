@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MixinConstructor;
+
+/**
+ * Index of mixin types by the mixee type they declare (by convention the type of the single argument of
+ * their public constructor), such that resolving the mixins of a given type only has to visit the
+ * mixins declared for that type, its supertypes and interfaces, rather than all mixins.
+ *
+ * <p>
+ * Mixins not following the constructor convention are not indexed (they cannot contribute any members anyway).
+ * Candidates are returned in the order the mixin types were given, and are to be verified by their
+ * {@link org.apache.causeway.core.metamodel.facets.object.mixin.MixinFacet#isMixinFor(Class)}.
+ */
+final class _MixinIndex {
+
+    /** mixin types, along with their ordinal, by declared mixee type */
+    private final Map<Class<?>, Map<Integer, Class<?>>> mixinTypesByMixeeType = new HashMap<>();
+    private final Can<Class<?>> allMixinTypes;
+
+    private final Map<Class<?>, Can<Class<?>>> candidatesByMixeeType = new ConcurrentHashMap<>();
+
+    _MixinIndex(final Stream<Class<?>> mixinTypes) {
+        this.allMixinTypes = Can.ofStream(mixinTypes);
+        int ordinal = 0;
+        for (var mixinType : allMixinTypes) {
+            final int mixinOrdinal = ordinal++;
+            MixinConstructor.PUBLIC_SINGLE_ARG_RECEIVING_MIXEE
+                .getConstructors(mixinType)
+                .getSingleton() // no mixin facet if cardinality!=1
+                .ifPresent(constructor->
+                    mixinTypesByMixeeType
+                        .computeIfAbsent(constructor.getParameterTypes()[0], __->new TreeMap<>())
+                        .put(mixinOrdinal, mixinType));
+        }
+    }
+
+    /**
+     * Mixin types that potentially contribute to given mixee type.
+     */
+    Can<Class<?>> candidatesFor(final Class<?> mixeeType) {
+        if(mixeeType.isArray()) {
+            return allMixinTypes; // covariance of arrays is not reflected by its supertypes
+        }
+        return candidatesByMixeeType.computeIfAbsent(mixeeType, this::lookupCandidates);
+    }
+
+    // -- HELPER
+
+    private Can<Class<?>> lookupCandidates(final Class<?> mixeeType) {
+        var candidatesByOrdinal = new TreeMap<Integer, Class<?>>();
+        for (var type : typeHierarchy(mixeeType)) {
+            var mixinTypes = mixinTypesByMixeeType.get(type);
+            if(mixinTypes != null) {
+                candidatesByOrdinal.putAll(mixinTypes);
+            }
+        }
+        return Can.ofCollection(candidatesByOrdinal.values());
+    }
+
+    /**
+     * Given type, its superclasses and all of its interfaces, and {@link Object}
+     * (as any interface type is assignable to {@link Object}).
+     */
+    private static List<Class<?>> typeHierarchy(final Class<?> type) {
+        var types = new ArrayList<Class<?>>();
+        var visited = new HashSet<Class<?>>();
+        collectTypeHierarchy(type, types, visited);
+        if(!type.isPrimitive()
+                && visited.add(Object.class)) {
+            types.add(Object.class);
+        }
+        return types;
+    }
+
+    private static void collectTypeHierarchy(
+            final Class<?> type,
+            final List<Class<?>> types,
+            final Set<Class<?>> visited) {
+        if(type == null
+                || !visited.add(type)) {
+            return;
+        }
+        types.add(type);
+        collectTypeHierarchy(type.getSuperclass(), types, visited);
+        for (var interfaceType : type.getInterfaces()) {
+            collectTypeHierarchy(interfaceType, types, visited);
+        }
+    }
+
+}
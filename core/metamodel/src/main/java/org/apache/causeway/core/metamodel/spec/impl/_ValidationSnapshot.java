@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fingerprint of the metamodel, as it was at the time of its last validation that passed without failures.
+ *
+ * <p>
+ * The fingerprint is a digest over the bytecode of the introspected types and those of the programming model
+ * (facet factories and validators), and the {@code causeway.*} configuration.
+ * Types loaded by the bootstrap class-loader (JDK) only contribute their name.
+ *
+ * <p>
+ * Also digested are those (non-class) resources that sit next to a type under a fixed name
+ * (its {@link #SIBLING_RESOURCE_SUFFIXES layout and column order files}), and given other resources
+ * (such as the menubars layout).  Resources that cannot be enumerated by name, such as named layouts
+ * ({@code Xxx-name.layout.xml}) or column orders per collection ({@code Xxx#coll.columnOrder.txt}), are not.
+ */
+@Log4j2
+record _ValidationSnapshot(
+        Path file,
+        String fingerprint) {
+
+    static final String FILE_NAME = "metamodel-validation.sha256";
+
+    static final List<String> SIBLING_RESOURCE_SUFFIXES = List.of(
+            ".layout.xml",
+            ".layout.fallback.xml",
+            ".columnOrder.txt",
+            ".columnOrder.fallback.txt");
+
+    static _ValidationSnapshot of(
+            final Path directory,
+            final String configuration,
+            final Stream<Class<?>> types,
+            final ClassLoader classLoader,
+            final Stream<String> resourceNames) {
+        return new _ValidationSnapshot(directory.resolve(FILE_NAME),
+                fingerprint(configuration, types, classLoader, resourceNames));
+    }
+
+    /**
+     * Whether the fingerprint was written before, when validation passed.
+     */
+    boolean isUpToDate() {
+        if(!Files.isRegularFile(file)) return false;
+        try {
+            return fingerprint.equals(Files.readString(file, StandardCharsets.UTF_8).strip());
+        } catch (IOException e) {
+            log.warn("failed to read metamodel validation snapshot {}", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * To be called only after validation passed without failures.
+     */
+    void write() {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, fingerprint, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("failed to write metamodel validation snapshot {}", file, e);
+        }
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static String fingerprint(
+            final String configuration,
+            final Stream<Class<?>> types,
+            final ClassLoader classLoader,
+            final Stream<String> resourceNames) {
+        var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(Runtime.version().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+        types
+            .distinct()
+            .sorted(Comparator.comparing(Class::getName)) // introspection order is not deterministic
+            .forEach(type->digestType(digest, type));
+        resourceNames
+            .distinct()
+            .sorted()
+            .forEach(resourceName->digestResource(digest, classLoader, resourceName));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void digestType(final MessageDigest digest, final Class<?> type) {
+        digest.update(type.getName().getBytes(StandardCharsets.UTF_8));
+        var classLoader = type.getClassLoader();
+        if(type.isPrimitive()
+                || type.isArray()
+                || classLoader == null) {
+            return;
+        }
+        var resourceNamePrefix = type.getName().replace('.', '/');
+        digestResource(digest, classLoader, resourceNamePrefix + ".class");
+        if(type.isMemberClass()
+                || type.isAnonymousClass()
+                || type.isLocalClass()) {
+            return; // layouts are looked up by simple name, which such types don't share with their resources
+        }
+        SIBLING_RESOURCE_SUFFIXES
+            .forEach(suffix->digestResource(digest, classLoader, resourceNamePrefix + suffix));
+    }
+
+    /**
+     * Contributes the resource's name along with its content, if present.
+     */
+    private static void digestResource(
+            final MessageDigest digest,
+            final ClassLoader classLoader,
+            final String resourceName) {
+        try(var in = classLoader.getResourceAsStream(resourceName)) {
+            if(in != null) {
+                digest.update(resourceName.getBytes(StandardCharsets.UTF_8));
+                digest.update(in.readAllBytes());
+            }
+        } catch (IOException e) {
+            // name only then (as for types generated at runtime), or not at all
+        }
+    }
+
+}
@@ -104,6 +104,12 @@ public interface SpecificationLoader {
 
     void reloadSpecification(Class<?> domainType);
 
+    /**
+     * Incremented each time a specification is {@link #reloadSpecification(Class) reloaded}, so that
+     * artifacts derived from the metamodel can be cached until it changes.
+     */
+    long getReloadCount();
+
     Optional<BeanSort> lookupBeanSort(final @Nullable LogicalType logicalType);
 
     /**
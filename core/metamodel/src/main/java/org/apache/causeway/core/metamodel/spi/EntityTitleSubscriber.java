@@ -28,4 +28,12 @@ public interface EntityTitleSubscriber {
      */
     void entityTitleIs(Bookmark bookmark, String title);
 
+    /**
+     * Called when the entity is about to be updated or deleted,
+     * such that any previously reported title can be discarded.
+     *
+     * @param bookmark
+     */
+    default void entityTitleInvalidated(final Bookmark bookmark) {}
+
 }
@@ -20,6 +20,7 @@
 
 import java.io.Serializable;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
@@ -109,6 +110,14 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
 
     int getPageSize(int pageSizeDefault);
 
+    /**
+     * Page window of {@link #dataRowsFilteredAndSortedObservable()}.
+     * <p>
+     * Unless a search argument or a sort order is in effect, rows are picked by index,
+     * without having to filter and sort all rows first.
+     */
+    Iterator<DataRow> dataRowsFilteredAndSortedPage(int skip, int limit);
+
     // -- SORTING
 
     Bindable<ColumnSort> columnSortBindable();
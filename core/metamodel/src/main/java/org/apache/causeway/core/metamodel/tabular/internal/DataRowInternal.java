@@ -19,12 +19,14 @@
 package org.apache.causeway.core.metamodel.tabular.internal;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Bindables.BooleanBindable;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
@@ -41,18 +43,28 @@ record DataRowInternal(
     ManagedObject rowElement,
     BooleanBindable selectToggleBindable,
     DataTableInternal parentTable,
-    Optional<CollectionFilterService.Tokens> filterTokens
+    _Lazy<Optional<CollectionFilterService.Tokens>> filterTokensLazy
     ) implements DataRow {
 
+    /**
+     * @param filterTokensSupplier invoked at most once and only when filtering is actually requested,
+     *      such that tables that are never searched don't pay for tokenizing every row element
+     */
     DataRowInternal(
             final int rowIndex,
             final @NonNull DataTableInternal parentTable,
             final @NonNull ManagedObject rowElement,
-            final CollectionFilterService.@Nullable Tokens filterTokens) {
-        this(rowIndex, rowElement, _Bindables.forBoolean(false), parentTable, Optional.ofNullable(filterTokens));
+            final @NonNull Supplier<CollectionFilterService.@Nullable Tokens> filterTokensSupplier) {
+        this(rowIndex, rowElement, _Bindables.forBoolean(false), parentTable,
+                _Lazy.of(()->Optional.ofNullable(filterTokensSupplier.get())));
         selectToggleBindable.addListener((event, old, neW)->parentTable.handleRowSelectToggle());
     }
 
+    @Override
+    public Optional<CollectionFilterService.Tokens> filterTokens() {
+        return filterTokensLazy.get();
+    }
+
     @Override
     public Optional<DataColumn> lookupColumnById(final @NonNull String columnId) {
         return parentTable.dataColumnsObservable().getValue().stream()
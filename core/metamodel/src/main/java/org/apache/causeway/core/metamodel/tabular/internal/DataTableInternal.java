@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.tabular.internal;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,6 +36,7 @@
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.IndexedFunction;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
@@ -154,7 +156,7 @@ private DataTableInternal(
 
         this.dataRowsObservable = _Observables.lazy(()->
             dataElementsObservable.getValue().stream()
-                .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
+                .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, ()->tokens(element))))
                 .collect(Can.toCan()));
 
         this.dataRowsFilteredAndSortedObservable = _Observables.lazy(()->
@@ -218,7 +220,18 @@ public int getVisibleElementCount() {
      */
     @Override
     public int getFilteredElementCount() {
-        return dataRowsFilteredAndSortedObservable.getValue().size();
+        return isSearchActive()
+                ? dataRowsFilteredAndSortedObservable.getValue().size()
+                : getVisibleElementCount();
+    }
+
+    @Override
+    public Iterator<DataRow> dataRowsFilteredAndSortedPage(final int skip, final int limit) {
+        // neither filter nor sort in effect: page by index, leaving remaining rows untouched
+        return isSearchActive()
+                || sortingComparator().isPresent()
+                ? dataRowsFilteredAndSortedObservable.getValue().iterator(skip, limit)
+                : dataRowsObservable.getValue().iterator(skip, limit);
     }
 
     @Override
@@ -244,8 +257,13 @@ public String getSearchPromptPlaceholderText() {
                 .orElse("");
     }
 
+    private boolean isSearchActive() {
+        return filterHandler.isPresent()
+                && _Strings.isNotEmpty(searchArgumentBindable.getValue());
+    }
+
     private Predicate<DataRow> adaptSearchPredicate() {
-        return filterHandler.isEmpty()
+        return !isSearchActive()
                 ? dataRow->true
                 : dataRow->filterHandler.get().getDataRowFilter()
                     .test(dataRow, searchArgumentBindable.getValue());
@@ -0,0 +1,67 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityStreamsTest {
+
+    @Test
+    void clears_before_advancing_past_each_interval() {
+        var events = new ArrayList<String>();
+        var stream = _EntityStreams.clearingPeriodically(
+                IntStream.rangeClosed(1, 7).boxed().peek(i->events.add("load " + i)),
+                3,
+                ()->events.add("clear"));
+
+        stream.forEach(i->events.add("use " + i));
+
+        assertEquals(List.of(
+                "load 1", "use 1", "load 2", "use 2", "load 3", "use 3",
+                "clear",
+                "load 4", "use 4", "load 5", "use 5", "load 6", "use 6",
+                "clear",
+                "load 7", "use 7"),
+                events);
+    }
+
+    @Test
+    void closing_closes_underlying_stream() {
+        var closed = new AtomicBoolean();
+        var stream = _EntityStreams.clearingPeriodically(
+                IntStream.rangeClosed(1, 3).boxed().onClose(()->closed.set(true)),
+                2,
+                ()->{});
+
+        try(stream) {
+            stream.findFirst();
+        }
+
+        assertTrue(closed.get());
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.MixedInMember;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+class MemberIndexTest {
+
+    private final OneToOneAssociation name = member(OneToOneAssociation.class, "name");
+    private final OneToOneAssociation nameClash = member(OneToOneAssociation.class, "name");
+    private final MixedInProperty age = member(MixedInProperty.class, "age");
+
+    private final _MemberIndex<OneToOneAssociation> index = _MemberIndex.of(
+            List.of(name, age, nameClash),
+            member->Stream.of(member.getId()));
+
+    @Test
+    void lookup_byMixedInVariant() {
+        assertThat(index.lookup("name", MixedIn.INCLUDED).orElseThrow(), is(name));
+        assertThat(index.lookup("age", MixedIn.INCLUDED).orElseThrow(), is(age));
+        assertThat(index.lookup("age", MixedIn.EXCLUDED).isPresent(), is(false));
+        assertThat(index.lookup("name", MixedIn.ONLY).isPresent(), is(false));
+        assertThat(index.lookup("unknown", MixedIn.INCLUDED).isPresent(), is(false));
+    }
+
+    @Test
+    void stream_preservesOrder() {
+        assertThat(index.stream(MixedIn.INCLUDED).toList(), contains(name, age, nameClash));
+        assertThat(index.stream(MixedIn.EXCLUDED).toList(), contains(name, nameClash));
+        assertThat(index.stream(MixedIn.ONLY).toList(), contains(age));
+    }
+
+    @Test
+    void empty() {
+        var empty = _MemberIndex.<ObjectMember>empty();
+        assertThat(empty.stream(MixedIn.INCLUDED).count(), is(0L));
+        assertThat(empty.lookup("name", MixedIn.INCLUDED).isPresent(), is(false));
+    }
+
+    // -- HELPER
+
+    interface MixedInProperty extends OneToOneAssociation, MixedInMember {}
+
+    private static <T extends ObjectMember> T member(final Class<T> type, final String id) {
+        var member = mock(type);
+        when(member.getId()).thenReturn(id);
+        return member;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+class MixinIndexTest {
+
+    interface Named {}
+    public static class Customer implements Named {}
+    public static class VipCustomer extends Customer {}
+    public static class Order {}
+
+    public static class Object_inspect { public Object_inspect(final Object mixee) {} }
+    public static class Named_rename { public Named_rename(final Named mixee) {} }
+    public static class Customer_placeOrder { public Customer_placeOrder(final Customer mixee) {} }
+    public static class VipCustomer_upgrade { public VipCustomer_upgrade(final VipCustomer mixee) {} }
+    public static class NotAMixin { public NotAMixin(final Customer a, final Order b) {} }
+
+    private final _MixinIndex mixinIndex = new _MixinIndex(Stream.of(
+            VipCustomer_upgrade.class,
+            Customer_placeOrder.class,
+            NotAMixin.class,
+            Named_rename.class,
+            Object_inspect.class));
+
+    @Test
+    void candidates_honorSupertypesAndInterfaces_inGivenOrder() {
+        assertThat(mixinIndex.candidatesFor(VipCustomer.class).toList(), contains(
+                VipCustomer_upgrade.class, Customer_placeOrder.class, Named_rename.class, Object_inspect.class));
+        assertThat(mixinIndex.candidatesFor(Customer.class).toList(), contains(
+                Customer_placeOrder.class, Named_rename.class, Object_inspect.class));
+        assertThat(mixinIndex.candidatesFor(Order.class).toList(), contains(
+                Object_inspect.class));
+        assertThat(mixinIndex.candidatesFor(Named.class).toList(), contains(
+                Named_rename.class, Object_inspect.class));
+    }
+
+    @Test
+    void noCandidates_forPrimitives() {
+        assertThat(mixinIndex.candidatesFor(int.class).toList(), empty());
+    }
+
+}
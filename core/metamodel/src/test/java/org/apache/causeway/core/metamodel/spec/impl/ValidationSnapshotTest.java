@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spec.impl;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationSnapshotTest {
+
+    @TempDir Path directory;
+
+    @Test
+    void upToDate_onlyOnceWritten() {
+        var snapshot = snapshot("config", ValidationSnapshotTest.class, String.class);
+        assertFalse(snapshot.isUpToDate());
+
+        snapshot.write();
+
+        assertTrue(snapshot.isUpToDate());
+        assertTrue(snapshot("config", String.class, ValidationSnapshotTest.class).isUpToDate());
+    }
+
+    @Test
+    void notUpToDate_whenTypesOrConfigurationChanged() {
+        snapshot("config", ValidationSnapshotTest.class).write();
+
+        assertFalse(snapshot("config", ValidationSnapshotTest.class, Test.class).isUpToDate());
+        assertFalse(snapshot("other config", ValidationSnapshotTest.class).isUpToDate());
+    }
+
+    @Test
+    void fingerprint_ignoresDuplicateTypes() {
+        assertEquals(
+                snapshot("config", ValidationSnapshotTest.class).fingerprint(),
+                snapshot("config", ValidationSnapshotTest.class, ValidationSnapshotTest.class).fingerprint());
+        assertNotEquals(
+                snapshot("config", ValidationSnapshotTest.class).fingerprint(),
+                snapshot("config", String.class).fingerprint());
+    }
+
+    @Test
+    void notUpToDate_whenResourceChanged() throws Exception {
+        var resources = Files.createDirectories(directory.resolve("resources"));
+        var menubars = resources.resolve("menubars.layout.xml");
+        Files.writeString(menubars, "<mb:menuBars/>");
+
+        try(var classLoader = new URLClassLoader(new URL[] {resources.toUri().toURL()}, null)) {
+            snapshot(classLoader, "menubars.layout.xml").write();
+            assertTrue(snapshot(classLoader, "menubars.layout.xml").isUpToDate());
+
+            Files.writeString(menubars, "<mb:menuBars><mb:primary/></mb:menuBars>");
+
+            assertFalse(snapshot(classLoader, "menubars.layout.xml").isUpToDate());
+        }
+    }
+
+    // -- HELPER
+
+    private _ValidationSnapshot snapshot(final String configuration, final Class<?>... types) {
+        return _ValidationSnapshot.of(directory, configuration, Stream.of(types),
+                ValidationSnapshotTest.class.getClassLoader(), Stream.empty());
+    }
+
+    private _ValidationSnapshot snapshot(final ClassLoader classLoader, final String... resourceNames) {
+        return _ValidationSnapshot.of(directory, "config", Stream.of(ValidationSnapshotTest.class),
+                classLoader, Stream.of(resourceNames));
+    }
+
+}
@@ -27,6 +27,7 @@
     exports org.apache.causeway.core.runtimeservices.homepage;
     exports org.apache.causeway.core.runtimeservices.i18n.po;
     exports org.apache.causeway.core.runtimeservices.icons;
+    exports org.apache.causeway.core.runtimeservices.instrumentation;
     exports org.apache.causeway.core.runtimeservices.interaction;
     exports org.apache.causeway.core.runtimeservices.jaxb;
     exports org.apache.causeway.core.runtimeservices.locale;
@@ -59,6 +60,7 @@
     requires java.desktop;
     requires java.sql;
     requires java.xml;
+    requires micrometer.observation;
     requires jakarta.xml.bind;
     requires jakarta.inject;
     requires static lombok;
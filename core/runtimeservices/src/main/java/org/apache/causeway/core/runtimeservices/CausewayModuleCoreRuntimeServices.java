@@ -40,6 +40,7 @@
 import org.apache.causeway.core.runtimeservices.i18n.po.TranslationServicePo;
 import org.apache.causeway.core.runtimeservices.i18n.po.TranslationServicePoMenu;
 import org.apache.causeway.core.runtimeservices.icons.ObjectIconServiceDefault;
+import org.apache.causeway.core.runtimeservices.instrumentation.InstrumentationServiceMicrometer;
 import org.apache.causeway.core.runtimeservices.interaction.InteractionDtoFactoryDefault;
 import org.apache.causeway.core.runtimeservices.jaxb.JaxbServiceDefault;
 import org.apache.causeway.core.runtimeservices.locale.LanguageProviderDefault;
@@ -49,6 +50,7 @@
 import org.apache.causeway.core.runtimeservices.menubars.bootstrap.MenuBarsServiceBootstrap;
 import org.apache.causeway.core.runtimeservices.message.MessageServiceDefault;
 import org.apache.causeway.core.runtimeservices.placeholder.PlaceholderRenderServiceDefault;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublisher;
 import org.apache.causeway.core.runtimeservices.publish.CommandPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityChangesPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityPropertyChangePublisherDefault;
@@ -80,6 +82,7 @@
         CausewayModuleCoreCodegenByteBuddy.class,
 
         // @Service's
+        AsyncPublisher.class,
         BookmarkServiceDefault.class,
         CommandDtoFactoryDefault.class,
         CommandExecutorServiceDefault.class,
@@ -96,6 +99,7 @@
         ImpersonateMenuAdvisorDefault.class,
         InteractionDtoFactoryDefault.class,
         InteractionIdGeneratorDefault.class,
+        InstrumentationServiceMicrometer.class,
         InteractionServiceDefault.class,
         JaxbServiceDefault.class,
         LanguageProviderDefault.class,
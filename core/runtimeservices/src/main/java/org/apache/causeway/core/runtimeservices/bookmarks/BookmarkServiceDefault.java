@@ -20,6 +20,7 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -103,6 +104,25 @@ public Optional<Object> lookup(final @Nullable Bookmark bookmark) {
         }
     }
 
+    @Override
+    public List<Optional<Object>> lookupAll(final @Nullable List<Bookmark> bookmarks) {
+        if(bookmarks==null
+                || bookmarks.isEmpty()) {
+            return List.of();
+        }
+        if(bookmarks.stream().anyMatch(Objects::isNull)) {
+            // Can does not hold nulls, so cannot preserve alignment on the bulk path
+            return BookmarkService.super.lookupAll(bookmarks);
+        }
+        try {
+            return mmc.getObjectManager().loadObjects(Can.ofCollection(bookmarks))
+                    .map(objectIfAny->objectIfAny.map(ManagedObject::getPojo))
+                    .toList();
+        } catch(ObjectNotFoundException ex) {
+            return BookmarkService.super.lookupAll(bookmarks);
+        }
+    }
+
     @Override
     public Optional<Bookmark> bookmarkFor(final @Nullable Object domainObject) {
         if(domainObject == null) {
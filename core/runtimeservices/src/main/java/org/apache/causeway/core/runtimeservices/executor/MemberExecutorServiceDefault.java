@@ -65,6 +65,8 @@
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.services.events.MetamodelEventService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.core.metamodel.services.ixn.InteractionDtoFactory;
 import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
@@ -107,6 +109,7 @@
     private final @Getter MetamodelEventService metamodelEventService;
     private final @Getter TransactionService transactionService;
     private final Provider<CommandPublisher> commandPublisherProvider;
+    private final InstrumentationService instrumentationService;
 
     private MetricsService metricsService() {
         return metricsServiceProvider.get();
@@ -152,6 +155,19 @@ private ManagedObject invokeActionInternally(
             return facetHolder.getObjectManager().adapt(resultPojo);
         }
 
+        return instrumentationService.observe(Point.ACTION_INVOCATION, owningAction.getFeatureIdentifier(),
+                ()->invokeActionObserved(actionExecutor));
+    }
+
+    private ManagedObject invokeActionObserved(
+            final ActionExecutor actionExecutor) {
+
+        final ObjectAction owningAction = actionExecutor.getOwningAction();
+        final InteractionHead head = actionExecutor.getHead();
+        final Can<ManagedObject> argumentAdapters = actionExecutor.getArguments();
+        final InteractionInitiatedBy interactionInitiatedBy = actionExecutor.getInteractionInitiatedBy();
+        final FacetHolder facetHolder = actionExecutor.getFacetHolder();
+
         var interaction = getInteractionElseFail();
 
         prepareCommandForPublishing(interaction.getCommand(), head, owningAction, facetHolder);
@@ -254,6 +270,16 @@ private ManagedObject setOrClearPropertyInternally(
             return domainObject;
         }
 
+        return instrumentationService.observe(Point.PROPERTY_EDIT, propertyModifier.getOwningProperty().getFeatureIdentifier(),
+                ()->setOrClearPropertyObserved(propertyModifier, interaction));
+    }
+
+    private ManagedObject setOrClearPropertyObserved(
+            final @NonNull PropertyModifier propertyModifier,
+            final @NonNull InteractionInternal interaction) {
+
+        final InteractionHead head = propertyModifier.getHead();
+        var command = interaction.getCommand();
         var owningProperty = propertyModifier.getOwningProperty();
 
         prepareCommandForPublishing(command, head, owningProperty, propertyModifier.getFacetHolder());
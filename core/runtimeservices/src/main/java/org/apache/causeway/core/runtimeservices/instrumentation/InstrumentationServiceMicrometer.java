@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.instrumentation;
+
+import java.util.Optional;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Default implementation of {@link InstrumentationService}, based on Micrometer's Observation API.
+ *
+ * <p>
+ * Each observation is reported to the {@link ObservationRegistry} provided by the application (if any),
+ * hence - depending on the handlers configured with that registry - as a timer to a Micrometer
+ * {@code MeterRegistry} and/or as a span to a tracer (eg. OpenTelemetry, by means of a Micrometer tracing bridge).
+ * Observations are scoped, such that nested observations become child spans.
+ *
+ * <p>
+ * If disabled, or if there is no such registry, starting an observation returns a shared no-op.
+ *
+ * @since 3.x {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".InstrumentationServiceMicrometer")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+public class InstrumentationServiceMicrometer implements InstrumentationService {
+
+    static final String TAG_LOGICAL_TYPE = "causeway.logical-type";
+    static final String TAG_MEMBER_ID = "causeway.member-id";
+
+    private final @Nullable ObservationRegistry observationRegistry;
+
+    @Inject
+    public InstrumentationServiceMicrometer(
+            final CausewayConfiguration causewayConfiguration,
+            final Optional<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = causewayConfiguration.getCore().getRuntimeServices().getInstrumentation().isEnabled()
+                ? observationRegistry.orElse(null)
+                : null;
+    }
+
+    @Override
+    public Observation start(
+            final @NonNull Point point,
+            final @Nullable String logicalTypeName,
+            final @Nullable String memberId) {
+        if(observationRegistry == null
+                || observationRegistry.isNoop()) { // no handlers registered
+            return Observation.NOOP;
+        }
+        var observation = io.micrometer.observation.Observation
+                .createNotStarted(point.getObservationName(), observationRegistry);
+        if(logicalTypeName != null) {
+            observation.lowCardinalityKeyValue(TAG_LOGICAL_TYPE, logicalTypeName);
+        }
+        if(memberId != null) {
+            observation.lowCardinalityKeyValue(TAG_MEMBER_ID, memberId);
+        }
+        observation.start();
+        return new ScopedObservation(observation, observation.openScope());
+    }
+
+    // -- HELPER
+
+    private record ScopedObservation(
+            io.micrometer.observation.Observation observation,
+            io.micrometer.observation.Observation.Scope scope) implements Observation {
+
+        @Override
+        public void error(final @NonNull Throwable cause) {
+            observation.error(cause);
+        }
+
+        @Override
+        public void close() {
+            scope.close();
+            observation.stop();
+        }
+    }
+
+}
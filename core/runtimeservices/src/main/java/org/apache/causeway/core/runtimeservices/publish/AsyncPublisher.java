@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.publishing.spi.AsyncSafeSubscriber;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Delivers published events to subscribers, either synchronously or - for those that are
+ * {@link AsyncSafeSubscriber async-safe}, if async publishing is enabled - through a bounded per-subscriber
+ * queue, drained in order by a dedicated worker thread.
+ *
+ * <p>
+ *     Used by the {@link ExecutionPublisherDefault}, {@link EntityChangesPublisherDefault} and
+ *     {@link EntityPropertyChangePublisherDefault}.
+ * </p>
+ *
+ * @since 3.x {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".AsyncPublisher")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Default")
+public class AsyncPublisher {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Snapshot of the state of the queue of an async subscriber.
+     *
+     * @param lag - how long the oldest pending event has been waiting for delivery
+     */
+    public record QueueMetrics(
+            String subscriberName,
+            int queueDepth,
+            Duration lag,
+            long deliveredCount,
+            long droppedCount,
+            long failedCount) {
+    }
+
+    private final CausewayConfiguration.Core.RuntimeServices.AsyncPublishing config;
+    private final Map<Object, _AsyncSubscriberQueue> queuesBySubscriber = new ConcurrentHashMap<>();
+    private volatile boolean shutdown;
+
+    @Inject
+    public AsyncPublisher(final CausewayConfiguration causewayConfiguration) {
+        this.config = causewayConfiguration.getCore().getRuntimeServices().getAsyncPublishing();
+    }
+
+    /**
+     * Whether events for given subscriber are delivered asynchronously.
+     */
+    public boolean isAsync(final @NonNull Object subscriber) {
+        return config.isEnabled()
+                && subscriber instanceof AsyncSafeSubscriber asyncSafeSubscriber
+                && asyncSafeSubscriber.isAsyncSafe();
+    }
+
+    /**
+     * Delivers an event to given {@code subscriber}, by means of given {@code delivery},
+     * asynchronously if {@link #isAsync(Object)}, otherwise synchronously.
+     */
+    public <S> void publish(final @NonNull S subscriber, final @NonNull Consumer<S> delivery) {
+        if(!isAsync(subscriber)
+                || shutdown) {
+            delivery.accept(subscriber);
+            return;
+        }
+        queuesBySubscriber
+            .computeIfAbsent(subscriber, this::startQueue)
+            .submit(()->delivery.accept(subscriber));
+    }
+
+    /**
+     * Metrics of the queues of all async subscribers that have been published to so far.
+     */
+    public Can<QueueMetrics> getQueueMetrics() {
+        return Can.ofCollection(queuesBySubscriber.values())
+                .map(queue->new QueueMetrics(
+                        queue.getSubscriberName(),
+                        queue.getQueueDepth(),
+                        queue.getLag(),
+                        queue.getDeliveredCount(),
+                        queue.getDroppedCount(),
+                        queue.getFailedCount()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdown = true;
+        queuesBySubscriber.values()
+            .forEach(queue->queue.shutdown(SHUTDOWN_TIMEOUT));
+    }
+
+    // -- HELPER
+
+    private _AsyncSubscriberQueue startQueue(final Object subscriber) {
+        return _AsyncSubscriberQueue.start(
+                subscriber.getClass().getSimpleName(),
+                config.getQueueCapacity(),
+                config.getBackPressure());
+    }
+
+}
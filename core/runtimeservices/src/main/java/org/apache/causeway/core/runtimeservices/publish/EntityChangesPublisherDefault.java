@@ -61,6 +61,7 @@ public class EntityChangesPublisherDefault implements EntityChangesPublisher {
     private final ClockService clockService;
     private final UserService userService;
     private final InteractionLayerTracker iaTracker;
+    private final AsyncPublisher asyncPublisher;
 
     private Can<EntityChangesSubscriber> enabledSubscribers = Can.empty();
 
@@ -82,7 +83,7 @@ public void publishChangingEntities(HasEnlistedEntityChanges hasEnlistedEntityCh
 
         payload.ifPresent(entityChanges->{
             for (var subscriber : enabledSubscribers) {
-                subscriber.onChanging(entityChanges);
+                asyncPublisher.publish(subscriber, s->s.onChanging(entityChanges));
             }
         });
 
@@ -71,6 +71,7 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
     private final CausewayConfiguration causewayConfiguration;
+    private final AsyncPublisher asyncPublisher;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
 
@@ -122,12 +123,12 @@ public void publishChangedProperties() {
             if (uniquePropertyChanges.size() <= causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk().getThreshold()) {
                 uniquePropertyChanges.forEach(propertyChange -> {
                     for (var subscriber : enabledSubscribers) {
-                        subscriber.onChanging(propertyChange);
+                        asyncPublisher.publish(subscriber, s->s.onChanging(propertyChange));
                     }
                 });
             } else {
                 for (var subscriber : enabledSubscribers) {
-                    subscriber.onChanging(uniquePropertyChanges);
+                    asyncPublisher.publish(subscriber, s->s.onChanging(uniquePropertyChanges));
                 }
             }
         } finally {
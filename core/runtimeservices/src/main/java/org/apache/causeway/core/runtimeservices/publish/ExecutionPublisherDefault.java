@@ -59,6 +59,7 @@
 
     private final List<ExecutionSubscriber> subscribers;
     private final InteractionLayerTracker iaTracker;
+    private final AsyncPublisher asyncPublisher;
 
     private Can<ExecutionSubscriber> enabledSubscribers = Can.empty();
     /**
@@ -109,7 +110,7 @@ private void notifySubscribers(final Execution<?,?> execution) {
 
         if(canPublish()) {
             for (var subscriber : enabledSubscribers) {
-                subscriber.onExecution(execution);
+                asyncPublisher.publish(subscriber, s->s.onExecution(execution));
             }
         }
 
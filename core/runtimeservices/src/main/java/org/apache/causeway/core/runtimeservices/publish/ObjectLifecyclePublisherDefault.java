@@ -33,11 +33,13 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.annotation.TransactionScope;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.Either;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.spi.EntityTitleSubscriber;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 
@@ -62,6 +64,7 @@ public class ObjectLifecyclePublisherDefault implements ObjectLifecyclePublisher
     private final Provider<EntityChangeTracker> entityChangeTrackerProvider;
     private final Provider<LifecycleCallbackNotifier> lifecycleCallbackNotifierProvider;
     private final Provider<InteractionService> interactionServiceProvider;
+    private final Provider<ServiceRegistry> serviceRegistryProvider;
 
     @Override
     public void onPostCreate(final ManagedObject entity) {
@@ -93,6 +96,7 @@ public void onPreUpdate(
             final @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
         entityChangeTracker()
             .ifPresent(entityChangeTracker->entityChangeTracker.enlistUpdating(entity, propertyChangeRecordSupplier));
+        invalidateTitle(entity);
         lifecycleCallbackNotifier().preUpdate(entity);
     }
 
@@ -105,6 +109,7 @@ public void onPostUpdate(final ManagedObject entity) {
     public void onPreRemove(final ManagedObject entity) {
         entityChangeTracker()
             .ifPresent(entityChangeTracker->entityChangeTracker.enlistDeleting(entity));
+        invalidateTitle(entity);
         lifecycleCallbackNotifier().preRemove(entity);
     }
 
@@ -120,6 +125,13 @@ private Optional<EntityChangeTracker> entityChangeTracker() {
                 : Optional.empty();
     }
 
+    private void invalidateTitle(final ManagedObject entity) {
+        var titleSubscribers = serviceRegistryProvider.get().select(EntityTitleSubscriber.class);
+        if(titleSubscribers.isEmpty()) return;
+        entity.getBookmark()
+            .ifPresent(bookmark->titleSubscribers.forEach(subscriber->subscriber.entityTitleInvalidated(bookmark)));
+    }
+
     private LifecycleCallbackNotifier lifecycleCallbackNotifier() {
         return lifecycleCallbackNotifierProvider.get();
     }
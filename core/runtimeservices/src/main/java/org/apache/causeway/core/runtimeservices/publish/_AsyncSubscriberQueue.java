@@ -0,0 +1,183 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.AsyncPublishing.BackPressurePolicy;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded queue of events pending delivery to a single async subscriber,
+ * drained in order (of submission) by a dedicated worker thread.
+ */
+@Log4j2
+final class _AsyncSubscriberQueue {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private record Event(Runnable delivery, long submittedAtNanos) {
+    }
+
+    @Getter private final String subscriberName;
+    private final BackPressurePolicy backPressure;
+    private final BlockingQueue<Event> queue;
+    private final Thread worker;
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private volatile boolean shutdownRequested;
+
+    static _AsyncSubscriberQueue start(
+            final String subscriberName,
+            final int capacity,
+            final BackPressurePolicy backPressure) {
+        var asyncSubscriberQueue = new _AsyncSubscriberQueue(subscriberName, capacity, backPressure);
+        asyncSubscriberQueue.worker.start();
+        return asyncSubscriberQueue;
+    }
+
+    private _AsyncSubscriberQueue(
+            final String subscriberName,
+            final int capacity,
+            final BackPressurePolicy backPressure) {
+        this.subscriberName = subscriberName;
+        this.backPressure = backPressure;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::drain, "causeway-async-publishing-" + subscriberName);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Queues given {@code delivery}, unless the queue is full, in which case the {@link BackPressurePolicy} applies.
+     * Once shut down, delivers synchronously.
+     */
+    void submit(final Runnable delivery) {
+        var event = new Event(delivery, System.nanoTime());
+        if(shutdownRequested) {
+            deliver(event);
+            return;
+        }
+        switch (backPressure) {
+        case BLOCK:
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped();
+            }
+            return;
+        case DROP:
+            if(!queue.offer(event)) {
+                dropped();
+            }
+            return;
+        case CALLER_RUNS:
+            if(!queue.offer(event)) {
+                deliver(event);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Stops accepting events for async delivery, then waits (up to given {@code timeout}) for the worker
+     * to deliver those still pending. Any events not delivered by then are dropped.
+     */
+    void shutdown(final Duration timeout) {
+        shutdownRequested = true;
+        try {
+            worker.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(worker.isAlive()) {
+            worker.interrupt();
+        }
+        while(queue.poll() != null) {
+            dropped();
+        }
+    }
+
+    // -- METRICS
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * How long the oldest pending event has been waiting for delivery.
+     */
+    Duration getLag() {
+        var oldest = queue.peek();
+        return oldest != null
+                ? Duration.ofNanos(Math.max(0L, System.nanoTime() - oldest.submittedAtNanos()))
+                : Duration.ZERO;
+    }
+
+    long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    // -- HELPER
+
+    private void drain() {
+        while(!shutdownRequested
+                || !queue.isEmpty()) {
+            try {
+                var event = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if(event != null) {
+                    deliver(event);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void deliver(final Event event) {
+        try {
+            event.delivery().run();
+            deliveredCount.increment();
+        } catch (Exception e) {
+            failedCount.increment();
+            log.error("failed to deliver event to async subscriber {}", subscriberName, e);
+        }
+    }
+
+    private void dropped() {
+        droppedCount.increment();
+        log.warn("dropped event for async subscriber {}, queue depth {}", subscriberName, queue.size());
+    }
+
+}
@@ -21,7 +21,6 @@
 import java.io.File;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -60,6 +59,8 @@
 import org.apache.causeway.core.interaction.scope.InteractionScopeBeanFactoryPostProcessor;
 import org.apache.causeway.core.interaction.scope.InteractionScopeLifecycleHandler;
 import org.apache.causeway.core.interaction.session.CausewayInteraction;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.runtime.events.MetamodelEventService;
@@ -74,7 +75,8 @@
 /**
  * Default implementation of {@link InteractionService}, keeping track of the current {@link Interaction}
  *
- * @implNote holds a reference to the current session using a thread-local
+ * @implNote holds a reference to the current session using a thread-local,
+ * referencing an immutable stack of interaction layers (or {@code null} if not in an interaction)
  *
  * @since 2.0 {@index}
  */
@@ -91,7 +93,7 @@
     // TODO: reading the javadoc for TransactionSynchronizationManager and looking at the implementations
     //  of TransactionSynchronization (in particular SpringSessionSynchronization), I suspect that this
     //  ThreadLocal would be considered bad practice and instead should be managed using the TransactionSynchronization mechanism.
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    final ThreadLocal<_InteractionLayers> interactionLayerStack = new ThreadLocal<>();
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -105,6 +107,7 @@
     final TransactionServiceSpring transactionServiceSpring;
 
     final InteractionIdGenerator interactionIdGenerator;
+    final InstrumentationService instrumentationService;
 
     @Inject
     public InteractionServiceDefault(
@@ -115,7 +118,8 @@ public InteractionServiceDefault(
             final ClockService clockService,
             final Provider<CommandPublisher> commandPublisherProvider,
             final ConfigurableBeanFactory beanFactory,
-            final InteractionIdGenerator interactionIdGenerator) {
+            final InteractionIdGenerator interactionIdGenerator,
+            final InstrumentationService instrumentationService) {
         this.runtimeEventService = runtimeEventService;
         this.specificationLoader = specificationLoader;
         this.serviceInjector = serviceInjector;
@@ -124,6 +128,7 @@ public InteractionServiceDefault(
         this.commandPublisherProvider = commandPublisherProvider;
         this.beanFactory = beanFactory;
         this.interactionIdGenerator = interactionIdGenerator;
+        this.instrumentationService = instrumentationService;
 
         this.interactionScopeLifecycleHandler = InteractionScopeBeanFactoryPostProcessor.lookupScope(beanFactory);
     }
@@ -166,7 +171,7 @@ public void init(final ContextRefreshedEvent event) {
 
     @Override
     public int getInteractionLayerCount() {
-        return interactionLayerStack.get().size();
+        return _InteractionLayers.size(interactionLayerStack.get());
     }
 
     @Override
@@ -191,12 +196,13 @@ public InteractionLayer openInteraction(
 
         if(reuseCurrentLayer) {
             // we are done, just return the stack's top
-            return interactionLayerStack.get().peek();
+            return interactionLayerStack.get().top();
         }
 
         var interactionLayer = new InteractionLayer(causewayInteraction, interactionContextToUse);
 
-        interactionLayerStack.get().push(interactionLayer);
+        interactionLayerStack.set(_InteractionLayers.push(interactionLayerStack.get(), interactionLayer,
+                instrumentationService.start(Point.INTERACTION_LAYER, null, null)));
 
         if(isAtTopLevel()) {
             transactionServiceSpring.onOpen(causewayInteraction);
@@ -206,7 +212,7 @@ public InteractionLayer openInteraction(
         if(log.isDebugEnabled()) {
             log.debug("new interaction layer created (interactionId={}, total-layers-on-stack={}, {})",
                     currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                    interactionLayerStack.get().size(),
+                    getInteractionLayerCount(),
                     _Probe.currentThreadId());
         }
 
@@ -219,17 +225,17 @@ public InteractionLayer openInteraction(
 
     private CausewayInteraction getOrCreateCausewayInteraction() {
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
-        return interactionLayers.isEmpty()
+        var interactionLayers = interactionLayerStack.get();
+        return interactionLayers == null
     			? new CausewayInteraction(interactionIdGenerator.interactionId())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(interactionLayers.bottom().getInteraction());
     }
 
     @Override
     public void closeInteractionLayers() {
         log.debug("about to close the interaction stack (interactionId={}, total-layers-on-stack={}, {})",
                 currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                interactionLayerStack.get().size(),
+                getInteractionLayerCount(),
                 _Probe.currentThreadId());
 
         //
@@ -241,15 +247,13 @@ public void closeInteractionLayers() {
 
 	@Override
     public Optional<InteractionLayer> currentInteractionLayer() {
-    	var stack = interactionLayerStack.get();
-    	return stack.isEmpty()
-    	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+    	return Optional.ofNullable(interactionLayerStack.get())
+    	        .map(_InteractionLayers::top);
     }
 
     @Override
     public boolean isInInteraction() {
-        return !interactionLayerStack.get().isEmpty();
+        return interactionLayerStack.get() != null;
     }
 
     // -- AUTHENTICATED EXECUTION
@@ -260,7 +264,7 @@ public <R> R call(
             final @NonNull InteractionContext interactionContext,
             final @NonNull Callable<R> callable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = getInteractionLayerCount();
         openInteraction(interactionContext);
         try {
             return callInternal(callable);
@@ -281,7 +285,7 @@ public void run(
             final @NonNull InteractionContext interactionContext,
             final @NonNull ThrowingRunnable runnable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = getInteractionLayerCount();
         openInteraction(interactionContext);
         try {
             runInternal(runnable);
@@ -353,8 +357,8 @@ private void runInternal(final @NonNull ThrowingRunnable runnable) {
     }
 
     private void requestRollback(final Throwable cause) {
-        var stack = interactionLayerStack.get();
-        if(stack.isEmpty()) {
+        var interactionLayers = interactionLayerStack.get();
+        if(interactionLayers == null) {
             // seeing this code-path, when the corresponding runnable/callable
             // by itself causes the interaction stack to be closed
             log.warn("unexpected state: missing interaction (layer) on interaction rollback; "
@@ -363,12 +367,12 @@ private void requestRollback(final Throwable cause) {
                     cause.getMessage());
             return;
         }
-        var interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.get(0).getInteraction());
+        var interaction = _Casts.<CausewayInteraction>uncheckedCast(interactionLayers.bottom().getInteraction());
         transactionServiceSpring.requestRollback(interaction);
     }
 
     private boolean isAtTopLevel() {
-    	return interactionLayerStack.get().size()==1;
+    	return getInteractionLayerCount()==1;
     }
 
     @SneakyThrows
@@ -437,25 +441,33 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
         log.debug("about to close interaction stack down to size {} (interactionId={}, total-layers-on-stack={}, {})",
                 downToStackSize,
                 currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                interactionLayerStack.get().size(),
+                getInteractionLayerCount(),
                 _Probe.currentThreadId());
 
-        var stack = interactionLayerStack.get();
         try {
-            while(stack.size()>downToStackSize) {
+            while(getInteractionLayerCount()>downToStackSize) {
+                var interactionLayers = interactionLayerStack.get();
                 if(isAtTopLevel()) {
                     // keep the stack unmodified yet, to allow for callbacks to properly operate
 
-                    preInteractionClosed(_Casts.uncheckedCast(stack.peek().getInteraction()));
+                    preInteractionClosed(_Casts.uncheckedCast(interactionLayers.top().getInteraction()));
+                }
+                _Xray.closeInteractionLayer(interactionLayers);
+                interactionLayers.observation().close();
+                if(interactionLayers.below() != null) {
+                    interactionLayerStack.set(interactionLayers.below());
+                } else {
+                    interactionLayerStack.remove();
                 }
-                _Xray.closeInteractionLayer(stack);
-                stack.pop();
             }
         } finally {
             // preInteractionClosed above could conceivably throw an exception, so we'll tidy up our threadlocal
             // here to ensure everything is cleaned up
             if(downToStackSize == 0) {
-                // cleanup thread-local
+                // stop any observations still open, then cleanup thread-local
+                for(var layers = interactionLayerStack.get(); layers != null; layers = layers.below()) {
+                    layers.observation().close();
+                }
                 interactionLayerStack.remove();
             }
         }
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Observation;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Immutable (persistent) stack of {@link InteractionLayer}s, each instance representing the stack with
+ * given {@link #top()} layer on top of the stack {@link #below()}.
+ *
+ * <p>
+ * Pushing and popping replaces the (thread-local) reference to the stack, rather than mutating it, hence
+ * requires no locking (unlike {@link java.util.Stack}, which is synchronized) and never pins a virtual thread
+ * to its carrier. Threads not within an interaction hold no stack at all ({@code null}).
+ *
+ * <p>
+ * Each entry also holds the {@link Observation} of its top layer, to be closed when popped.
+ */
+record _InteractionLayers(
+        @NonNull InteractionLayer top,
+        @NonNull Observation observation,
+        @Nullable _InteractionLayers below,
+        @NonNull InteractionLayer bottom,
+        int size) {
+
+    static _InteractionLayers push(
+            final @Nullable _InteractionLayers layers,
+            final @NonNull InteractionLayer layer,
+            final @NonNull Observation observation) {
+        return layers == null
+                ? new _InteractionLayers(layer, observation, null, layer, 1)
+                : new _InteractionLayers(layer, observation, layers, layers.bottom(), layers.size() + 1);
+    }
+
+    static int size(final @Nullable _InteractionLayers layers) {
+        return layers == null
+                ? 0
+                : layers.size();
+    }
+
+}
@@ -18,9 +18,6 @@
  */
 package org.apache.causeway.core.runtimeservices.session;
 
-import java.util.Stack;
-
-import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
 import org.apache.causeway.commons.internal.debug._XrayEvent;
 import org.apache.causeway.commons.internal.debug.xray.XrayDataModel;
 import org.apache.causeway.commons.internal.debug.xray.XrayModel.ThreadMemento;
@@ -30,7 +27,7 @@
 //@Log4j2
 final class _Xray {
 
-    static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
+    static void newInteractionLayer(final _InteractionLayers afterEnter) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
@@ -38,8 +35,8 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
         // make defensive copies, so can use in another thread
         final int authStackSize = afterEnter.size();
-        var interactionId = afterEnter.peek().getInteraction().getInteractionId();
-        var executionContext = afterEnter.peek().getInteractionContext();
+        var interactionId = afterEnter.top().getInteraction().getInteractionId();
+        var executionContext = afterEnter.top().getInteractionContext();
 
         _XrayEvent.interactionOpen("open interaction %s", interactionId);
 
@@ -86,14 +83,14 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
     }
 
-    public static void closeInteractionLayer(final Stack<InteractionLayer> beforeClose) {
+    public static void closeInteractionLayer(final _InteractionLayers beforeClose) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
         }
 
         final int authStackSize = beforeClose.size();
-        var interactionId = beforeClose.peek().getInteraction().getInteractionId();
+        var interactionId = beforeClose.top().getInteraction().getInteractionId();
         var sequenceId = XrayUtil.sequenceId(interactionId);
 
         _XrayEvent.interactionClose("close interaction %s", interactionId);
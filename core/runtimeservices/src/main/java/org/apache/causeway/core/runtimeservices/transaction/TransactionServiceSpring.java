@@ -55,6 +55,8 @@
 import org.apache.causeway.commons.internal.debug._Probe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.interaction.session.CausewayInteraction;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
 import org.apache.causeway.core.transaction.events.TransactionCompletionStatus;
@@ -87,13 +89,15 @@
     private final Provider<InteractionLayerTracker> interactionLayerTrackerProvider;
     private final Can<PersistenceExceptionTranslator> persistenceExceptionTranslators;
     private final ConfigurableListableBeanFactory configurableListableBeanFactory;
+    private final InstrumentationService instrumentationService;
 
     @Inject
     public TransactionServiceSpring(
             final List<PlatformTransactionManager> platformTransactionManagers,
             final List<PersistenceExceptionTranslator> persistenceExceptionTranslators,
             final Provider<InteractionLayerTracker> interactionLayerTrackerProvider,
-            final ConfigurableListableBeanFactory configurableListableBeanFactory
+            final ConfigurableListableBeanFactory configurableListableBeanFactory,
+            final InstrumentationService instrumentationService
     ) {
 
         this.platformTransactionManagers = Can.ofCollection(platformTransactionManagers);
@@ -105,6 +109,7 @@ public TransactionServiceSpring(
         log.info("PersistenceExceptionTranslators: {}", persistenceExceptionTranslators);
 
         this.interactionLayerTrackerProvider = interactionLayerTrackerProvider;
+        this.instrumentationService = instrumentationService;
     }
 
     // -- API
@@ -137,7 +142,7 @@ public <T> Try<T> callTransactional(final TransactionDefinition def, final Calla
                 // setRollbackOnly.
                 platformTransactionManager.rollback(txStatus);
             } else {
-                platformTransactionManager.commit(txStatus);
+                commit(platformTransactionManager, txStatus);
             }
         } catch (Exception ex) {
 
@@ -168,6 +173,21 @@ private void registerTransactionSynchronizations(final TransactionStatus txStatu
         }
     }
 
+    /**
+     * Commits given transaction, observing only the ones actually committed, that is, not those
+     * participating in an outer transaction.
+     */
+    private void commit(final PlatformTransactionManager txManager, final TransactionStatus txStatus) {
+        if(!txStatus.isNewTransaction()) {
+            txManager.commit(txStatus);
+            return;
+        }
+        instrumentationService.observe(Point.TRANSACTION_COMMIT, null, null, ()->{
+            txManager.commit(txStatus);
+            return null;
+        });
+    }
+
 //    @Override
 //    public void nextTransaction() {
 //
@@ -389,7 +409,7 @@ public void onOpen(final @NonNull CausewayInteraction interaction) {
                                 txManager.rollback(txStatus);
                                 event = TransactionCompletionStatus.ROLLED_BACK;
                             } else {
-                                txManager.commit(txStatus);
+                                commit(txManager, txStatus);
                                 event = TransactionCompletionStatus.COMMITTED;
                             }
                             _Xray.txAfterCompletion(interactionLayerTrackerProvider.get(), String.format("tx: afterCompletion (%s)", event.name()));
@@ -38,6 +38,7 @@
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
@@ -59,6 +60,7 @@
 import org.apache.causeway.applib.services.wrapper.WrappingObject;
 import org.apache.causeway.applib.services.wrapper.callable.AsyncCallable;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
+import org.apache.causeway.applib.services.wrapper.control.BatchControl;
 import org.apache.causeway.applib.services.wrapper.control.ExecutionMode;
 import org.apache.causeway.applib.services.wrapper.control.SyncControl;
 import org.apache.causeway.applib.services.wrapper.events.ActionArgumentEvent;
@@ -79,12 +81,14 @@
 import org.apache.causeway.applib.services.wrapper.listeners.InteractionListener;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.collections.ImmutableEnumSet;
+import org.apache.causeway.commons.functional.IndexedFunction;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryService;
 import org.apache.causeway.commons.internal.reflection._GenericResolver;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutorPolicy;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MixinConstructor;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
@@ -92,6 +96,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.services.command.CommandDtoFactory;
+import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.metamodel.spec.feature.MixedInMember;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
@@ -100,6 +105,7 @@
 import org.apache.causeway.core.runtimeservices.session.InteractionIdGenerator;
 import org.apache.causeway.core.runtimeservices.wrapper.dispatchers.InteractionEventDispatcher;
 import org.apache.causeway.core.runtimeservices.wrapper.dispatchers.InteractionEventDispatcherTypeSafe;
+import org.apache.causeway.core.runtimeservices.wrapper.handlers.BatchRules;
 import org.apache.causeway.core.runtimeservices.wrapper.handlers.DomainObjectInvocationHandler;
 import org.apache.causeway.core.runtimeservices.wrapper.handlers.ProxyContextHandler;
 import org.apache.causeway.core.runtimeservices.wrapper.proxy.ProxyCreator;
@@ -111,6 +117,7 @@
 import lombok.Getter;
 import org.jspecify.annotations.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Default implementation of {@link WrapperFactory}.
@@ -121,6 +128,7 @@
 @Named(WrapperFactoryDefault.LOGICAL_TYPE_NAME)
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
+@Log4j2
 public class WrapperFactoryDefault
 implements WrapperFactory, HasMetaModelContext {
 
@@ -145,6 +153,18 @@
     private ProxyContextHandler proxyContextHandler;
 
     private ExecutorService commonExecutorService;
+    private final _AsyncTaskTracker asyncTaskTracker = new _AsyncTaskTracker();
+
+    /**
+     * Snapshot of the number of async tasks (submitted using the {@link AsyncControl}),
+     * that are queued (including those held back by a {@link AsyncControl#withMaxConcurrency(int) concurrency limit}),
+     * running and completed (successfully or not).
+     */
+    public record AsyncTaskMetrics(
+            long queuedCount,
+            long runningCount,
+            long completedCount) {
+    }
 
     @PostConstruct
     public void init() {
@@ -190,6 +210,13 @@ public <T> T wrap(
     public <T> T wrap(
             final @NonNull T domainObject,
             final @NonNull SyncControl syncControl) {
+        return wrap(domainObject, syncControl, null);
+    }
+
+    private <T> T wrap(
+            final @NonNull T domainObject,
+            final @NonNull SyncControl syncControl,
+            final @Nullable BatchRules batchRules) {
 
         var spec = getSpecificationLoader().specForTypeElseFail(domainObject.getClass());
         if(spec.isMixin()) {
@@ -204,9 +231,13 @@ public <T> T wrap(
                 return domainObject;
             }
             var underlyingDomainObject = wrapperObject.__causeway_wrapped();
-            return _Casts.uncheckedCast(createProxy(underlyingDomainObject, syncControl));
+            return _Casts.uncheckedCast(batchRules == null
+                    ? createProxy(underlyingDomainObject, syncControl)
+                    : createProxy(underlyingDomainObject, syncControl, batchRules));
         }
-        return createProxy(domainObject, syncControl);
+        return batchRules == null
+                ? createProxy(domainObject, syncControl) // honor overrides of the protected extension point
+                : createProxy(domainObject, syncControl, batchRules);
     }
 
     private static boolean equivalent(final ImmutableEnumSet<ExecutionMode> first, final ImmutableEnumSet<ExecutionMode> second) {
@@ -252,8 +283,12 @@ public <T> T wrapMixin(
     }
 
     protected <T> T createProxy(final T domainObject, final SyncControl syncControl) {
+        return createProxy(domainObject, syncControl, null);
+    }
+
+    private <T> T createProxy(final T domainObject, final SyncControl syncControl, final @Nullable BatchRules batchRules) {
         var objAdapter = adaptAndGuardAgainstWrappingNotSupported(domainObject);
-        return proxyContextHandler.proxy(domainObject, objAdapter, syncControl);
+        return proxyContextHandler.proxy(domainObject, objAdapter, syncControl, batchRules);
     }
 
     protected <T> T createMixinProxy(final Object mixee, final T mixin, final SyncControl syncControl) {
@@ -276,6 +311,89 @@ public <T> T unwrap(final T possibleWrappedDomainObject) {
         return possibleWrappedDomainObject;
     }
 
+    // -- BATCH WRAPPING
+
+    @Override
+    public <T, R> List<R> wrapBatch(
+            final @NonNull List<T> domainObjects,
+            final @NonNull IndexedFunction<T, R> invocation,
+            final @NonNull BatchControl batchControl) {
+
+        getInteractionService().currentInteractionElseFail(); // all invocations share the current interaction
+
+        var syncControl = batchControl.asSyncControl();
+        var batchRules = new BatchRules(); // shared by all (chunks of) the batch
+        var results = new ArrayList<R>(domainObjects.size());
+        var chunkSize = batchControl.getChunkSize();
+        if(chunkSize <= 0) {
+            invokeBatch(domainObjects, 0, invocation, syncControl, batchRules, batchControl, results);
+        } else {
+            for (int from = 0; from < domainObjects.size(); from += chunkSize) {
+                var chunk = domainObjects.subList(from, Math.min(domainObjects.size(), from + chunkSize));
+                var offset = from;
+                transactionServiceProvider.get()
+                    .runTransactional(Propagation.REQUIRES_NEW, ()->
+                        invokeBatch(attachedToCurrentTransaction(chunk), offset, invocation, syncControl, batchRules,
+                                batchControl, results))
+                    .ifFailureFail();
+            }
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private <T, R> void invokeBatch(
+            final List<T> domainObjects,
+            final int offset,
+            final IndexedFunction<T, R> invocation,
+            final SyncControl syncControl,
+            final BatchRules batchRules,
+            final BatchControl batchControl,
+            final List<R> results) {
+
+        Runnable batch = ()->{
+            for (int i = 0; i < domainObjects.size(); i++) {
+                var wrapped = wrap(domainObjects.get(i), syncControl, batchRules);
+                results.add(invocation.apply(offset + i, wrapped));
+            }
+        };
+        if(batchControl.isExecutionPublishing()) {
+            batch.run();
+        } else {
+            lookupServiceElseFail(ExecutionPublisher.class)
+                .withPublishingSuppressed(()->{
+                    batch.run();
+                    return null;
+                });
+        }
+    }
+
+    /**
+     * Entities are retrieved afresh (in bulk), such that they are attached to the current transaction.
+     */
+    private <T> List<T> attachedToCurrentTransaction(final List<T> domainObjects) {
+        var entityIndexes = new ArrayList<Integer>();
+        var entityBookmarks = new ArrayList<Bookmark>();
+        for (int i = 0; i < domainObjects.size(); i++) {
+            var adapter = getObjectManager().adapt(unwrap(domainObjects.get(i)));
+            if(adapter.getSpecification().isEntity()) {
+                entityIndexes.add(i);
+                entityBookmarks.add(ManagedObjects.bookmarkElseFail(adapter));
+            }
+        }
+        if(entityBookmarks.isEmpty()) {
+            return domainObjects;
+        }
+        var entities = bookmarkServiceProvider.get().lookupAll(entityBookmarks);
+        var attached = new ArrayList<T>(domainObjects);
+        for (int j = 0; j < entityIndexes.size(); j++) {
+            var bookmark = entityBookmarks.get(j);
+            var entity = entities.get(j)
+                    .orElseThrow(()->_Exceptions.noSuchElement("entity not found: %s", bookmark));
+            attached.set(entityIndexes.get(j), _Casts.uncheckedCast(entity));
+        }
+        return attached;
+    }
+
     // -- ASYNC WRAPPING
 
     @Override
@@ -372,6 +490,13 @@ public <T, R> T asyncWrapMixin(
         }, new Object[]{ mixee });
     }
 
+    /**
+     * Metrics of the async tasks submitted so far.
+     */
+    public AsyncTaskMetrics getAsyncTaskMetrics() {
+        return asyncTaskTracker.metrics();
+    }
+
     private boolean isInheritedFromJavaLangObject(final Method method) {
         return method.getDeclaringClass().equals(Object.class);
     }
@@ -417,17 +542,41 @@ private <R> Object submitAsync(
         asyncControl.setMethod(method);
         asyncControl.setBookmark(Bookmark.forOidDto(oidDto));
 
-        var executorService = Optional.ofNullable(asyncControl.getExecutorService())
+        var customExecutorService = asyncControl.getExecutorService();
+        var maxConcurrency = asyncControl.getMaxConcurrency();
+        if(customExecutorService == null
+                && maxConcurrency > 0) {
+            // the tracker submits (and tracks) the task once within the concurrency limit
+            var asyncTask = getServiceInjector().injectServicesInto(new AsyncTask<R>(
+                    asyncInteractionContext,
+                    Propagation.REQUIRES_NEW,
+                    childCommandDto,
+                    asyncControl.getReturnType(),
+                    parentInteractionId, // this command becomes the parent of child command
+                    null));
+            asyncControl.setFuture(
+                    asyncTaskTracker.submit(commonExecutorService, method, maxConcurrency, asyncTask));
+            return null;
+        }
+
+        var executorService = Optional.ofNullable(customExecutorService)
                 .orElse(commonExecutorService);
         var asyncTask = getServiceInjector().injectServicesInto(new AsyncTask<R>(
             asyncInteractionContext,
             Propagation.REQUIRES_NEW,
             childCommandDto,
             asyncControl.getReturnType(),
-            parentInteractionId)); // this command becomes the parent of child command
-
-        var future = executorService.submit(asyncTask);
-        asyncControl.setFuture(future);
+            parentInteractionId, // this command becomes the parent of child command
+            asyncTaskTracker));
+
+        asyncTaskTracker.onSubmitted();
+        try {
+            var future = executorService.submit(asyncTask);
+            asyncControl.setFuture(future);
+        } catch (RuntimeException e) {
+            asyncTaskTracker.onRejected();
+            throw e;
+        }
 
         return null;
     }
@@ -601,6 +750,12 @@ private InteractionLayer currentInteractionLayer() {
         @Getter private final Class<R> returnType;
         @Getter private final UUID parentInteractionId;
 
+        /**
+         * As this is <code>transient</code>, tasks that have been serialized are not tracked.
+         * Also <code>null</code> for tasks tracked by the tracker itself (those with a concurrency limit).
+         */
+        private final transient @Nullable _AsyncTaskTracker asyncTaskTracker;
+
         /**
          * Note this is a <code>transient</code> field, in order that
          * {@link org.apache.causeway.applib.services.wrapper.callable.AsyncCallable} can be declared as
@@ -628,13 +783,15 @@ private InteractionLayer currentInteractionLayer() {
          * </p>
          */
         @Override
-        public R call() {
+        public R call() throws Exception {
             if (wrapperFactory == null) {
                 throw new IllegalStateException(
                         "The transient wrapperFactory is null; suggests that this async task been serialized and " +
                         "then deserialized, but is now being executed by an ExecutorService that has not re-injected necessary services.");
             }
-            return wrapperFactory.execute(this);
+            return asyncTaskTracker != null
+                    ? asyncTaskTracker.run(()->wrapperFactory.execute(this))
+                    : wrapperFactory.execute(this);
         }
     }
 
@@ -684,7 +841,25 @@ private <R> R updateDomainObject(final AsyncCallable<R> asyncCallable) {
 
     private final static int MIN_POOL_SIZE = 2; // at least 2
     private final static int MAX_POOL_SIZE = 4; // max 4
+    /**
+     * @implNote async tasks are safe to run on virtual threads: each task opens (and closes) its own interaction,
+     *      from the {@link InteractionContext} it carries, hence the thread-local interaction layer stack
+     *      and interaction scope are neither inherited from nor leaked into other threads.
+     */
     private ExecutorService newCommonExecutorService() {
+        var policy = getConfiguration().getCore().getRuntimeServices().getWrapperFactory().getAsyncExecutor();
+        if(policy == AsyncExecutorPolicy.VIRTUAL_THREAD_PER_TASK) {
+            var virtualThreadPerTaskExecutor = newVirtualThreadPerTaskExecutor();
+            if(virtualThreadPerTaskExecutor.isPresent()) {
+                return virtualThreadPerTaskExecutor.get();
+            }
+            log.warn("virtual threads are not supported by this JVM ({}), falling back to a fixed thread pool",
+                    Runtime.version());
+        }
+        return newFixedThreadPool();
+    }
+
+    private static ExecutorService newFixedThreadPool() {
         final int poolSize = Math.min(
                 MAX_POOL_SIZE,
                 Math.max(
@@ -693,4 +868,17 @@ private ExecutorService newCommonExecutorService() {
         return Executors.newFixedThreadPool(poolSize);
     }
 
+    /**
+     * @implNote looked up reflectively, as virtual threads require Java 21+, while we compile against Java 17
+     */
+    private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
 }
@@ -0,0 +1,200 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the async tasks submitted by the {@link WrapperFactoryDefault},
+ * and enforces their {@link org.apache.causeway.applib.services.wrapper.control.AsyncControl#withMaxConcurrency(int)
+ * concurrency limits}.
+ *
+ * <p>
+ * Limits are applied at submission: tasks beyond the limit are held back here (in order of submission),
+ * rather than occupying a worker thread while they wait; each is handed to the executor once an earlier task
+ * with the same limit has completed.
+ */
+final class _AsyncTaskTracker {
+
+    private record ConcurrencyLimitKey(Method method, int maxConcurrency) {
+    }
+
+    private record PendingTask(Executor executor, FutureTask<?> futureTask, Runnable runnable) {
+    }
+
+    /**
+     * Tasks sharing a {@link ConcurrencyLimitKey}: the number handed to an executor but not yet completed,
+     * and those held back.
+     */
+    private final class ConcurrencyLimit {
+        private final int maxConcurrency;
+        private final Queue<PendingTask> heldBack = new ArrayDeque<>();
+        private int inFlight;
+
+        ConcurrencyLimit(final int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        void submit(final PendingTask pendingTask) {
+            synchronized(this) {
+                if(inFlight >= maxConcurrency) {
+                    heldBack.add(pendingTask);
+                    return;
+                }
+                inFlight++;
+            }
+            try {
+                pendingTask.executor().execute(pendingTask.runnable());
+            } catch (RejectedExecutionException e) {
+                synchronized(this) {
+                    inFlight--;
+                }
+                throw e;
+            }
+        }
+
+        void onCompleted() {
+            while(true) {
+                final PendingTask next;
+                synchronized(this) {
+                    next = heldBack.poll();
+                    if(next == null) {
+                        inFlight--;
+                        return;
+                    }
+                }
+                try {
+                    next.executor().execute(next.runnable());
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // executor shut down in the meantime; the held back task will never run
+                    queuedCount.decrement();
+                    next.futureTask().cancel(false);
+                }
+            }
+        }
+
+        synchronized int heldBackCount() {
+            return heldBack.size();
+        }
+    }
+
+    private final Map<ConcurrencyLimitKey, ConcurrencyLimit> concurrencyLimits = new ConcurrentHashMap<>();
+    private final LongAdder queuedCount = new LongAdder();
+    private final LongAdder runningCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+
+    void onSubmitted() {
+        queuedCount.increment();
+    }
+
+    void onRejected() {
+        queuedCount.decrement();
+    }
+
+    /**
+     * Submits given {@code task} to given {@code executor}, though no more than {@code maxConcurrency} of
+     * those targeting given {@code method} (with the same limit) are handed to it at any one time.
+     *
+     * <p>
+     * The task is tracked as if {@link #onSubmitted() submitted} and {@link #run(Callable) run}.
+     *
+     * @param maxConcurrency - positive
+     * @throws RejectedExecutionException if the {@code executor} (immediately) rejects the task
+     */
+    <R> Future<R> submit(
+            final Executor executor,
+            final Method method,
+            final int maxConcurrency,
+            final Callable<R> task) {
+
+        var concurrencyLimit = concurrencyLimits.computeIfAbsent(
+                new ConcurrencyLimitKey(method, maxConcurrency),
+                key->new ConcurrencyLimit(key.maxConcurrency()));
+
+        var started = new AtomicBoolean();
+        var futureTask = new FutureTask<R>(()->{
+            started.set(true);
+            return run(task);
+        });
+        Runnable runnable = ()->{
+            try {
+                futureTask.run();
+            } finally {
+                if(!started.get()) {
+                    // cancelled before it could start
+                    queuedCount.decrement();
+                }
+                concurrencyLimit.onCompleted();
+            }
+        };
+
+        onSubmitted();
+        try {
+            concurrencyLimit.submit(new PendingTask(executor, futureTask, runnable));
+        } catch (RuntimeException e) {
+            onRejected();
+            throw e;
+        }
+        return futureTask;
+    }
+
+    /**
+     * Runs given (previously {@link #onSubmitted() submitted}) {@code task}.
+     */
+    <R> R run(final Callable<R> task) throws Exception {
+        queuedCount.decrement();
+        runningCount.increment();
+        try {
+            return task.call();
+        } finally {
+            runningCount.decrement();
+            completedCount.increment();
+        }
+    }
+
+    /**
+     * Number of tasks targeting given {@code method} (with given limit), currently held back.
+     */
+    int heldBackCount(final Method method, final int maxConcurrency) {
+        var concurrencyLimit = concurrencyLimits.get(new ConcurrencyLimitKey(method, maxConcurrency));
+        return concurrencyLimit != null
+                ? concurrencyLimit.heldBackCount()
+                : 0;
+    }
+
+    WrapperFactoryDefault.AsyncTaskMetrics metrics() {
+        return new WrapperFactoryDefault.AsyncTaskMetrics(
+                queuedCount.sum(),
+                runningCount.sum(),
+                completedCount.sum());
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper.handlers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.causeway.core.metamodel.consent.Consent;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdvisorFacet;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+/**
+ * Shared by the {@link DomainObjectInvocationHandler}s of all domain objects wrapped for the same
+ * {@link org.apache.causeway.applib.services.wrapper.WrapperFactory#wrapBatch batch}, to consult the
+ * {@link InteractionAdvisorFacet#isTargetIndependent() target-independent} visibility and usability rules
+ * of each member only once for the whole batch.
+ *
+ * <p>
+ * Not thread-safe; a batch is executed by a single thread.
+ */
+public class BatchRules {
+
+    enum Rule {
+        VISIBILITY,
+        USABILITY
+    }
+
+    private record Key(ObjectMember member, Rule rule) {
+    }
+
+    private final Map<Key, Boolean> vetoedByTargetIndependentAdvisors = new HashMap<>();
+
+    /**
+     * Whether any of the target-independent advisors of given {@code member} vetoes given {@code rule},
+     * as determined by given {@code consent} on first use, then remembered.
+     */
+    boolean isVetoedByTargetIndependentAdvisors(
+            final ObjectMember member,
+            final Rule rule,
+            final Supplier<Consent> consent) {
+        return vetoedByTargetIndependentAdvisors.computeIfAbsent(
+                new Key(member, rule),
+                key->consent.get().isVetoed());
+    }
+
+}
@@ -52,6 +52,7 @@
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet.Intent;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.interactions.InteractionAdvisorFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ActionInteractionHead;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.MmAssertionUtils;
@@ -67,6 +68,8 @@
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
 
+import org.jspecify.annotations.Nullable;
+
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 
@@ -103,6 +106,7 @@
 
     private final EntityFacet entityFacet;
     private final ManagedObject mixeeAdapter;
+    private final @Nullable BatchRules batchRules;
 
     public DomainObjectInvocationHandler(
             final T domainObject,
@@ -110,6 +114,19 @@ public DomainObjectInvocationHandler(
             final ManagedObject targetAdapter,
             final SyncControl syncControl,
             final ProxyContextHandler proxyContextHandler) {
+        this(domainObject, mixeeAdapter, targetAdapter, syncControl, proxyContextHandler, null);
+    }
+
+    /**
+     * @param batchRules - if wrapped as part of a batch, shared by all handlers of that batch
+     */
+    public DomainObjectInvocationHandler(
+            final T domainObject,
+            final ManagedObject mixeeAdapter, // ignored if not handling a mixin
+            final ManagedObject targetAdapter,
+            final SyncControl syncControl,
+            final ProxyContextHandler proxyContextHandler,
+            final @Nullable BatchRules batchRules) {
         super(
                 targetAdapter.getSpecification().getMetaModelContext(),
                 domainObject,
@@ -137,6 +154,7 @@ public DomainObjectInvocationHandler(
         entityFacet = targetAdapter.getSpecification().entityFacet().orElse(null);
 
         this.mixeeAdapter = mixeeAdapter;
+        this.batchRules = batchRules;
     }
 
     /**
@@ -523,7 +541,14 @@ private void checkVisibility(
             final ManagedObject targetObjectAdapter,
             final ObjectMember objectMember) {
 
-        var visibleConsent = objectMember.isVisible(targetObjectAdapter, getInteractionInitiatedBy(), where);
+        var interactionInitiatedBy = getInteractionInitiatedBy();
+        var visibleConsent = batchRules != null
+                && !batchRules.isVetoedByTargetIndependentAdvisors(objectMember, BatchRules.Rule.VISIBILITY, ()->
+                        objectMember.isVisible(targetObjectAdapter, interactionInitiatedBy, where,
+                                InteractionAdvisorFacet::isTargetIndependent))
+                ? objectMember.isVisible(targetObjectAdapter, interactionInitiatedBy, where,
+                        advisor->!advisor.isTargetIndependent())
+                : objectMember.isVisible(targetObjectAdapter, interactionInitiatedBy, where);
         var interactionResult = visibleConsent.getInteractionResult();
         notifyListenersAndVetoIfRequired(interactionResult);
     }
@@ -532,11 +557,15 @@ private void checkUsability(
             final ManagedObject targetObjectAdapter,
             final ObjectMember objectMember) {
 
-        var interactionResult = objectMember.isUsable(
-                targetObjectAdapter,
-                getInteractionInitiatedBy(),
-                where)
-                .getInteractionResult();
+        var interactionInitiatedBy = getInteractionInitiatedBy();
+        var usableConsent = batchRules != null
+                && !batchRules.isVetoedByTargetIndependentAdvisors(objectMember, BatchRules.Rule.USABILITY, ()->
+                        objectMember.isUsable(targetObjectAdapter, interactionInitiatedBy, where,
+                                InteractionAdvisorFacet::isTargetIndependent))
+                ? objectMember.isUsable(targetObjectAdapter, interactionInitiatedBy, where,
+                        advisor->!advisor.isTargetIndependent())
+                : objectMember.isUsable(targetObjectAdapter, interactionInitiatedBy, where);
+        var interactionResult = usableConsent.getInteractionResult();
         notifyListenersAndVetoIfRequired(interactionResult);
     }
 
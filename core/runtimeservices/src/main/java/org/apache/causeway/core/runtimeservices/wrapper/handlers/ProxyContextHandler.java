@@ -29,6 +29,7 @@
 import org.apache.causeway.core.runtimeservices.wrapper.proxy.ProxyCreator;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -40,13 +41,25 @@ public <T> T proxy(
             final T domainObject,
             final ManagedObject adapter,
             final SyncControl syncControl) {
+        return proxy(domainObject, adapter, syncControl, null);
+    }
+
+    /**
+     * @param batchRules - if wrapped as part of a batch, shared by all domain objects of that batch
+     */
+    public <T> T proxy(
+            final T domainObject,
+            final ManagedObject adapter,
+            final SyncControl syncControl,
+            final @Nullable BatchRules batchRules) {
 
         var invocationHandler = new DomainObjectInvocationHandler<T>(
                 domainObject,
                 null, // mixeeAdapter ignored
                 adapter,
                 syncControl,
-                this);
+                this,
+                batchRules);
 
         return proxyCreator.instantiateProxy(invocationHandler);
     }
@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.instrumentation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Observation;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
+
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+class InstrumentationServiceMicrometerTest {
+
+    private final List<io.micrometer.observation.Observation.Context> stopped = new CopyOnWriteArrayList<>();
+    private ObservationRegistry observationRegistry;
+    private CausewayConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<io.micrometer.observation.Observation.Context>() {
+            @Override public boolean supportsContext(final io.micrometer.observation.Observation.Context context) {
+                return true;
+            }
+            @Override public void onStop(final io.micrometer.observation.Observation.Context context) {
+                stopped.add(context);
+            }
+        });
+        configuration = CausewayConfiguration.builder().build();
+    }
+
+    @Test
+    void reports_observation_withTags() {
+        var instrumentationService = new InstrumentationServiceMicrometer(configuration, Optional.of(observationRegistry));
+
+        var result = instrumentationService.observe(Point.ACTION_INVOCATION, "demo.Customer", "placeOrder", ()->"done");
+
+        assertEquals("done", result);
+        assertEquals(1, stopped.size());
+        var context = stopped.get(0);
+        assertEquals("causeway.action.invocation", context.getName());
+        assertEquals("demo.Customer", context.getLowCardinalityKeyValue(InstrumentationServiceMicrometer.TAG_LOGICAL_TYPE).getValue());
+        assertEquals("placeOrder", context.getLowCardinalityKeyValue(InstrumentationServiceMicrometer.TAG_MEMBER_ID).getValue());
+        assertNull(context.getError());
+    }
+
+    @Test
+    void reports_error() {
+        var instrumentationService = new InstrumentationServiceMicrometer(configuration, Optional.of(observationRegistry));
+        var cause = new IllegalStateException("failed");
+
+        assertThrows(IllegalStateException.class, ()->
+            instrumentationService.observe(Point.TRANSACTION_COMMIT, null, null, ()->{ throw cause; }));
+
+        assertEquals(1, stopped.size());
+        assertSame(cause, stopped.get(0).getError());
+        assertNull(stopped.get(0).getLowCardinalityKeyValue(InstrumentationServiceMicrometer.TAG_MEMBER_ID));
+    }
+
+    @Test
+    void nested_observations_areScoped() {
+        var instrumentationService = new InstrumentationServiceMicrometer(configuration, Optional.of(observationRegistry));
+
+        try(var outer = instrumentationService.start(Point.INTERACTION_LAYER, null, null)) {
+            instrumentationService.observe(Point.TITLE, "demo.Customer", null, ()->{
+                assertEquals("causeway.object.title", observationRegistry.getCurrentObservation().getContext().getName());
+                return null;
+            });
+            assertEquals("causeway.interaction.layer", observationRegistry.getCurrentObservation().getContext().getName());
+        }
+
+        assertNull(observationRegistry.getCurrentObservation());
+        assertEquals(2, stopped.size());
+        assertSame(stopped.get(1), stopped.get(0).getParentObservation().getContextView());
+    }
+
+    @Test
+    void noop_whenDisabled() {
+        configuration.getCore().getRuntimeServices().getInstrumentation().setEnabled(false);
+        var instrumentationService = new InstrumentationServiceMicrometer(configuration, Optional.of(observationRegistry));
+
+        assertSame(Observation.NOOP, instrumentationService.start(Point.ICON, "demo.Customer", null));
+    }
+
+    @Test
+    void noop_whenNoRegistry() {
+        var instrumentationService = new InstrumentationServiceMicrometer(configuration, Optional.empty());
+
+        assertSame(Observation.NOOP, instrumentationService.start(Point.ICON, "demo.Customer", null));
+        assertSame(Observation.NOOP, new InstrumentationServiceMicrometer(configuration, Optional.of(ObservationRegistry.NOOP))
+                .start(Point.ICON, "demo.Customer", null));
+    }
+
+}
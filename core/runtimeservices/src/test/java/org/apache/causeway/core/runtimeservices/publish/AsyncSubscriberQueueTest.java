@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.AsyncPublishing.BackPressurePolicy;
+
+class AsyncSubscriberQueueTest {
+
+    private final List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+    @Test
+    void delivers_in_order_of_submission() {
+        var queue = _AsyncSubscriberQueue.start("test", 10, BackPressurePolicy.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            var event = i;
+            queue.submit(()->delivered.add(event));
+        }
+        queue.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(100, delivered.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, delivered.get(i));
+        }
+        assertEquals(100, queue.getDeliveredCount());
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void drops_when_full() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var queue = _AsyncSubscriberQueue.start("test", 1, BackPressurePolicy.DROP);
+
+        queue.submit(()->awaitRelease(blocked, release)); // occupies the worker
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        queue.submit(()->delivered.add(1)); // queued
+        queue.submit(()->delivered.add(2)); // dropped
+
+        assertEquals(1, queue.getQueueDepth());
+        assertEquals(1, queue.getDroppedCount());
+
+        release.countDown();
+        queue.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(List.of(1), delivered);
+    }
+
+    @Test
+    void caller_runs_when_full() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var queue = _AsyncSubscriberQueue.start("test", 1, BackPressurePolicy.CALLER_RUNS);
+
+        queue.submit(()->awaitRelease(blocked, release)); // occupies the worker
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        queue.submit(()->delivered.add(1)); // queued
+        queue.submit(()->delivered.add(2)); // delivered synchronously
+
+        assertEquals(List.of(2), delivered);
+
+        release.countDown();
+        queue.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(List.of(2, 1), delivered);
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void failures_are_counted_but_do_not_stop_delivery() {
+        var queue = _AsyncSubscriberQueue.start("test", 10, BackPressurePolicy.BLOCK);
+        queue.submit(()->{ throw new IllegalStateException("simulated failure"); });
+        queue.submit(()->delivered.add(1));
+        queue.shutdown(Duration.ofSeconds(5));
+
+        assertEquals(List.of(1), delivered);
+        assertEquals(1, queue.getFailedCount());
+    }
+
+    // -- HELPER
+
+    private static void awaitRelease(final CountDownLatch blocked, final CountDownLatch release) {
+        blocked.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
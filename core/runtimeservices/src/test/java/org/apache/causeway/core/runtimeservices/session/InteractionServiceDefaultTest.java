@@ -0,0 +1,203 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Provider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.xactn.TransactionState;
+import org.apache.causeway.core.interaction.scope.InteractionScopeBeanFactoryPostProcessor;
+import org.apache.causeway.core.interaction.scope.InteractionScopeLifecycleHandler;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Observation;
+import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtime.events.MetamodelEventService;
+import org.apache.causeway.core.runtimeservices.transaction.TransactionServiceSpring;
+
+class InteractionServiceDefaultTest {
+
+    private final InteractionContext sven = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+    private final InteractionContext dick = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("dick"));
+
+    private final List<Observation> observations = new ArrayList<>();
+    private TransactionServiceSpring transactionService;
+    private InteractionServiceDefault interactionService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transactionService = Mockito.mock(TransactionServiceSpring.class);
+        when(transactionService.currentTransactionState()).thenReturn(TransactionState.IN_PROGRESS);
+
+        var beanFactory = Mockito.mock(ConfigurableBeanFactory.class);
+        var interactionScope = Mockito.mock(InteractionScopeLifecycleHandler.class,
+                Mockito.withSettings().extraInterfaces(Scope.class));
+        when(beanFactory.getRegisteredScope(InteractionScopeBeanFactoryPostProcessor.SCOPE_NAME))
+            .thenReturn((Scope) interactionScope);
+
+        var commandPublisherProvider = (Provider<CommandPublisher>) Mockito.mock(Provider.class);
+        when(commandPublisherProvider.get()).thenReturn(Mockito.mock(CommandPublisher.class));
+
+        var instrumentationService = Mockito.mock(InstrumentationService.class);
+        when(instrumentationService.start(any(), any(), any())).thenAnswer(__->{
+            var observation = Mockito.mock(Observation.class);
+            observations.add(observation);
+            return observation;
+        });
+
+        interactionService = new InteractionServiceDefault(
+                Mockito.mock(MetamodelEventService.class),
+                Mockito.mock(SpecificationLoader.class),
+                Mockito.mock(ServiceInjector.class),
+                transactionService,
+                Mockito.mock(ClockService.class),
+                commandPublisherProvider,
+                beanFactory,
+                UUID::randomUUID,
+                instrumentationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        interactionService.closeInteractionLayers();
+    }
+
+    @Test
+    void openInteraction_pushesLayer_unlessSameContext() {
+        var bottom = interactionService.openInteraction(sven);
+        assertSame(bottom, interactionService.openInteraction(sven)); // reused
+        assertEquals(1, interactionService.getInteractionLayerCount());
+
+        var top = interactionService.openInteraction(dick);
+
+        assertEquals(2, interactionService.getInteractionLayerCount());
+        assertSame(top, interactionService.currentInteractionLayerElseFail());
+        assertSame(bottom.getInteraction(), top.getInteraction()); // layers share the interaction
+    }
+
+    @Test
+    void call_popsDownToDepthWhenEntering() {
+        interactionService.openInteraction(sven);
+
+        var userWithin = interactionService.call(dick, ()->
+            interactionService.call(sven, ()->{
+                assertEquals(3, interactionService.getInteractionLayerCount());
+                return interactionService.currentInteractionContext().orElseThrow().getUser().getName();
+            }));
+
+        assertEquals("sven", userWithin);
+        assertEquals(1, interactionService.getInteractionLayerCount());
+        Mockito.verify(transactionService, Mockito.never()).onClose(any());
+        observations.subList(1, observations.size())
+            .forEach(observation->Mockito.verify(observation).close());
+    }
+
+    @Test
+    void closeInteractionLayers_closesAll() {
+        interactionService.openInteraction(sven);
+        interactionService.openInteraction(dick);
+
+        interactionService.closeInteractionLayers();
+
+        assertFalse(interactionService.isInInteraction());
+        assertEquals(0, interactionService.getInteractionLayerCount());
+        Mockito.verify(transactionService).onClose(any());
+        assertEquals(2, observations.size());
+        observations.forEach(observation->Mockito.verify(observation).close());
+    }
+
+    @Test
+    void closeInteractionLayers_cleansUp_whenPreInteractionClosedFails() {
+        Mockito.doThrow(new IllegalStateException("flush failed")).when(transactionService).flushTransaction();
+        interactionService.openInteraction(sven);
+        interactionService.openInteraction(dick);
+
+        assertThrows(IllegalStateException.class, interactionService::closeInteractionLayers);
+
+        assertFalse(interactionService.isInInteraction());
+        assertEquals(0, interactionService.getInteractionLayerCount());
+        Mockito.verify(transactionService).requestRollback(any());
+        observations.forEach(observation->Mockito.verify(observation).close());
+    }
+
+    @Test
+    void inheritingCallable_runsInOwnInteraction_withSameContext() throws Exception {
+        interactionService.openInteraction(sven);
+        var interactionId = interactionService.getInteractionId().orElseThrow();
+        var interactionIdWithin = new AtomicReference<UUID>();
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var callable = interactionService.inheritingCallable(()->{
+                interactionIdWithin.set(interactionService.getInteractionId().orElseThrow());
+                return interactionService.currentInteractionContext().orElseThrow();
+            });
+
+            assertSame(sven, executor.submit(callable).get());
+            assertNotEquals(interactionId, interactionIdWithin.get());
+            // nothing left behind on the pooled thread
+            assertFalse(executor.submit(interactionService::isInInteraction).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void inheritingRunnable_runsAnonymously_whenNotInInteraction() throws Exception {
+        var userWithin = new AtomicReference<UserMemento>();
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var runnable = interactionService.inheritingRunnable(()->
+                userWithin.set(interactionService.currentInteractionContext().orElseThrow().getUser()));
+
+            executor.submit(runnable).get();
+
+            assertEquals(UserMemento.system(), userWithin.get());
+            assertFalse(executor.submit(interactionService::isInInteraction).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.core.interaction.session.CausewayInteraction;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Observation;
+
+class _InteractionLayersTest {
+
+    @Test
+    void push_ontoEmpty() {
+        var layer = layer("sven");
+
+        var layers = _InteractionLayers.push(null, layer, Observation.NOOP);
+
+        assertSame(layer, layers.top());
+        assertSame(layer, layers.bottom());
+        assertNull(layers.below());
+        assertEquals(1, _InteractionLayers.size(layers));
+    }
+
+    @Test
+    void push_keepsBottom_andLeavesBelowUnchanged() {
+        var bottom = layer("sven");
+        var top = layer("dick");
+        var below = _InteractionLayers.push(null, bottom, Observation.NOOP);
+
+        var layers = _InteractionLayers.push(below, top, Observation.NOOP);
+
+        assertSame(top, layers.top());
+        assertSame(bottom, layers.bottom());
+        assertSame(below, layers.below());
+        assertEquals(2, _InteractionLayers.size(layers));
+        // popping is just going back to below, which is unchanged
+        assertSame(bottom, below.top());
+        assertEquals(1, _InteractionLayers.size(below));
+    }
+
+    @Test
+    void size_ofNone() {
+        assertEquals(0, _InteractionLayers.size(null));
+    }
+
+    // -- HELPER
+
+    private static InteractionLayer layer(final String userName) {
+        return new InteractionLayer(
+                new CausewayInteraction(UUID.randomUUID()),
+                InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName)));
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class _AsyncTaskTrackerTest {
+
+    private _AsyncTaskTracker tracker;
+    private ExecutorService executor;
+    private Method method1;
+    private Method method2;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tracker = new _AsyncTaskTracker();
+        executor = Executors.newFixedThreadPool(2);
+        method1 = Object.class.getMethod("toString");
+        method2 = Object.class.getMethod("hashCode");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void run_tracksQueuedRunningAndCompleted() throws Exception {
+        tracker.onSubmitted();
+        assertEquals(new WrapperFactoryDefault.AsyncTaskMetrics(1, 0, 0), tracker.metrics());
+
+        var result = tracker.run(()->{
+            assertEquals(new WrapperFactoryDefault.AsyncTaskMetrics(0, 1, 0), tracker.metrics());
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(new WrapperFactoryDefault.AsyncTaskMetrics(0, 0, 1), tracker.metrics());
+    }
+
+    @Test
+    void submit_holdsBackTasksBeyondLimit_andRunsThemInOrder() throws Exception {
+        var release = new CountDownLatch(1);
+        var executed = new CopyOnWriteArrayList<String>();
+
+        var first = tracker.submit(executor, method1, 1, ()->{
+            release.await();
+            executed.add("first");
+            return "first";
+        });
+        var second = tracker.submit(executor, method1, 1, ()->executed.add("second"));
+        var third = tracker.submit(executor, method1, 1, ()->executed.add("third"));
+
+        awaitRunning(1);
+        assertEquals(2, tracker.heldBackCount(method1, 1));
+        assertEquals(new WrapperFactoryDefault.AsyncTaskMetrics(2, 1, 0), tracker.metrics());
+
+        release.countDown();
+
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        second.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("first", "second", "third"), executed);
+        assertEquals(0, tracker.heldBackCount(method1, 1));
+        assertEquals(new WrapperFactoryDefault.AsyncTaskMetrics(0, 0, 3), tracker.metrics());
+    }
+
+    @Test
+    void submit_heldBackTasks_doNotOccupyWorkerThreads() throws Exception {
+        var release = new CountDownLatch(1);
+
+        var blocking = tracker.submit(executor, method1, 1, ()->release.await(5, TimeUnit.SECONDS));
+        var heldBack = tracker.submit(executor, method1, 1, ()->"held back");
+        // with the first task occupying one of the two worker threads, and the second held back,
+        // a task of another member must still get the remaining thread
+        var other = tracker.submit(executor, method2, 1, ()->"other");
+
+        assertEquals("other", other.get(5, TimeUnit.SECONDS));
+        assertEquals(1, tracker.heldBackCount(method1, 1));
+
+        release.countDown();
+        assertTrue(blocking.get(5, TimeUnit.SECONDS));
+        assertEquals("held back", heldBack.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_limitIsPerMethodAndLimit() throws Exception {
+        var release = new CountDownLatch(1);
+
+        var futures = List.<Future<?>>of(
+                tracker.submit(executor, method1, 1, ()->release.await(5, TimeUnit.SECONDS)),
+                tracker.submit(executor, method1, 2, ()->release.await(5, TimeUnit.SECONDS)));
+
+        awaitRunning(2);
+        assertEquals(0, tracker.heldBackCount(method1, 1));
+        assertEquals(0, tracker.heldBackCount(method1, 2));
+
+        release.countDown();
+        for (var future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void submit_cancelledWhileHeldBack_isNotRun_andReleasesItsTurn() throws Exception {
+        var release = new CountDownLatch(1);
+        var executed = new CopyOnWriteArrayList<String>();
+
+        var first = tracker.submit(executor, method1, 1, ()->release.await(5, TimeUnit.SECONDS));
+        var cancelled = tracker.submit(executor, method1, 1, ()->executed.add("cancelled"));
+        var last = tracker.submit(executor, method1, 1, ()->executed.add("last"));
+
+        assertTrue(cancelled.cancel(false));
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        last.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("last"), executed);
+        assertEquals(0, tracker.metrics().queuedCount());
+    }
+
+    // -- HELPER
+
+    private void awaitRunning(final long runningCount) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while(tracker.metrics().runningCount() < runningCount
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(runningCount, tracker.metrics().runningCount());
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper.handlers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel.consent.Allow;
+import org.apache.causeway.core.metamodel.consent.Veto;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.runtimeservices.wrapper.handlers.BatchRules.Rule;
+
+class BatchRulesTest {
+
+    private final BatchRules batchRules = new BatchRules();
+    private final ObjectMember member = Mockito.mock(ObjectMember.class);
+    private final ObjectMember otherMember = Mockito.mock(ObjectMember.class);
+
+    @Test
+    void consults_once_perMemberAndRule() {
+        var consulted = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(batchRules.isVetoedByTargetIndependentAdvisors(member, Rule.VISIBILITY, ()->{
+                consulted.incrementAndGet();
+                return Allow.DEFAULT;
+            }));
+        }
+        assertEquals(1, consulted.get());
+
+        batchRules.isVetoedByTargetIndependentAdvisors(member, Rule.USABILITY, ()->{
+            consulted.incrementAndGet();
+            return Allow.DEFAULT;
+        });
+        batchRules.isVetoedByTargetIndependentAdvisors(otherMember, Rule.VISIBILITY, ()->{
+            consulted.incrementAndGet();
+            return Allow.DEFAULT;
+        });
+        assertEquals(3, consulted.get());
+    }
+
+    @Test
+    void remembers_veto() {
+        assertTrue(batchRules.isVetoedByTargetIndependentAdvisors(member, Rule.USABILITY, ()->Veto.DEFAULT));
+        assertTrue(batchRules.isVetoedByTargetIndependentAdvisors(member, Rule.USABILITY, ()->Allow.DEFAULT));
+    }
+
+    @Test
+    void isNotShared_acrossBatches() {
+        assertTrue(batchRules.isVetoedByTargetIndependentAdvisors(member, Rule.VISIBILITY, ()->Veto.DEFAULT));
+        assertFalse(new BatchRules().isVetoedByTargetIndependentAdvisors(member, Rule.VISIBILITY, ()->Allow.DEFAULT));
+    }
+
+}
@@ -35,6 +35,7 @@
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_siblingCommands;
 import org.apache.causeway.extensions.commandlog.applib.fakescheduler.FakeScheduler;
 import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsJobControl;
+import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsJobExecutor;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
 import org.apache.causeway.extensions.commandlog.applib.subscriber.CommandSubscriberForCommandLog;
 
@@ -60,6 +61,7 @@
         CommandLogEntry.TableColumnOrderDefault.class,
 
         BackgroundCommandsJobControl.class,
+        BackgroundCommandsJobExecutor.class,
 
         BackgroundService.class,
         BackgroundService.PersistCommandExecutorService.class,
@@ -126,6 +126,52 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * As per {@link #findBackgroundAndNotYetStarted()}, but returning at most <code>limit</code> commands,
+     * the limit being applied by the query itself.
+     */
+    List<CommandLogEntry> findBackgroundAndNotYetStarted(final int limit);
+
+    /**
+     * Attempts to claim the (background) {@link CommandLogEntry command} with given interactionId
+     * for execution, by marking it as started, provided it has not yet been started (nor claimed) by anyone else.
+     *
+     * <p>
+     * Should be called within its own transaction, so that once committed, the claim is visible to
+     * other nodes and the command is no longer returned by {@link #findBackgroundAndNotYetStarted(int)}.
+     * </p>
+     *
+     * @return whether the command was claimed by this call
+     */
+    boolean claimBackgroundNotYetStarted(final UUID interactionId, final java.sql.Timestamp claimedAt);
+
+    /**
+     * Returns (at most <code>limit</code>) background {@link CommandLogEntry command}s that were started (claimed)
+     * before the given time, but have not completed.
+     *
+     * <p>
+     * These are commands that were claimed using {@link #claimBackgroundNotYetStarted(UUID, java.sql.Timestamp)}, but
+     * whose execution was then never completed, for example because the node that claimed them died in between.
+     * </p>
+     */
+    List<CommandLogEntry> findBackgroundAndStranded(final java.sql.Timestamp startedBefore, final int limit);
+
+    /**
+     * As per {@link #claimBackgroundNotYetStarted(UUID, java.sql.Timestamp)}, but also claims the
+     * {@link CommandLogEntry command} if stranded, that is, if it was started (claimed) before the given time,
+     * but has not completed.
+     *
+     * @return whether the command was claimed by this call
+     */
+    boolean claimBackgroundNotYetStartedOrStranded(
+            final UUID interactionId, final java.sql.Timestamp claimedAt, final java.sql.Timestamp startedBefore);
+
+    /**
+     * Releases a claim previously obtained using {@link #claimBackgroundNotYetStarted(UUID, java.sql.Timestamp)},
+     * provided the {@link CommandLogEntry command} has not yet completed, so that it will be picked up again.
+     */
+    void releaseClaim(final UUID interactionId);
+
     List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target);
 
     /**
@@ -289,6 +289,64 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public List<CommandLogEntry> findBackgroundAndNotYetStarted(final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(limit)));
+    }
+
+    /**
+     * This default implementation reads then updates the entry, so is only safe against concurrent
+     * claims if the underlying database serializes these; persistence specific subclasses are expected to
+     * override using a conditional (bulk) update.
+     */
+    @Override
+    public boolean claimBackgroundNotYetStarted(final UUID interactionId, final Timestamp claimedAt) {
+        return findByInteractionId(interactionId)
+                .filter(commandLogEntry -> commandLogEntry.getStartedAt() == null)
+                .map(commandLogEntry -> {
+                    commandLogEntry.setStartedAt(claimedAt);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    public List<CommandLogEntry> findBackgroundAndStranded(final Timestamp startedBefore, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_STRANDED)
+                        .withParameter("startedBefore", startedBefore)
+                        .withLimit(limit)));
+    }
+
+    /**
+     * As per {@link #claimBackgroundNotYetStarted(UUID, Timestamp)}, this default implementation is only safe
+     * against concurrent claims if the underlying database serializes these.
+     */
+    @Override
+    public boolean claimBackgroundNotYetStartedOrStranded(
+            final UUID interactionId, final Timestamp claimedAt, final Timestamp startedBefore) {
+        return findByInteractionId(interactionId)
+                .filter(commandLogEntry -> commandLogEntry.getStartedAt() == null
+                        || (commandLogEntry.getStartedAt().before(startedBefore)
+                                && commandLogEntry.getCompletedAt() == null))
+                .map(commandLogEntry -> {
+                    commandLogEntry.setStartedAt(claimedAt);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    public void releaseClaim(final UUID interactionId) {
+        findByInteractionId(interactionId)
+                .filter(commandLogEntry -> commandLogEntry.getCompletedAt() == null)
+                .ifPresent(commandLogEntry -> commandLogEntry.setStartedAt(null));
+    }
+
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.Programmatic;
+
+/**
+ * Holds the pool of worker threads used by {@link RunBackgroundCommandsJob} to execute partitions of background
+ * commands concurrently.
+ *
+ * <p>
+ *     Because a new instance of the job is created for each run, the pool is held here instead, so that it is
+ *     created once (on first use) and reused for the lifetime of the application.
+ * </p>
+ *
+ * @see RunBackgroundCommandsJob
+ *
+ * @since 3.x {@index}
+ */
+@Service
+public class BackgroundCommandsJobExecutor {
+
+    private ExecutorService executorService;
+
+    /**
+     * Returns the shared pool, creating it with <code>maxConcurrency</code> worker threads on first use.
+     */
+    @Programmatic
+    public synchronized ExecutorService executorService(final int maxConcurrency) {
+        if(executorService == null) {
+            executorService = Executors.newFixedThreadPool(maxConcurrency);
+        }
+        return executorService;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if(executorService == null) return;
+        executorService.shutdownNow();
+        try {
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executorService = null;
+    }
+
+}
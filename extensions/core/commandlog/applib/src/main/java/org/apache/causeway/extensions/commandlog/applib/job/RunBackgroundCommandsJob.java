@@ -19,9 +19,12 @@
 package org.apache.causeway.extensions.commandlog.applib.job;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -35,6 +38,7 @@
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.CommandExecutorService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
@@ -84,6 +88,7 @@ public class RunBackgroundCommandsJob implements Job {
     @Inject CommandLogEntryRepository commandLogEntryRepository;
     @Inject CommandExecutorService commandExecutorService;
     @Inject BackgroundCommandsJobControl backgroundCommandsJobControl;
+    @Inject BackgroundCommandsJobExecutor backgroundCommandsJobExecutor;
     @Inject DeadlockRecognizer deadlockRecognizer;
 
     @Inject List<RunBackgroundCommandsJobListener> listeners;
@@ -105,18 +110,10 @@ public void execute(final JobExecutionContext quartzContext) {
 
         // for each command, we execute within its own transaction.  Failure of one should not impact the next.
         commandDtosIfAny.ifPresent(commandDtos -> {
-            List<CommandAndResult> commandResults = new ArrayList<>();
-            for (CommandDto dto : commandDtos) {
-                Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext);
-                if(attempt.isFailure()) {
-                    var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
-                    if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
-                        break;
-                    }
-                }
-                CommandAndResult apply = CommandAndResult.of(dto, attempt);
-                commandResults.add(apply);
-            }
+            var maxConcurrency = runBackgroundCommandsConfig().getMaxConcurrency();
+            List<CommandAndResult> commandResults = maxConcurrency > 1
+                    ? executeConcurrently(commandDtos, interactionContext, maxConcurrency)
+                    : executeInSerial(commandDtos, interactionContext);
 
             // an enhancement for the listener interface would be to say whether each interaction succeeded or not
             // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
@@ -131,6 +128,141 @@ public void execute(final JobExecutionContext quartzContext) {
         });
     }
 
+    private List<CommandAndResult> executeInSerial(
+            final List<CommandDto> commandDtos,
+            final InteractionContext interactionContext) {
+        List<CommandAndResult> commandResults = new ArrayList<>();
+        for (CommandDto dto : commandDtos) {
+            if(!claimIfRequired(dto, interactionContext)) {
+                continue; // claimed by someone else in the meantime
+            }
+            Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext);
+            if(attempt.isFailure()) {
+                var onFailurePolicy = runBackgroundCommandsConfig().getOnFailurePolicy();
+                if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
+                    break;
+                }
+            }
+            CommandAndResult apply = CommandAndResult.of(dto, attempt);
+            commandResults.add(apply);
+        }
+        return commandResults;
+    }
+
+    /**
+     * Partitions the commands by their target, so that commands against the same target are still executed in
+     * serial (and in order), while the partitions themselves are executed concurrently on the shared pool of
+     * <code>maxConcurrency</code> worker threads held by {@link BackgroundCommandsJobExecutor}.
+     */
+    private List<CommandAndResult> executeConcurrently(
+            final List<CommandDto> commandDtos,
+            final InteractionContext interactionContext,
+            final int maxConcurrency) {
+
+        var commandDtosByTarget = commandDtos.stream()
+                .collect(Collectors.groupingBy(
+                        RunBackgroundCommandsJob::partitionKey,
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+        if(commandDtosByTarget.size() <= 1) {
+            return executeInSerial(commandDtos, interactionContext);
+        }
+
+        var executor = backgroundCommandsJobExecutor.executorService(maxConcurrency);
+        var futures = commandDtosByTarget.values().stream()
+                .map(partition -> executor.submit(() -> executeInSerial(partition, interactionContext)))
+                .collect(Collectors.toList());
+        List<CommandAndResult> commandResults = new ArrayList<>();
+        for (var future : futures) {
+            try {
+                commandResults.addAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.error("Failed to execute partition of background commands", e.getCause());
+            }
+        }
+        return commandResults;
+    }
+
+    /**
+     * Commands are partitioned by their (first) target; those without a target are not partitioned at all.
+     */
+    private static String partitionKey(final CommandDto commandDto) {
+        var targets = commandDto.getTargets();
+        return targets != null
+                && !targets.getOid().isEmpty()
+                ? Bookmark.forOidDto(targets.getOid().get(0)).stringify()
+                : commandDto.getInteractionId();
+    }
+
+    /**
+     * If so configured, claims the command for execution (within its own transaction), so that it is not also
+     * executed by another node.
+     *
+     * <p>
+     *     If a claim timeout is configured, then also reclaims the command if it was claimed before but then stranded,
+     *     ie. if still not completed after the timeout.
+     * </p>
+     *
+     * @return whether the command should be executed
+     */
+    private boolean claimIfRequired(final CommandDto commandDto, final InteractionContext interactionContext) {
+        if(!runBackgroundCommandsConfig().isClaimBeforeExecution()) {
+            return true;
+        }
+        return interactionService.callAndCatch(interactionContext, () ->
+                transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+                    var interactionId = UUID.fromString(commandDto.getInteractionId());
+                    var now = clockService.getClock().nowAsJavaSqlTimestamp();
+                    return strandedIfStartedBefore(now)
+                            .map(startedBefore ->
+                                commandLogEntryRepository.claimBackgroundNotYetStartedOrStranded(interactionId, now, startedBefore))
+                            .orElseGet(() ->
+                                commandLogEntryRepository.claimBackgroundNotYetStarted(interactionId, now));
+                })
+                .ifFailureFail()
+                .valueAsNonNullElseFail()
+            )
+            .ifFailure(throwable -> log.warn("Failed to claim command, skipping: " + commandDto.getInteractionId(), throwable))
+            .getValue()
+            .orElse(false);
+    }
+
+    /**
+     * The time before which any claimed, but not completed command is considered stranded, if claims are made
+     * and time out.
+     */
+    private Optional<java.sql.Timestamp> strandedIfStartedBefore(final java.sql.Timestamp now) {
+        var config = runBackgroundCommandsConfig();
+        var claimTimeout = config.getClaimTimeout();
+        if(!config.isClaimBeforeExecution()
+                || claimTimeout == null
+                || claimTimeout.isZero()
+                || claimTimeout.isNegative()) {
+            return Optional.empty();
+        }
+        return Optional.of(new java.sql.Timestamp(now.getTime() - claimTimeout.toMillis()));
+    }
+
+    private void releaseClaimIfRequired(final CommandDto commandDto, final InteractionContext interactionContext) {
+        if(!runBackgroundCommandsConfig().isClaimBeforeExecution()) {
+            return;
+        }
+        interactionService.runAndCatch(interactionContext, () ->
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, () ->
+                    commandLogEntryRepository.releaseClaim(UUID.fromString(commandDto.getInteractionId()))
+                )
+                .ifFailureFail()
+            )
+            .ifFailure(throwable -> log.error("Failed to release claim on command: " + commandDto.getInteractionId(), throwable));
+    }
+
+    private CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands runBackgroundCommandsConfig() {
+        return causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+    }
+
     @Getter
     @RequiredArgsConstructor(staticName = "of")
     static class CommandAndResult {
@@ -138,15 +270,32 @@ static class CommandAndResult {
         private final Try<?> executionResult;
     }
 
+    /**
+     * Those commands not yet started, along with any that were claimed but then stranded (if claims time out),
+     * in the order they were created.
+     */
     private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
         return interactionService.callAndCatch(interactionContext, () ->
-            transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
-                commandLogEntryRepository.findBackgroundAndNotYetStarted()
-                        .stream()
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+                var batchSize = runBackgroundCommandsConfig().getBatchSize();
+                var commandLogEntries = new ArrayList<CommandLogEntry>(
+                        commandLogEntryRepository.findBackgroundAndNotYetStarted(batchSize));
+                if(commandLogEntries.size() < batchSize) {
+                    strandedIfStartedBefore(clockService.getClock().nowAsJavaSqlTimestamp())
+                        .map(startedBefore -> commandLogEntryRepository.findBackgroundAndStranded(
+                                startedBefore, batchSize - commandLogEntries.size()))
+                        .ifPresent(stranded -> {
+                            stranded.forEach(commandLogEntry ->
+                                log.warn("Found stranded command (started at {}, but not completed), will reclaim: {}",
+                                        commandLogEntry.getStartedAt(), commandLogEntry.getInteractionId()));
+                            commandLogEntries.addAll(stranded);
+                            commandLogEntries.sort(Comparator.comparing(CommandLogEntry::getTimestamp));
+                        });
+                }
+                return commandLogEntries.stream()
                         .map(CommandLogEntry::getCommandDto)
-                        .limit(causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getBatchSize())
-                        .collect(Collectors.toList())
-                )
+                        .collect(Collectors.toList());
+                })
                 .ifFailureFail()
                 .valueAsNonNullElseFail()
             )
@@ -196,13 +345,15 @@ private Try<?> executeCommandWithinTransaction(
         }
 
         // a failure has occurred
-        var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
+        var onFailurePolicy = runBackgroundCommandsConfig().getOnFailurePolicy();
         switch (onFailurePolicy) {
             case CONTINUE_WITH_NEXT:
                 // the result _will_ contain a failure
                 result.ifFailure(throwable -> captureFailure(throwable, commandDto, interactionContext));
                 break;
             case STOP_THE_LINE:
+                // leave the command to be picked up again
+                releaseClaimIfRequired(commandDto, interactionContext);
                 break;
         }
         return result;
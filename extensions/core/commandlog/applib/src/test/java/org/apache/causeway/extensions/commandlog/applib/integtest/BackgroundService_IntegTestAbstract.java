@@ -210,6 +210,96 @@ void using_background_service() {
 
     }
 
+    @Test
+    void background_command_can_be_claimed_only_once_until_released() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+        var interactionId = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.findBackgroundAndNotYetStarted(10).get(0).getInteractionId()
+        ).valueAsNonNullElseFail();
+
+        // when
+        var claimedAt = new java.sql.Timestamp(System.currentTimeMillis());
+        var firstClaim = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundNotYetStarted(interactionId, claimedAt)
+        ).valueAsNonNullElseFail();
+        var secondClaim = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundNotYetStarted(interactionId, claimedAt)
+        ).valueAsNonNullElseFail();
+
+        // then
+        assertThat(firstClaim).isTrue();
+        assertThat(secondClaim).isFalse();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted(10)).isEmpty();
+        }).ifFailureFail();
+
+        // when
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            commandLogEntryRepository.releaseClaim(interactionId);
+        }).ifFailureFail();
+
+        // then
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted(10)).hasSize(1);
+        }).ifFailureFail();
+    }
+
+    @Test
+    void stranded_background_command_can_be_found_and_reclaimed() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+        var interactionId = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.findBackgroundAndNotYetStarted(10).get(0).getInteractionId()
+        ).valueAsNonNullElseFail();
+        var now = System.currentTimeMillis();
+        var claimedAt = new java.sql.Timestamp(now - 60_000);
+        transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundNotYetStarted(interactionId, claimedAt)
+        ).ifFailureFail();
+
+        // when claim not yet timed out
+        var beforeTimeout = new java.sql.Timestamp(now - 120_000);
+        var reclaimBeforeTimeout = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundNotYetStartedOrStranded(interactionId, new java.sql.Timestamp(now), beforeTimeout)
+        ).valueAsNonNullElseFail();
+
+        // then
+        assertThat(reclaimBeforeTimeout).isFalse();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndStranded(beforeTimeout, 10)).isEmpty();
+        }).ifFailureFail();
+
+        // when claim timed out
+        var afterTimeout = new java.sql.Timestamp(now - 30_000);
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndStranded(afterTimeout, 10)).hasSize(1);
+        }).ifFailureFail();
+        var firstReclaim = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundNotYetStartedOrStranded(interactionId, new java.sql.Timestamp(now), afterTimeout)
+        ).valueAsNonNullElseFail();
+        var secondReclaim = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundNotYetStartedOrStranded(interactionId, new java.sql.Timestamp(now), afterTimeout)
+        ).valueAsNonNullElseFail();
+
+        // then
+        assertThat(firstReclaim).isTrue();
+        assertThat(secondReclaim).isFalse(); // as now claimed anew
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndStranded(afterTimeout, 10)).isEmpty();
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
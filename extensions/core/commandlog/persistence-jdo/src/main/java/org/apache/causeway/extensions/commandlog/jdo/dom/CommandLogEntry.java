@@ -181,6 +181,14 @@
                   + " WHERE executeIn == 'BACKGROUND' "
                   + "    && startedAt == null "
                   + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_STRANDED,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt < :startedBefore "
+                  + "    && completedAt == null "
+                  + " ORDER BY timestamp ASC "),
     @Query(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             value = "SELECT "
@@ -18,14 +18,24 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import javax.jdo.PersistenceManager;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.datanucleus.api.jdo.JDOPersistenceManager;
+import org.datanucleus.store.rdbms.RDBMSStoreManager;
+import org.datanucleus.store.rdbms.table.DatastoreClass;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -44,6 +54,75 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Inject JdoSupportService jdoSupportService;
+
+    /**
+     * Claims using a conditional (native SQL) bulk update, so that of any concurrent claims (eg. from other nodes)
+     * at most one succeeds.
+     *
+     * <p>
+     *     JDOQL bulk updates are rejected by DataNucleus unless <code>datanucleus.query.jdoql.allowAll</code> is set,
+     *     hence the use of SQL; table and column identifiers are resolved from the DataNucleus mapping, so honour
+     *     whatever identifier case the application is configured with.
+     * </p>
+     */
+    @Override
+    public boolean claimBackgroundNotYetStarted(final UUID interactionId, final Timestamp claimedAt) {
+        var pm = jdoSupportService.getPersistenceManager();
+        if(claimSql == null) {
+            claimSql = claimSql(pm, false);
+        }
+        return executeUpdate(pm, claimSql,
+                claimedAt, interactionId.toString());
+    }
+
+    /**
+     * As per {@link #claimBackgroundNotYetStarted(UUID, Timestamp)}, using a conditional (native SQL) bulk update.
+     */
+    @Override
+    public boolean claimBackgroundNotYetStartedOrStranded(
+            final UUID interactionId, final Timestamp claimedAt, final Timestamp startedBefore) {
+        var pm = jdoSupportService.getPersistenceManager();
+        if(claimOrReclaimSql == null) {
+            claimOrReclaimSql = claimSql(pm, true);
+        }
+        return executeUpdate(pm, claimOrReclaimSql,
+                claimedAt, interactionId.toString(), startedBefore);
+    }
+
+    private static boolean executeUpdate(final PersistenceManager pm, final String sql, final Object... params) {
+        var query = pm.newQuery("javax.jdo.query.SQL", sql);
+        try {
+            var updated = (Long) query.executeWithArray(params);
+            return updated != null
+                    && updated == 1L;
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    private String claimSql;
+    private String claimOrReclaimSql;
+
+    private static String claimSql(final PersistenceManager pm, final boolean orStranded) {
+        var ec = ((JDOPersistenceManager) pm).getExecutionContext();
+        var clr = ec.getClassLoaderResolver();
+        var storeManager = (RDBMSStoreManager) ec.getStoreManager();
+        var table = storeManager.getDatastoreClass(CommandLogEntry.class.getName(), clr);
+        var startedAt = columnName(table, "startedAt");
+        return "UPDATE " + table.getIdentifier().getFullyQualifiedName(false)
+                + "   SET " + startedAt + " = ?"
+                + " WHERE " + columnName(table, "interactionId") + " = ?"
+                + (orStranded
+                    ? "   AND (" + startedAt + " IS NULL"
+                        + " OR (" + startedAt + " < ? AND " + columnName(table, "completedAt") + " IS NULL))"
+                    : "   AND " + startedAt + " IS NULL");
+    }
+
+    private static String columnName(final DatastoreClass table, final String memberName) {
+        return table.getMemberMapping(memberName).getColumnMapping(0).getColumn().getIdentifier().toString();
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
@@ -187,6 +187,14 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.startedAt is null "
                   + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_STRANDED,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt < :startedBefore "
+                  + "   AND cl.completedAt is null "
+                  + " ORDER BY cl.timestamp ASC"),
         @NamedQuery(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             query = "SELECT cl "
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +30,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -44,4 +49,45 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Inject JpaSupportService jpaSupportService;
+
+    /**
+     * Claims using a conditional bulk update, so that of any concurrent claims (eg. from other nodes)
+     * at most one succeeds.
+     */
+    @Override
+    public boolean claimBackgroundNotYetStarted(final UUID interactionId, final Timestamp claimedAt) {
+        var entityManager = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class);
+        var updated = entityManager.createQuery(
+                      "UPDATE CommandLogEntry cl "
+                    + "   SET cl.startedAt = :claimedAt "
+                    + " WHERE cl.pk.interactionId = :interactionId "
+                    + "   AND cl.startedAt is null")
+                .setParameter("claimedAt", claimedAt)
+                .setParameter("interactionId", interactionId)
+                .executeUpdate();
+        return updated == 1;
+    }
+
+    /**
+     * Claims using a conditional bulk update, so that of any concurrent claims (eg. from other nodes)
+     * at most one succeeds.
+     */
+    @Override
+    public boolean claimBackgroundNotYetStartedOrStranded(
+            final UUID interactionId, final Timestamp claimedAt, final Timestamp startedBefore) {
+        var entityManager = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class);
+        var updated = entityManager.createQuery(
+                      "UPDATE CommandLogEntry cl "
+                    + "   SET cl.startedAt = :claimedAt "
+                    + " WHERE cl.pk.interactionId = :interactionId "
+                    + "   AND (cl.startedAt is null "
+                    + "        OR (cl.startedAt < :startedBefore AND cl.completedAt is null))")
+                .setParameter("claimedAt", claimedAt)
+                .setParameter("interactionId", interactionId)
+                .setParameter("startedBefore", startedBefore)
+                .executeUpdate();
+        return updated == 1;
+    }
+
 }
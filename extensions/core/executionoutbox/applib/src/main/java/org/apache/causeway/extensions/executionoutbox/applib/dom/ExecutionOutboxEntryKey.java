@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dom;
+
+import java.util.UUID;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+/**
+ * Identifies an {@link ExecutionOutboxEntry}, by its ({@link ExecutionOutboxEntry#getInteractionId() interactionId},
+ * {@link ExecutionOutboxEntry#getSequence() sequence}) combination.
+ *
+ * <p>
+ *     Its compact string form <code>interactionId_sequence</code> is used by the REST API, both as a cursor to poll
+ *     for pending entries and to acknowledge (delete) entries in bulk.
+ * </p>
+ *
+ * @since 3.x {@index}
+ */
+public record ExecutionOutboxEntryKey(
+        UUID interactionId,
+        int sequence) {
+
+    private static final String SEPARATOR = "_";
+
+    public static ExecutionOutboxEntryKey of(final ExecutionOutboxEntry executionOutboxEntry) {
+        return new ExecutionOutboxEntryKey(executionOutboxEntry.getInteractionId(), executionOutboxEntry.getSequence());
+    }
+
+    /**
+     * Inverse of {@link #stringify()}.
+     */
+    public static ExecutionOutboxEntryKey parse(final String str) {
+        var separatorIndex = str.lastIndexOf(SEPARATOR);
+        if(separatorIndex < 0) {
+            throw _Exceptions.illegalArgument("cannot parse '%s', expected format 'interactionId%ssequence'", str, SEPARATOR);
+        }
+        return new ExecutionOutboxEntryKey(
+                UUID.fromString(str.substring(0, separatorIndex).trim()),
+                Integer.parseInt(str.substring(separatorIndex + 1).trim()));
+    }
+
+    public String stringify() {
+        return interactionId + SEPARATOR + sequence;
+    }
+
+}
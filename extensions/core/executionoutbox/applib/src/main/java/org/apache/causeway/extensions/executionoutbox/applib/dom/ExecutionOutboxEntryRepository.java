@@ -23,6 +23,8 @@
 import java.util.Optional;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
@@ -57,6 +59,23 @@ public NotFoundException(final UUID interactionId) {
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * Returns (at most) <code>limit</code> of the oldest entries, but only those that come after the entry
+     * identified by the <code>after</code> cursor.
+     *
+     * <p>
+     *     Entries are ordered by timestamp, then by interactionId (as per its canonical string form), then by
+     *     descending sequence. This order is established in memory rather than relying on how the database
+     *     orders UUIDs, so that it is the same for consecutive pages, irrespective of the database.
+     * </p>
+     *
+     * <p>
+     *     If there is no cursor, or if the entry it identifies no longer exists (eg. because it has since been
+     *     acknowledged and deleted), then the oldest entries are returned.
+     * </p>
+     */
+    List<ExecutionOutboxEntry> findOldest(final int limit, final @Nullable ExecutionOutboxEntryKey after);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -79,6 +98,12 @@ ExecutionOutboxEntry upsert(
 
     boolean deleteByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
+    /**
+     * Deletes all entries identified by the given keys (ignoring any that do not exist),
+     * returning the number of entries deleted.
+     */
+    int deleteByKeys(final List<ExecutionOutboxEntryKey> keys);
+
     /**
      * for testing purposes only
      */
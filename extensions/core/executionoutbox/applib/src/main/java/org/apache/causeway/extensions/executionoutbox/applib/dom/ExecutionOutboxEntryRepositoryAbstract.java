@@ -19,13 +19,17 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 
+import org.jspecify.annotations.Nullable;
+
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.query.Query;
@@ -105,14 +109,67 @@ public Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID
     }
 
     public List<ExecutionOutboxEntry> findOldest() {
+        return findOldest(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending());
+    }
+
+    public List<ExecutionOutboxEntry> findOldest(final int limit, final @Nullable ExecutionOutboxEntryKey after) {
+        var afterEntry = Optional.ofNullable(after)
+                .flatMap(key -> findByInteractionIdAndSequence(key.interactionId(), key.sequence()))
+                .orElse(null);
+
+        // entries are sorted in memory (see PAGING_ORDER), so we may need to fetch a few more
+        var fetchSize = limit + 1;
+        while(true) {
+            List<ExecutionOutboxEntry> candidates = _Casts.uncheckedCast(
+                    repositoryService().allMatches(afterEntry != null
+                        ? Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST_SINCE)
+                                .withParameter("timestamp", afterEntry.getTimestamp())
+                                .withLimit(fetchSize)
+                        : Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
+                                .withLimit(fetchSize))
+            );
+            var isComplete = candidates.size() < fetchSize;
+            // unless complete, the entries sharing the latest timestamp fetched might be only some of them
+            var latestTimestamp = candidates.isEmpty()
+                    ? null
+                    : candidates.get(candidates.size() - 1).getTimestamp();
+            var page = candidates.stream()
+                    .filter(candidate -> isComplete || !candidate.getTimestamp().equals(latestTimestamp))
+                    .filter(candidate -> afterEntry == null || PAGING_ORDER.compare(candidate, afterEntry) > 0)
+                    .sorted(PAGING_ORDER)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            if(page.size() == limit
+                    || isComplete) {
+                return page;
+            }
+            fetchSize *= 2;
+        }
+    }
+
+    private List<ExecutionOutboxEntry> findOldest(final int limit) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
                 Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
-                        .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending())
+                        .withLimit(limit)
                 )
         );
     }
 
+    /**
+     * Order of {@link #findOldest(int, ExecutionOutboxEntryKey)}: timestamp ASC, interactionId ASC, sequence DESC.
+     *
+     * <p>
+     *     Entries are fetched from the database ordered by timestamp only (as far as relied upon), because
+     *     how UUIDs are ordered depends on the database and its column type. Comparing the interactionId by its
+     *     canonical string form instead gives an order that is consistent across pages.
+     * </p>
+     */
+    static final Comparator<ExecutionOutboxEntry> PAGING_ORDER =
+            Comparator.<ExecutionOutboxEntry, Timestamp>comparing(ExecutionOutboxEntry::getTimestamp)
+                .thenComparing(entry -> entry.getInteractionId().toString())
+                .thenComparing(ExecutionOutboxEntry::getSequence, Comparator.reverseOrder());
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -171,6 +228,17 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    /**
+     * This default implementation deletes the entries one by one; persistence specific subclasses are expected to
+     * override using a bulk delete.
+     */
+    @Programmatic
+    public int deleteByKeys(final List<ExecutionOutboxEntryKey> keys) {
+        return (int) keys.stream()
+                .filter(key -> deleteByInteractionIdAndSequence(key.interactionId(), key.sequence()))
+                .count();
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -20,18 +20,24 @@
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryKey;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 
@@ -42,6 +48,11 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     High-throughput clients should instead page through pending entries using {@link #pendingPage(Integer, String)},
+ *     and acknowledge them using {@link #deleteManyByIds(String)}.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -73,6 +84,40 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As per {@link #pending()}, but returning (at most) <code>pageSize</code> entries that come after the entry
+     * identified by the <code>after</code> cursor.
+     *
+     * <p>
+     *     This allows a client to fetch the next page while still acknowledging the previous one.  The cursor
+     *     takes the compact form <code>interactionId_sequence</code> (see {@link ExecutionOutboxEntryKey}) of the
+     *     last entry of the previous page.  If omitted, or if that entry has since been deleted, then the oldest
+     *     entries are returned.
+     * </p>
+     *
+     * @param pageSize - if omitted, or greater than the configured maximum, then that maximum is used instead.
+     * @param after - optional cursor
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingPage(
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer pageSize,
+            @Parameter(optionality = Optionality.OPTIONAL) final String after) {
+        var maxPending = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending();
+        var limit = pageSize != null
+                ? Math.max(1, Math.min(pageSize, maxPending))
+                : maxPending;
+        var cursor = _Strings.isNullOrEmpty(after)
+                ? null
+                : ExecutionOutboxEntryKey.parse(after);
+        var outboxEvents = factoryService.viewModel(new OutboxEvents());
+        outboxEvents.getExecutions().addAll(executionOutboxEntryRepository.findOldest(limit, cursor));
+        return outboxEvents;
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -89,14 +134,33 @@ public void delete(final String interactionId, final int sequence) {
     )
     public void deleteMany(final String interactionsDtoXml) {
         var interactionsDto = InteractionsDtoUtils.dtoMapper().read(interactionsDtoXml);
-        interactionsDto.getInteractionDto().
-                forEach(interactionType -> {
-                    var interactionId = interactionType.getInteractionId();
-                    var sequence = interactionType.getExecution().getSequence();
-                    executionOutboxEntryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
-                });
+        var keys = interactionsDto.getInteractionDto().stream()
+                .map(interactionType -> new ExecutionOutboxEntryKey(
+                        UUID.fromString(interactionType.getInteractionId()),
+                        interactionType.getExecution().getSequence()))
+                .collect(Collectors.toList());
+        executionOutboxEntryRepository.deleteByKeys(keys);
+    }
+
+    /**
+     * Compact alternative to {@link #deleteMany(String)}, deleting (acknowledging) all entries in one go.
+     *
+     * @param ids - comma separated list of entry ids, each of the form <code>interactionId_sequence</code>
+     *      (see {@link ExecutionOutboxEntryKey})
+     */
+    @Action(
+            semantics = SemanticsOf.IDEMPOTENT,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public void deleteManyByIds(final String ids) {
+        var keys = _Strings.splitThenStreamTrimmed(ids, ",")
+                .map(ExecutionOutboxEntryKey::parse)
+                .collect(Collectors.toList());
+        executionOutboxEntryRepository.deleteByKeys(keys);
     }
 
     @Inject FactoryService factoryService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
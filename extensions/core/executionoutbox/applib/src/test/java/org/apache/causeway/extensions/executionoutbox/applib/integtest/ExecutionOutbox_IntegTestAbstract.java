@@ -18,9 +18,11 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import jakarta.inject.Inject;
 
@@ -41,6 +43,7 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryKey;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.CounterRepository;
@@ -276,6 +279,42 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void deleteByKeys() {
+
+        // given
+        wrapperFactory.wrap(counter1).bumpUsingDeclaredAction();
+        interactionService.nextInteraction();
+        wrapperFactory.wrap(counter2).bumpUsingDeclaredAction();
+        interactionService.nextInteraction();
+        wrapperFactory.wrap(counter1).setNum(99L);
+        interactionService.nextInteraction();
+
+        var keys = executionOutboxEntryRepository.findOldest().stream()
+                .map(ExecutionOutboxEntryKey::of)
+                .toList();
+        assertThat(keys).hasSize(3);
+
+        // more keys than fit into a single bulk delete statement, most of which do not exist
+        var keysToDelete = new ArrayList<ExecutionOutboxEntryKey>();
+        keysToDelete.add(keys.get(0));
+        IntStream.range(0, 600)
+            .mapToObj(i->new ExecutionOutboxEntryKey(UUID.randomUUID(), i))
+            .forEach(keysToDelete::add);
+        keysToDelete.add(keys.get(2));
+
+        // when
+        var deleted = executionOutboxEntryRepository.deleteByKeys(keysToDelete);
+        interactionService.nextInteraction();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(executionOutboxEntryRepository.findOldest().stream()
+                .map(ExecutionOutboxEntryKey::of)
+                .toList())
+            .containsExactly(keys.get(1));
+    }
+
     @Inject ExecutionOutboxEntryRepository executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -68,6 +68,12 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_OLDEST_SINCE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp >= :timestamp "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"), // programmatic range
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -18,6 +18,13 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.jdo.Query;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
 
@@ -27,7 +34,11 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.IndexedConsumer;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryKey;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
 
@@ -38,6 +49,11 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    /**
+     * Maximum number of keys per bulk delete statement (2 query parameters each).
+     */
+    static final int DELETE_CHUNK_SIZE = 250;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -53,6 +69,40 @@ public ExecutionOutboxEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    @Inject JdoSupportService jdoSupportService;
+
+    /**
+     * Deletes using a single bulk delete (of a JDOQL filter query) per chunk of keys.
+     *
+     * <p>
+     *     Single-string JDOQL <code>DELETE</code> statements are not supported by DataNucleus (unless
+     *     <code>datanucleus.query.jdoql.allowAll</code> is set), hence uses {@link Query#deletePersistentAll(Map)}.
+     * </p>
+     */
+    @Override
+    public int deleteByKeys(final List<ExecutionOutboxEntryKey> keys) {
+        var pm = jdoSupportService.getPersistenceManager();
+        var deleted = 0L;
+        for (var chunk : Can.ofCollection(keys).partitionInnerBound(DELETE_CHUNK_SIZE)) {
+            var filter = new StringBuilder();
+            var parameters = new HashMap<String, Object>();
+            chunk.forEach(IndexedConsumer.zeroBased((index, key) -> {
+                filter.append(index == 0 ? "" : " || ")
+                     .append("(interactionId == :interactionId").append(index)
+                     .append(" && sequence == :sequence").append(index).append(")");
+                parameters.put("interactionId" + index, key.interactionId());
+                parameters.put("sequence" + index, key.sequence());
+            }));
+            var query = pm.newQuery(ExecutionOutboxEntry.class, filter.toString());
+            try {
+                deleted += query.deletePersistentAll(parameters);
+            } finally {
+                query.closeAll();
+            }
+        }
+        return (int) deleted;
+    }
+
     @Override
     protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.HashMap;
+import java.util.List;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
 
@@ -27,7 +31,11 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.IndexedConsumer;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryKey;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
 
@@ -38,6 +46,11 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    /**
+     * Maximum number of keys per bulk delete statement (2 query parameters each).
+     */
+    static final int DELETE_CHUNK_SIZE = 250;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -53,6 +66,32 @@ public ExecutionOutboxEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    @Inject JpaSupportService jpaSupportService;
+
+    /**
+     * Deletes using a single bulk <code>DELETE</code> statement per chunk of keys.
+     */
+    @Override
+    public int deleteByKeys(final List<ExecutionOutboxEntryKey> keys) {
+        var entityManager = jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class);
+        var deleted = 0;
+        for (var chunk : Can.ofCollection(keys).partitionInnerBound(DELETE_CHUNK_SIZE)) {
+            var where = new StringBuilder();
+            var parameters = new HashMap<String, Object>();
+            chunk.forEach(IndexedConsumer.zeroBased((index, key) -> {
+                where.append(index == 0 ? "" : " OR ")
+                     .append("(ele.pk.interactionId = :interactionId").append(index)
+                     .append(" AND ele.pk.sequence = :sequence").append(index).append(")");
+                parameters.put("interactionId" + index, key.interactionId());
+                parameters.put("sequence" + index, key.sequence());
+            }));
+            var query = entityManager.createQuery("DELETE FROM ExecutionOutboxEntry ele WHERE " + where);
+            parameters.forEach(query::setParameter);
+            deleted += query.executeUpdate();
+        }
+        return deleted;
+    }
+
     @Override
     protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
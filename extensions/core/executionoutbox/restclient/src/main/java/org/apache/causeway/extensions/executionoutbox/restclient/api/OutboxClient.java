@@ -22,16 +22,22 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.MediaType;
 
+import org.jspecify.annotations.Nullable;
+
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.io.JsonUtils;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.delete.DeleteMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteMany.DeleteManyMessage;
+import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteManyByIds.DeleteManyByIdsMessage;
 import org.apache.causeway.schema.common.v2.InteractionType;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
@@ -130,6 +136,63 @@ public List<InteractionDto> pending() {
                 .orElseGet(Collections::emptyList);
     }
 
+    /**
+     * Returns (at most) <code>pageSize</code> pending interactions, that come after the one identified by the
+     * <code>after</code> cursor (as obtained using {@link #idOf(InteractionDto)}), or the oldest if <code>null</code>.
+     */
+    public List<InteractionDto> pending(final int pageSize, final @Nullable String after) {
+
+        var target = client.getJaxRsClient()
+                .target(client.uri(outboxClientConfig.getPendingPageUri()))
+                .queryParam("pageSize", pageSize);
+        if(after != null) {
+            target = target.queryParam("after", after);
+        }
+        var response = target.request()
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class))
+                .get();
+
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
+
+    /**
+     * Processes all pending interactions, page by page, acknowledging (deleting) each page once processed.
+     *
+     * <p>
+     *     The acknowledgement of each page is pipelined with fetching the next one, using the
+     *     {@link #idOf(InteractionDto) id} of the last interaction of the previous page as the cursor.
+     *     If the <code>processor</code> throws an exception, then processing stops (any outstanding acknowledgement
+     *     is still completed) and the exception is propagated; the page that failed is not acknowledged.
+     * </p>
+     *
+     * @return the number of interactions processed
+     */
+    public int processPending(final int pageSize, final Consumer<List<InteractionDto>> processor) {
+        var processed = 0;
+        CompletableFuture<Void> acknowledgement = CompletableFuture.completedFuture(null);
+        try {
+            var page = pending(pageSize, null);
+            while(!page.isEmpty()) {
+                processor.accept(page);
+                processed += page.size();
+
+                var processedPage = page;
+                acknowledgement.join();
+                acknowledgement = CompletableFuture.runAsync(() -> deleteManyByIds(processedPage));
+
+                page = pending(pageSize, idOf(processedPage.get(processedPage.size() - 1)));
+            }
+        } finally {
+            acknowledgement.join();
+        }
+        return processed;
+    }
+
     public void delete(final String interactionId, final int sequence) {
         invoke(outboxClientConfig.getDeleteUri(),
                 new DeleteMessage(interactionId, sequence));
@@ -144,6 +207,25 @@ public void deleteMany(final List<InteractionDto> interactionDtos) {
                 new DeleteManyMessage(InteractionsDtoUtils.dtoMapper().toString(interactionsDto)));
     }
 
+    /**
+     * Compact alternative to {@link #deleteMany(List)}, sending just the {@link #idOf(InteractionDto) id}s.
+     */
+    public void deleteManyByIds(final List<InteractionDto> interactionDtos) {
+        var ids = interactionDtos.stream()
+                .map(OutboxClient::idOf)
+                .collect(Collectors.joining(","));
+        invoke(outboxClientConfig.getDeleteManyByIdsUri(),
+                new DeleteManyByIdsMessage(ids));
+    }
+
+    /**
+     * The compact id of the outbox entry corresponding to given interaction, of the form
+     * <code>interactionId_sequence</code>.
+     */
+    public static String idOf(final InteractionDto interactionDto) {
+        return interactionDto.getInteractionId() + "_" + interactionDto.getExecution().getSequence();
+    }
+
     // -- HELPER
 
     private void addTo(final InteractionsDto interactionsDto, final InteractionDto orig) {
@@ -39,12 +39,23 @@
 public class OutboxClientConfig {
 
     @XmlElement(name="pendingUri")
+    @Builder.Default
     private String pendingUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pending/invoke";
 
     @XmlElement(name="deleteUri")
+    @Builder.Default
     private String deleteUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/delete/invoke";
 
     @XmlElement(name="deleteManyUri")
+    @Builder.Default
     private String deleteManyUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/deleteMany/invoke";
 
+    @XmlElement(name="pendingPageUri")
+    @Builder.Default
+    private String pendingPageUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pendingPage/invoke";
+
+    @XmlElement(name="deleteManyByIdsUri")
+    @Builder.Default
+    private String deleteManyByIdsUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/deleteManyByIds/invoke";
+
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.executionoutbox.restclient.integtests;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -253,6 +254,41 @@ void scenario() {
 
     }
 
+    @Test
+    void process_pending_in_pages() {
+
+        // given
+        interactionService.runAnonymous(() -> {
+            counter1 = counterRepository.findByName("counter-1");
+            counter2 = counterRepository.findByName("counter-2");
+
+            bump(counter1, 15);
+            bump(counter2, 10);
+        });
+
+        // when
+        List<InteractionDto> firstPage = outboxClient.pending(10, null);
+        List<InteractionDto> secondPage = outboxClient.pending(10, OutboxClient.idOf(firstPage.get(9)));
+
+        // then
+        assertThat(firstPage).hasSize(10);
+        assertThat(secondPage).hasSize(10);
+        assertThat(secondPage).extracting(OutboxClient::idOf)
+                .doesNotContainAnyElementsOf(firstPage.stream().map(OutboxClient::idOf).toList());
+
+        // when
+        List<String> processedIds = new ArrayList<>();
+        int processed = outboxClient.processPending(10, page -> page.stream().map(OutboxClient::idOf).forEach(processedIds::add));
+
+        // then
+        assertThat(processed).isEqualTo(25);
+        assertThat(processedIds).doesNotHaveDuplicates();
+        interactionService.runAnonymous(() -> {
+            List<? extends ExecutionOutboxEntry> all = repositoryService.allInstances(org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry.class);
+            assertThat(all).isEmpty(); // all acknowledged
+        });
+    }
+
     private void bump(final org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter counter, final int numberOfTimes) {
         IntStream.range(0, numberOfTimes).forEach(x -> {
             wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter).act();
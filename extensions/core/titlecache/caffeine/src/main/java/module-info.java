@@ -17,6 +17,8 @@
  *  under the License.
  */
 module org.apache.causeway.extensions.titlecache.caffeine {
+    exports org.apache.causeway.extensions.titlecache.caffeine;
+    exports org.apache.causeway.extensions.titlecache.caffeine.dom;
 
     requires static lombok;
     requires spring.beans;
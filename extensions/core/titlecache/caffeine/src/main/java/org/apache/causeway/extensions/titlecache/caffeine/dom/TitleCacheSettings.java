@@ -0,0 +1,84 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.titlecache.caffeine.dom;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apache.causeway.applib.events.EventObjectBase;
+import org.apache.causeway.core.metamodel.facets.object.domainobjectlayout.TitleFacetViaDomainObjectLayoutAnnotationUsingTitleUiEvent;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.extensions.titlecache.applib.event.Cached;
+import org.apache.causeway.extensions.titlecache.applib.event.CachedWithCacheSettings;
+
+/**
+ * Cache settings for an entity type whose title is to be cached,
+ * as derived from the metamodel.
+ *
+ * <p>
+ *     An entity type qualifies, if its {@link org.apache.causeway.applib.annotation.DomainObjectLayout#titleUiEvent()}
+ *     implements {@link Cached}. Settings are taken from the event class, if it implements
+ *     {@link CachedWithCacheSettings}, otherwise given defaults apply.
+ * </p>
+ *
+ * @since 3.x {@index}
+ */
+public record TitleCacheSettings(
+        String logicalTypeName,
+        int expiryDurationInMinutes,
+        int maxSizeInEntries) {
+
+    /**
+     * Settings for all entity types (known to the metamodel), whose title is to be cached.
+     */
+    public static Stream<TitleCacheSettings> streamAll(
+            final SpecificationLoader specificationLoader,
+            final int defaultExpiryDurationInMinutes,
+            final int defaultMaxSizeInEntries) {
+        return specificationLoader.snapshotSpecifications().stream()
+                .map(spec->lookup(spec, defaultExpiryDurationInMinutes, defaultMaxSizeInEntries))
+                .flatMap(Optional::stream);
+    }
+
+    public static Optional<TitleCacheSettings> lookup(
+            final ObjectSpecification spec,
+            final int defaultExpiryDurationInMinutes,
+            final int defaultMaxSizeInEntries) {
+        if(!spec.isEntity()) return Optional.empty();
+        return spec.lookupFacet(TitleFacet.class)
+                .filter(TitleFacetViaDomainObjectLayoutAnnotationUsingTitleUiEvent.class::isInstance)
+                .map(TitleFacetViaDomainObjectLayoutAnnotationUsingTitleUiEvent.class::cast)
+                .map(TitleFacetViaDomainObjectLayoutAnnotationUsingTitleUiEvent::getTitleUiEventClass)
+                .filter(Cached.class::isAssignableFrom)
+                .map(titleUiEventClass->{
+                    var settings = EventObjectBase.getInstanceWithSourceSupplier(titleUiEventClass, null)
+                            .filter(CachedWithCacheSettings.class::isInstance)
+                            .map(CachedWithCacheSettings.class::cast);
+                    return new TitleCacheSettings(
+                            spec.logicalTypeName(),
+                            settings.map(CachedWithCacheSettings::expiryDurationInMinutes)
+                                .orElse(defaultExpiryDurationInMinutes),
+                            settings.map(CachedWithCacheSettings::maxSizeInEntries)
+                                .orElse(defaultMaxSizeInEntries));
+                });
+    }
+
+}
@@ -37,6 +37,7 @@
 
 import org.apache.causeway.applib.CausewayModuleApplib;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelEvent;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.metamodel.BeanSort;
@@ -94,10 +95,9 @@ public TitleCacheSubscriber(
      * cache.
      *
      * <p>
-     *     Note that the cache is only lazily created when the first request to lookup an entry (in
-     *     {@link #on(CausewayModuleApplib.TitleUiEvent)}) is called, so there will always be at least one cache miss
-     *     per logical type name).  (An alternative design would have been to scan for all implementations of
-     *     {@link CachedWithCacheSettings} during bootstrap).
+     *     Caches are created eagerly, once the metamodel is fully introspected
+     *     (see {@link #onMetamodelEvent(MetamodelEvent)}); any type not known at that point
+     *     gets its cache created lazily by {@link #on(CausewayModuleApplib.TitleUiEvent)}.
      * </p>
      *
      * @param bookmark
@@ -112,6 +112,42 @@ public void entityTitleIs(final Bookmark bookmark, final String title) {
         cache.put(bookmark, title);
     }
 
+    /**
+     * Implementation of {@link EntityTitleSubscriber}, evicts the title of an entity that is about to be updated
+     * or deleted, rather than serving a stale title until the entry expires.
+     *
+     * @param bookmark
+     */
+    @Override
+    public void entityTitleInvalidated(final Bookmark bookmark) {
+        var cache = cacheByLogicalTypeName.get(bookmark.getLogicalTypeName());
+        if(cache == null) {
+            return;
+        }
+        cache.evict(bookmark);
+    }
+
+    /**
+     * Creates a cache for every entity type whose title is to be cached, as soon as the metamodel is available,
+     * so that titles are cached from the very first lookup.
+     *
+     * @param ev
+     */
+    @EventListener(MetamodelEvent.class)
+    public void onMetamodelEvent(final MetamodelEvent ev) {
+        if(!ev.isPostMetamodel()) {
+            return;
+        }
+        var titlecacheConfig = causewayConfiguration.getExtensions().getTitlecache().getCaffeine();
+        TitleCacheSettings.streamAll(specificationLoader,
+                    titlecacheConfig.getExpiryDurationInMinutes(), titlecacheConfig.getMaxSizeInEntries())
+            .forEach(settings -> {
+                isCachedByLogicalTypeName.put(settings.logicalTypeName(), true);
+                cacheByLogicalTypeName.computeIfAbsent(settings.logicalTypeName(),
+                        ltn -> addCache(ltn, settings.expiryDurationInMinutes(), settings.maxSizeInEntries()));
+            });
+    }
+
     /**
      * Listens on {@link org.apache.causeway.applib.CausewayModuleApplib.TitleUiEvent}s, and obtains a previously
      * computed title for the bookmark, if any.
@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.titlecache.jcache;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import org.apache.causeway.extensions.titlecache.applib.CausewayModuleExtTitlecacheApplib;
+import org.apache.causeway.extensions.titlecache.jcache.dom.JCacheTitleCacheSubscriber;
+
+/**
+ * Caches titles in a JCache (JSR-107) store, which - depending on the provider on the classpath
+ * (eg. Hazelcast, Infinispan or Ehcache) - can be shared by all nodes of a cluster.
+ *
+ * <p>
+ *     Use either this module or {@link org.apache.causeway.extensions.titlecache.caffeine.CausewayModuleExtTitlecacheCaffeine},
+ *     not both.
+ * </p>
+ *
+ * @since 3.x {@index}
+ */
+@Configuration
+@Import({
+        // modules
+        CausewayModuleExtTitlecacheApplib.class,
+
+        // services
+        JCacheTitleCacheSubscriber.class
+})
+public class CausewayModuleExtTitlecacheJcache {
+
+    public static final String NAMESPACE = "causeway.ext.titlecache.jcache";
+
+    /**
+     * The provider's default {@link CacheManager}, unless the application provides its own.
+     */
+    @Bean
+    @ConditionalOnMissingBean(CacheManager.class)
+    public CacheManager titlecacheJCacheManager() {
+        return Caching.getCachingProvider().getCacheManager();
+    }
+}
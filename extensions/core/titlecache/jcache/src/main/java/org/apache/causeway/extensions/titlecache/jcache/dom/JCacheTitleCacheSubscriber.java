@@ -0,0 +1,317 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.titlecache.jcache.dom;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheException;
+import javax.cache.CacheManager;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.ModifiedExpiryPolicy;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.CausewayModuleApplib;
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelEvent;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.metamodel.spi.EntityTitleSubscriber;
+import org.apache.causeway.extensions.titlecache.applib.event.Cached;
+import org.apache.causeway.extensions.titlecache.caffeine.dom.TitleCacheSettings;
+import org.apache.causeway.extensions.titlecache.jcache.CausewayModuleExtTitlecacheJcache;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds a cache for each entity type that indicates its title should be cached, made up of a
+ * shared JCache store (one cache per logical type name) and an in-process near cache in front of it.
+ *
+ * <p>
+ *     Titles computed on any node are put into the shared store, so are available to all other nodes
+ *     (assuming a distributed JCache provider). Titles of entities that are updated or deleted are removed
+ *     from the shared store; such removals in turn evict the entry from the near cache of every node
+ *     that registered for them.
+ * </p>
+ *
+ * @since 3.x {@index}
+ */
+@Service
+@Named(JCacheTitleCacheSubscriber.LOGICAL_TYPE_NAME)
+@jakarta.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("JCache")
+@Log4j2
+public class JCacheTitleCacheSubscriber implements EntityTitleSubscriber {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtTitlecacheJcache.NAMESPACE + ".JCacheTitleCacheSubscriber";
+    static final String CACHE_NAME_PREFIX = CausewayModuleExtTitlecacheJcache.NAMESPACE + ".";
+
+    private final CacheManager cacheManager;
+    private final BookmarkService bookmarkService;
+    private final SpecificationLoader specificationLoader;
+    private final CausewayConfiguration causewayConfiguration;
+
+    /**
+     * Empty for logical type names whose title is not to be cached.
+     */
+    private final Map<String, Optional<TitleCache>> titleCacheByLogicalTypeName = new ConcurrentHashMap<>();
+
+    @Inject
+    public JCacheTitleCacheSubscriber(
+            final CacheManager cacheManager,
+            final BookmarkService bookmarkService,
+            final SpecificationLoader specificationLoader,
+            final CausewayConfiguration causewayConfiguration
+    ) {
+        this.cacheManager = cacheManager;
+        this.bookmarkService = bookmarkService;
+        this.specificationLoader = specificationLoader;
+        this.causewayConfiguration = causewayConfiguration;
+    }
+
+    /**
+     * Creates a cache for every entity type whose title is to be cached, as soon as the metamodel is available.
+     *
+     * @param ev
+     */
+    @EventListener(MetamodelEvent.class)
+    public void onMetamodelEvent(final MetamodelEvent ev) {
+        if(!ev.isPostMetamodel()) {
+            return;
+        }
+        var config = config();
+        TitleCacheSettings.streamAll(specificationLoader, config.getExpiryDurationInMinutes(), config.getMaxSizeInEntries())
+            .forEach(settings -> titleCacheByLogicalTypeName.computeIfAbsent(settings.logicalTypeName(),
+                    ltn -> Optional.of(newTitleCache(settings))));
+    }
+
+    /**
+     * Implementation of {@link EntityTitleSubscriber}, listens to any computed titles and puts them into the relevant
+     * cache.
+     *
+     * @param bookmark
+     * @param title (untranslated)
+     */
+    @Override
+    public void entityTitleIs(final Bookmark bookmark, final String title) {
+        titleCache(bookmark.getLogicalTypeName())
+            .ifPresent(titleCache -> titleCache.put(bookmark.stringify(), title));
+    }
+
+    /**
+     * Implementation of {@link EntityTitleSubscriber}, removes the title of an entity that is about to be updated
+     * or deleted.
+     *
+     * <p>
+     *     The title is removed once more after the transaction completes, because a title computed in the
+     *     meantime (either of the uncommitted state by this transaction, or of the previous state by a concurrent
+     *     one) might have been put into the cache.
+     * </p>
+     *
+     * @param bookmark
+     */
+    @Override
+    public void entityTitleInvalidated(final Bookmark bookmark) {
+        titleCache(bookmark.getLogicalTypeName())
+            .ifPresent(titleCache -> {
+                var key = bookmark.stringify();
+                titleCache.evict(key);
+                if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(final int status) {
+                            titleCache.evict(key);
+                        }
+                    });
+                }
+            });
+    }
+
+    /**
+     * Listens on {@link org.apache.causeway.applib.CausewayModuleApplib.TitleUiEvent}s, and obtains a previously
+     * computed title for the bookmark, if any.
+     *
+     * @param ev
+     */
+    @EventListener(CausewayModuleApplib.TitleUiEvent.class)
+    public void on(final CausewayModuleApplib.TitleUiEvent<?> ev) {
+        if(!(ev instanceof Cached)) {
+            return;
+        }
+        var domainObject = ev.getSource();
+        if(domainObject == null) {
+            return;
+        }
+        bookmarkService.bookmarkFor(domainObject)
+            .ifPresent(bookmark -> titleCache(bookmark.getLogicalTypeName())
+                .flatMap(titleCache -> titleCache.get(bookmark.stringify()))
+                .ifPresent(title -> {
+                    if(log.isDebugEnabled()) {
+                        log.debug("Cache hit for title of {}", bookmark.stringify());
+                    }
+                    ev.setTitle(title);
+                }));
+    }
+
+    // -- HELPER
+
+    private CausewayConfiguration.Extensions.Titlecache.Jcache config() {
+        return causewayConfiguration.getExtensions().getTitlecache().getJcache();
+    }
+
+    /**
+     * Usually created at bootstrap; lazily otherwise (for types not yet introspected at that point).
+     */
+    private Optional<TitleCache> titleCache(final String logicalTypeName) {
+        return titleCacheByLogicalTypeName.computeIfAbsent(logicalTypeName, ltn -> {
+            var config = config();
+            return specificationLoader.specForLogicalTypeName(ltn)
+                    .flatMap(spec -> TitleCacheSettings.lookup(spec,
+                            config.getExpiryDurationInMinutes(), config.getMaxSizeInEntries()))
+                    .map(this::newTitleCache);
+        });
+    }
+
+    private TitleCache newTitleCache(final TitleCacheSettings settings) {
+        return new TitleCache(
+                sharedCache(CACHE_NAME_PREFIX + settings.logicalTypeName(), settings.expiryDurationInMinutes()),
+                config().getNearCacheExpiryDurationInSeconds(),
+                settings.maxSizeInEntries());
+    }
+
+    private javax.cache.Cache<String, String> sharedCache(final String cacheName, final int expiryDurationInMinutes) {
+        var cache = cacheManager.getCache(cacheName, String.class, String.class);
+        if(cache != null) {
+            return cache;
+        }
+        var configuration = new MutableConfiguration<String, String>()
+                .setTypes(String.class, String.class)
+                .setExpiryPolicyFactory(ModifiedExpiryPolicy.factoryOf(
+                        new Duration(TimeUnit.MINUTES, expiryDurationInMinutes)));
+        try {
+            return cacheManager.createCache(cacheName, configuration);
+        } catch (CacheException e) {
+            // created concurrently, eg. by another node
+            return cacheManager.getCache(cacheName, String.class, String.class);
+        }
+    }
+
+    /**
+     * Near cache in front of a shared cache, keyed by stringified {@link Bookmark}.
+     */
+    static final class TitleCache {
+
+        private final javax.cache.Cache<String, String> sharedCache;
+        private final com.github.benmanes.caffeine.cache.Cache<String, String> nearCache;
+
+        TitleCache(
+                final javax.cache.Cache<String, String> sharedCache,
+                final int nearCacheExpiryDurationInSeconds,
+                final int nearCacheMaxSizeInEntries) {
+            this.sharedCache = sharedCache;
+            this.nearCache = Caffeine.newBuilder()
+                    .expireAfterWrite(nearCacheExpiryDurationInSeconds, TimeUnit.SECONDS)
+                    .maximumSize(nearCacheMaxSizeInEntries)
+                    .build();
+            sharedCache.registerCacheEntryListener(new MutableCacheEntryListenerConfiguration<>(
+                    new FactoryBuilder.SingletonFactory<>(new NearCacheEvictor(nearCache)),
+                    null, /*isOldValueRequired*/false, /*isSynchronous*/true));
+        }
+
+        Optional<String> get(final String key) {
+            var title = nearCache.getIfPresent(key);
+            if(title == null) {
+                title = sharedCache.get(key);
+                if(title != null) {
+                    nearCache.put(key, title);
+                }
+            }
+            return Optional.ofNullable(title);
+        }
+
+        void put(final String key, final String title) {
+            sharedCache.put(key, title);
+            nearCache.put(key, title);
+        }
+
+        void evict(final String key) {
+            nearCache.invalidate(key);
+            sharedCache.remove(key);
+        }
+    }
+
+    /**
+     * Evicts entries from the near cache, as they are removed from (or expire in) the shared cache,
+     * including removals that originate from other nodes.
+     */
+    static final class NearCacheEvictor
+    implements
+        CacheEntryRemovedListener<String, String>,
+        CacheEntryExpiredListener<String, String>,
+        Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        // only meaningful on the node that registered the listener
+        private final transient com.github.benmanes.caffeine.cache.Cache<String, String> nearCache;
+
+        NearCacheEvictor(final com.github.benmanes.caffeine.cache.Cache<String, String> nearCache) {
+            this.nearCache = nearCache;
+        }
+
+        @Override
+        public void onRemoved(final Iterable<CacheEntryEvent<? extends String, ? extends String>> events) {
+            evict(events);
+        }
+
+        @Override
+        public void onExpired(final Iterable<CacheEntryEvent<? extends String, ? extends String>> events) {
+            evict(events);
+        }
+
+        private void evict(final Iterable<CacheEntryEvent<? extends String, ? extends String>> events) {
+            if(nearCache == null) {
+                return;
+            }
+            events.forEach(event -> nearCache.invalidate(event.getKey()));
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.titlecache.jcache.dom;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.extensions.titlecache.jcache.dom.JCacheTitleCacheSubscriber.TitleCache;
+
+/**
+ * Simulates two nodes, each with its own near cache, sharing the same (embedded) JCache store.
+ */
+class JCacheTitleCacheSubscriber_TitleCache_Test {
+
+    private CacheManager cacheManager;
+    private TitleCache node1;
+    private TitleCache node2;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = Caching.getCachingProvider().getCacheManager();
+        var sharedCache = cacheManager.createCache("titles",
+                new MutableConfiguration<String, String>().setTypes(String.class, String.class));
+        node1 = new TitleCache(sharedCache, 60, 100);
+        node2 = new TitleCache(sharedCache, 60, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.destroyCache("titles");
+    }
+
+    @Test
+    void title_put_by_one_node_is_available_to_other() {
+        node1.put("customer:1", "Fred");
+
+        assertThat(node2.get("customer:1")).hasValue("Fred");
+    }
+
+    @Test
+    void title_evicted_by_one_node_is_evicted_from_near_cache_of_other() {
+        node1.put("customer:1", "Fred");
+        assertThat(node2.get("customer:1")).hasValue("Fred"); // now held by node2's near cache
+
+        node1.evict("customer:1");
+
+        assertThat(node2.get("customer:1")).isEmpty();
+    }
+
+}
@@ -22,6 +22,7 @@
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,8 +34,10 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 
 /**
@@ -48,6 +51,8 @@
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<E> auditTrailEntryClass;
 
@@ -66,9 +71,25 @@ public AuditTrailEntry createFor(final EntityPropertyChange change) {
         return repositoryService.persistAndFlush(entry);
     }
 
+    /**
+     * Persists the entries in bulk, flushing every
+     * {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.AuditTrail#getBatchSize() batch size}
+     * entries, so that each flush can be sent to the database as a single JDBC batch.
+     */
     @Override
-    public Can<AuditTrailEntry> createFor(Can<EntityPropertyChange> entityPropertyChanges) {
-        return Can.ofCollection(repositoryService.execInBulk(() -> entityPropertyChanges.map(this::createFor).toList()));
+    public Can<AuditTrailEntry> createFor(final Can<EntityPropertyChange> entityPropertyChanges) {
+        var batchSize = causewayConfiguration.getExtensions().getAuditTrail().getBatchSize();
+        return Can.ofCollection(repositoryService.execInBulk(() -> {
+            var entries = new ArrayList<AuditTrailEntry>(entityPropertyChanges.size());
+            for (var change : entityPropertyChanges) {
+                entries.add(createFor(change)); // not flushed while in bulk
+                if(batchSize > 0
+                        && entries.size() % batchSize == 0) {
+                    transactionService.flushTransaction();
+                }
+            }
+            return entries;
+        }));
     }
 
     public Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target) {
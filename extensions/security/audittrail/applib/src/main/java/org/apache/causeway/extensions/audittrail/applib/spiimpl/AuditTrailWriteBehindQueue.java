@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded buffer of {@link EntityPropertyChange}s, written to the audit trail in batches by a background worker,
+ * each batch in a transaction of its own.
+ *
+ * <p>
+ *     Only used if write-behind is
+ *     {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.AuditTrail.WriteBehind#isEnabled() enabled}.
+ * </p>
+ *
+ * @since 3.x {@index}
+ */
+@Service
+@Named(AuditTrailWriteBehindQueue.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AuditTrailWriteBehindQueue {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtAuditTrailApplib.NAMESPACE + ".AuditTrailWriteBehindQueue";
+
+    /**
+     * How long the worker waits for work, before re-checking whether it has been shut down.
+     */
+    private static final long POLL_MILLIS = 100;
+
+    private final boolean enabled;
+    private final BlockingQueue<EntityPropertyChange> queue;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Consumer<Can<EntityPropertyChange>> writer;
+    private final ExecutorService worker;
+
+    private volatile boolean shutdown;
+
+    @Inject
+    public AuditTrailWriteBehindQueue(
+            final CausewayConfiguration causewayConfiguration,
+            final AuditTrailEntryRepository auditTrailEntryRepository,
+            final InteractionService interactionService,
+            final TransactionService transactionService) {
+        this(causewayConfiguration.getExtensions().getAuditTrail(),
+                changes -> interactionService.runAnonymous(() ->
+                    transactionService.runTransactional(Propagation.REQUIRES_NEW,
+                            () -> auditTrailEntryRepository.createFor(changes))
+                    .ifFailureFail()));
+    }
+
+    AuditTrailWriteBehindQueue(
+            final CausewayConfiguration.Extensions.AuditTrail config,
+            final Consumer<Can<EntityPropertyChange>> writer) {
+        var writeBehind = config.getWriteBehind();
+        this.enabled = writeBehind.isEnabled();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, writeBehind.getQueueCapacity()));
+        this.batchSize = config.getBatchSize() > 0 ? config.getBatchSize() : Integer.MAX_VALUE;
+        this.offerTimeout = writeBehind.getOfferTimeout();
+        this.writer = writer;
+        this.worker = enabled
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    var thread = new Thread(runnable, "causeway-audittrail-write-behind");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!enabled) return;
+        worker.execute(this::drainLoop);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the given property changes for writing, waiting for space (up to the configured offer timeout)
+     * if the buffer is full.
+     *
+     * @return those property changes that could not be queued, and so must be written by the caller
+     */
+    public Can<EntityPropertyChange> offer(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if(!enabled || shutdown) {
+            return entityPropertyChanges;
+        }
+        var deadline = System.nanoTime() + offerTimeout.toNanos();
+        var changes = entityPropertyChanges.toList();
+        for (int i = 0; i < changes.size(); i++) {
+            try {
+                var remaining = Math.max(0L, deadline - System.nanoTime());
+                if(!queue.offer(changes.get(i), remaining, TimeUnit.NANOSECONDS)) {
+                    log.warn("audit trail write-behind buffer full, writing {} entries synchronously",
+                            changes.size() - i);
+                    return Can.ofCollection(changes.subList(i, changes.size()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Can.ofCollection(changes.subList(i, changes.size()));
+            }
+        }
+        return Can.empty();
+    }
+
+    /**
+     * Number of property changes currently buffered.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(!enabled) return;
+        shutdown = true;
+        // not interrupting the worker, so that any batch it has already taken off the queue is written in full
+        worker.shutdown();
+        try {
+            if(!worker.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("audit trail write-behind worker did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // anything still queued is written here
+        drainOnce();
+    }
+
+    // -- HELPER
+
+    private void drainLoop() {
+        while(!shutdown) {
+            try {
+                var first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue; // no work yet, re-check for shutdown
+                }
+                var batch = new ArrayList<EntityPropertyChange>();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void drainOnce() {
+        var batch = new ArrayList<EntityPropertyChange>();
+        while(queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch = new ArrayList<>();
+        }
+    }
+
+    private void write(final List<EntityPropertyChange> batch) {
+        try {
+            writer.accept(Can.ofCollection(batch));
+        } catch (Exception e) {
+            log.error("failed to write {} audit trail entries", batch.size(), e);
+        }
+    }
+
+}
@@ -28,6 +28,9 @@
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
@@ -60,6 +63,7 @@ public class EntityPropertyChangeSubscriberForAuditTrail implements EntityProper
     final TransactionService transactionService;
     final AuditTrailEntryRepository auditTrailEntryRepository;
     final CausewayConfiguration causewayConfiguration;
+    final AuditTrailWriteBehindQueue writeBehindQueue;
 
     @Override
     public boolean isEnabled() {
@@ -71,15 +75,51 @@ public void onChanging(final EntityPropertyChange entityPropertyChange) {
         if (!isEnabled()) {
             return;
         }
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindOnceCommitted(Can.of(entityPropertyChange));
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChange);
     }
 
     @Override
-    public void onChanging(Can<EntityPropertyChange> entityPropertyChanges) {
+    public void onChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
         if (!isEnabled()) {
             return;
         }
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindOnceCommitted(entityPropertyChanges);
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChanges);
     }
 
+    // -- HELPER
+
+    /**
+     * Only changes of committed transactions are queued; any that don't fit into the queue are written right away,
+     * in a transaction of their own.
+     */
+    private void writeBehindOnceCommitted(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeBehind(entityPropertyChanges);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeBehind(entityPropertyChanges);
+            }
+        });
+    }
+
+    private void writeBehind(final Can<EntityPropertyChange> entityPropertyChanges) {
+        var notQueued = writeBehindQueue.offer(entityPropertyChanges);
+        if (notQueued.isNotEmpty()) {
+            transactionService.runTransactional(Propagation.REQUIRES_NEW,
+                    () -> auditTrailEntryRepository.createFor(notQueued))
+            .ifFailureFail();
+        }
+    }
+
 }
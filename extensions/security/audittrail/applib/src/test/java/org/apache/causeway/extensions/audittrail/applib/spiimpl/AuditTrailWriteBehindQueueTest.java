@@ -0,0 +1,152 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.SneakyThrows;
+
+class AuditTrailWriteBehindQueueTest {
+
+    private final List<Can<EntityPropertyChange>> written = new CopyOnWriteArrayList<>();
+    private AuditTrailWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if(queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void when_disabled_nothing_is_queued() {
+        queue = new AuditTrailWriteBehindQueue(config(false, 10, 10), written::add);
+        queue.init();
+
+        var changes = changes(3);
+
+        assertThat(queue.offer(changes).toList()).isEqualTo(changes.toList());
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void queued_changes_are_written_in_batches() {
+        var latch = new CountDownLatch(1);
+        queue = new AuditTrailWriteBehindQueue(config(true, 100, 2), batch -> {
+            written.add(batch);
+            if(written.stream().mapToInt(Can::size).sum() == 5) {
+                latch.countDown();
+            }
+        });
+        queue.init();
+
+        assertThat(queue.offer(changes(5)).toList()).isEmpty();
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(written).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(2));
+    }
+
+    @Test
+    @SneakyThrows
+    void when_full_returns_changes_not_queued() {
+        var blockWriter = new CountDownLatch(1);
+        queue = new AuditTrailWriteBehindQueue(config(true, 2, 1), batch -> {
+            try {
+                blockWriter.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.init();
+
+        // the worker takes (at most) one change and blocks, two more fit into the buffer
+        var notQueued = queue.offer(changes(5));
+
+        assertThat(notQueued.size()).isBetween(2, 3);
+        blockWriter.countDown();
+    }
+
+    @Test
+    @SneakyThrows
+    void shutdown_completes_batch_in_flight_and_writes_remaining() {
+        var writing = new CountDownLatch(1);
+        var interrupted = new CopyOnWriteArrayList<Boolean>();
+        queue = new AuditTrailWriteBehindQueue(config(true, 100, 2), batch -> {
+            writing.countDown();
+            try {
+                Thread.sleep(200); // simulates a slow write
+            } catch (InterruptedException e) {
+                interrupted.add(true);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            written.add(batch);
+        });
+        queue.init();
+
+        assertThat(queue.offer(changes(5)).toList()).isEmpty();
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        queue.shutdown();
+        queue = null;
+
+        assertThat(interrupted).isEmpty();
+        assertThat(written.stream().mapToInt(Can::size).sum()).isEqualTo(5);
+    }
+
+    // -- HELPER
+
+    private static CausewayConfiguration.Extensions.AuditTrail config(
+            final boolean enabled, final int queueCapacity, final int batchSize) {
+        var config = new CausewayConfiguration.Extensions.AuditTrail();
+        config.setBatchSize(batchSize);
+        config.getWriteBehind().setEnabled(enabled);
+        config.getWriteBehind().setQueueCapacity(queueCapacity);
+        config.getWriteBehind().setOfferTimeout(Duration.ofMillis(50));
+        return config;
+    }
+
+    private static Can<EntityPropertyChange> changes(final int count) {
+        var interactionId = UUID.randomUUID();
+        var timestamp = new Timestamp(System.currentTimeMillis());
+        return Can.ofCollection(IntStream.range(0, count)
+                .mapToObj(i -> EntityPropertyChange.of(interactionId, i, Bookmark.forLogicalTypeNameAndIdentifier("x.Counter", "1"),
+                        "x.Counter#num", "num", "" + i, "" + (i + 1), "sven", timestamp))
+                .toList());
+    }
+
+}
@@ -83,4 +83,19 @@ public interface ApplicationTenancyEvaluator {
      */
     String disables(Object domainObject, ApplicationUser applicationUser);
 
+    /**
+     * Whether the outcome of {@link #hides(Object, ApplicationUser)} and {@link #disables(Object, ApplicationUser)}
+     * depends only on the domain object and the user, rather than on the object member being checked or on any
+     * other (eg. time or interaction dependent) state.
+     *
+     * <p>
+     *     If so, the outcome is evaluated once per user and domain entity (rather than for each of its members)
+     *     and memoized for the duration of the interaction, and optionally (as per
+     *     <code>causeway.extensions.secman.tenancy-cache.expiry-duration-in-seconds</code>) across interactions.
+     * </p>
+     */
+    default boolean isObjectLevel() {
+        return false;
+    }
+
 }
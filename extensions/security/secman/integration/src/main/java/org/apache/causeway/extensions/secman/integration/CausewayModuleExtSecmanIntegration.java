@@ -25,6 +25,7 @@
 
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman;
+import org.apache.causeway.extensions.secman.integration.facets.TenancyEvaluationCache;
 import org.apache.causeway.extensions.secman.integration.facets.TenantedAuthorizationPostProcessor;
 import org.apache.causeway.extensions.secman.integration.permissions.ApplicationFeatureIdTransformerIdentity;
 import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
@@ -44,6 +45,7 @@
         // @Component or @Service
         AuthorizorSecman.class,
         TenantedAuthorizationPostProcessor.Register.class,
+        TenancyEvaluationCache.class,
         TableColumnVisibilityServiceForSecman.class,
         ImpersonateMenuAdvisorForSecman.class, //not activated by default yet
         PermissionsEvaluationServiceForSecman.class,
@@ -18,32 +18,42 @@
  */
 package org.apache.causeway.extensions.secman.integration.authorizor;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
 
-import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.Identifier;
-import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.lifecycle.AbstractLifecycleEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectPersistedEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectRemovingEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectUpdatedEvent;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.metamodel.MetaModelService;
 import org.apache.causeway.commons.internal.base._Lazy;
-import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
 import org.apache.causeway.core.security.authorization.Authorizor;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
@@ -103,36 +113,134 @@ private boolean grants(
             final ApplicationPermissionMode permissionMode) {
 
         var userName = authentication.getUser().getName();
-        var permissionSetIfAny = cache.get()
+        return cache.get()
                 .computeIfAbsent(userName, ()->
-                applicationUserRepository
-                .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
-
-        return permissionSetIfAny
-        .map(permissionSet->permissionSet.grants(
-                ApplicationFeatureId.fromIdentifier(identifier),
-                permissionMode))
-        .orElse(false);
+                    applicationUserRepository
+                    .findByUsername(userName)
+                    .map(ApplicationUser::getPermissionSet))
+                .grants(identifier, permissionMode);
     }
 
+    /**
+     * Application scoped cache of {@link UserPermissions} by user name.
+     * <p>
+     * Invalidated as a whole (both immediately and after completion of the current transaction, if any),
+     * whenever permissions, roles or users change, as observed via lifecycle and domain events.
+     */
     @Component
     @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.PermissionCache")
-    @InteractionScope
-    static class PermissionCache implements DisposableBean {
+    static class PermissionCache {
 
-        private final Map<String, Optional<ApplicationPermissionValueSet>> permissionsByUsername = _Maps.newHashMap();
+        private final Map<String, UserPermissions> permissionsByUsername = new ConcurrentHashMap<>();
+        /** incremented on each invalidation, guards against caching permissions looked up concurrently */
+        private final AtomicLong generation = new AtomicLong();
+        private final long expiryNanos;
 
-        @Override
-        public void destroy() {
-            permissionsByUsername.clear();
+        @Inject
+        PermissionCache(final CausewayConfiguration causewayConfiguration) {
+            this(causewayConfiguration.getExtensions().getSecman().getPermissionCache().getExpiryDurationInMinutes());
+        }
+
+        PermissionCache(final int expiryDurationInMinutes) {
+            this.expiryNanos = expiryDurationInMinutes > 0
+                    ? Duration.ofMinutes(expiryDurationInMinutes).toNanos()
+                    : Long.MAX_VALUE;
         }
 
-        Optional<ApplicationPermissionValueSet> computeIfAbsent(
+        UserPermissions computeIfAbsent(
                 final @NonNull String userName,
                 final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
 
-            return permissionsByUsername.computeIfAbsent(userName, __->lookup.get());
+            var now = System.nanoTime();
+            var cached = permissionsByUsername.get(userName);
+            if(cached!=null
+                    && !cached.isExpired(now)) {
+                return cached;
+            }
+
+            var generationBeforeLookup = generation.get();
+            var loaded = new UserPermissions(lookup.get(), now, expiryNanos);
+            if(generation.get()==generationBeforeLookup) {
+                permissionsByUsername.put(userName, loaded);
+                // an invalidation might have raced the put
+                if(generation.get()!=generationBeforeLookup) {
+                    permissionsByUsername.remove(userName, loaded);
+                }
+            }
+            return loaded;
+        }
+
+        void invalidateAll() {
+            generation.incrementAndGet();
+            permissionsByUsername.clear();
+        }
+
+        @EventListener({ObjectPersistedEvent.class, ObjectUpdatedEvent.class, ObjectRemovingEvent.class})
+        public void onLifecycleEvent(final AbstractLifecycleEvent<?> ev) {
+            var source = ev.getSource();
+            if(source instanceof ApplicationPermission
+                    || source instanceof ApplicationRole
+                    || source instanceof ApplicationUser) {
+                invalidateAllNowAndAfterCompletion();
+            }
+        }
+
+        @EventListener(CausewayModuleExtSecmanApplib.ActionDomainEvent.class)
+        public void onActionDomainEvent(final CausewayModuleExtSecmanApplib.ActionDomainEvent<?> ev) {
+            if(ev.getEventPhase().isExecuted()) {
+                invalidateAllNowAndAfterCompletion();
+            }
+        }
+
+        private void invalidateAllNowAndAfterCompletion() {
+            invalidateAll();
+            // also after completion, so that concurrent lookups of not yet committed state are discarded
+            if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        invalidateAll();
+                    }
+                });
+            }
+        }
+
+    }
+
+    /**
+     * Immutable permissions of a single user, memoizing the authorization decisions per {@link Identifier}.
+     */
+    static final class UserPermissions {
+
+        private final Optional<ApplicationPermissionValueSet> permissionSetIfAny;
+        private final long loadedAtNanos;
+        private final long expiryNanos;
+        private final Map<Identifier, Boolean> viewingByIdentifier = new ConcurrentHashMap<>();
+        private final Map<Identifier, Boolean> changingByIdentifier = new ConcurrentHashMap<>();
+
+        UserPermissions(
+                final Optional<ApplicationPermissionValueSet> permissionSetIfAny,
+                final long loadedAtNanos,
+                final long expiryNanos) {
+            this.permissionSetIfAny = permissionSetIfAny;
+            this.loadedAtNanos = loadedAtNanos;
+            this.expiryNanos = expiryNanos;
+        }
+
+        boolean grants(final Identifier identifier, final ApplicationPermissionMode permissionMode) {
+            var decisions = permissionMode == ApplicationPermissionMode.VIEWING
+                    ? viewingByIdentifier
+                    : changingByIdentifier;
+            return decisions.computeIfAbsent(identifier, __->
+                permissionSetIfAny
+                .map(permissionSet->permissionSet.grants(
+                        ApplicationFeatureId.fromIdentifier(identifier),
+                        permissionMode))
+                .orElse(false));
+        }
+
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - loadedAtNanos >= expiryNanos;
         }
 
     }
@@ -0,0 +1,244 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.facets;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.events.lifecycle.AbstractLifecycleEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectPersistedEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectRemovingEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectUpdatedEvent;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.transaction.changetracking.events.PreStoreEvent;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.tenancy.dom.ApplicationTenancy;
+import org.apache.causeway.extensions.secman.applib.tenancy.spi.ApplicationTenancyEvaluator;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+/**
+ * Memoizes the outcomes of {@link ApplicationTenancyEvaluator#isObjectLevel() object-level}
+ * {@link ApplicationTenancyEvaluator}s, per user, domain entity and hides/disables.
+ * <p>
+ * Outcomes are cached for the duration of the interaction (using the {@link QueryResultsCache})
+ * and, if configured, also across interactions, bounded by expiry and size.
+ * <p>
+ * Outcomes cached across interactions are invalidated (both immediately and after completion of the current
+ * transaction, if any): as a whole, whenever users or tenancies change, as observed via lifecycle and domain events;
+ * and per domain entity, whenever that entity is about to be updated (so possibly its tenancy path).
+ *
+ * @since 3.x {@index}
+ */
+@Component
+@Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".TenancyEvaluationCache")
+public class TenancyEvaluationCache {
+
+    public record Key(
+            String userName,
+            Bookmark bookmark,
+            boolean hides,
+            Class<? extends ApplicationTenancyEvaluator> evaluatorClass) {
+    }
+
+    private record Entry(
+            Optional<String> reason,
+            long expiresAtNanos) {
+    }
+
+    private final Provider<QueryResultsCache> queryResultsCacheProvider;
+    private final Function<Object, Optional<Bookmark>> bookmarkLookup;
+    private final long expiryNanos;
+    private final int maxSizeInEntries;
+    private final Map<Key, Entry> entriesByKey = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    /** incremented on each invalidation, guards against caching outcomes evaluated concurrently */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Inject
+    public TenancyEvaluationCache(
+            final Provider<QueryResultsCache> queryResultsCacheProvider,
+            final Provider<BookmarkService> bookmarkServiceProvider,
+            final CausewayConfiguration causewayConfiguration) {
+        this(queryResultsCacheProvider,
+                domainObject->bookmarkServiceProvider.get().bookmarkFor(domainObject),
+                causewayConfiguration.getExtensions().getSecman().getTenancyCache().getExpiryDurationInSeconds(),
+                causewayConfiguration.getExtensions().getSecman().getTenancyCache().getMaxSizeInEntries());
+    }
+
+    TenancyEvaluationCache(
+            final Provider<QueryResultsCache> queryResultsCacheProvider,
+            final Function<Object, Optional<Bookmark>> bookmarkLookup,
+            final int expiryDurationInSeconds,
+            final int maxSizeInEntries) {
+        this.queryResultsCacheProvider = queryResultsCacheProvider;
+        this.bookmarkLookup = bookmarkLookup;
+        this.expiryNanos = Duration.ofSeconds(Math.max(0, expiryDurationInSeconds)).toNanos();
+        this.maxSizeInEntries = maxSizeInEntries;
+    }
+
+    /**
+     * Returns the (possibly memoized) outcome for given {@link Key},
+     * calling {@code evaluation} only if not found in either cache.
+     */
+    public Optional<String> computeIfAbsent(final Key key, final Supplier<Optional<String>> evaluation) {
+        requestCount.increment();
+        return queryResultsCacheProvider.get()
+                .execute(
+                        ()->computeIfAbsentAcrossInteractions(key, evaluation),
+                        TenancyEvaluationCache.class,
+                        "computeIfAbsent",
+                        key);
+    }
+
+    /**
+     * Number of outcomes requested, that did not require an evaluation.
+     */
+    public long getHitCount() {
+        return requestCount.sum() - missCount.sum();
+    }
+
+    /**
+     * Number of outcomes requested, that required an evaluation.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Discards all outcomes cached across interactions.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entriesByKey.clear();
+    }
+
+    /**
+     * Discards all outcomes cached across interactions for given domain entity.
+     */
+    public void invalidate(final Bookmark bookmark) {
+        generation.incrementAndGet();
+        entriesByKey.keySet().removeIf(key->key.bookmark().equals(bookmark));
+    }
+
+    @EventListener({ObjectPersistedEvent.class, ObjectUpdatedEvent.class, ObjectRemovingEvent.class})
+    public void onLifecycleEvent(final AbstractLifecycleEvent<?> ev) {
+        if(isUserOrTenancy(ev.getSource())) {
+            nowAndAfterCompletion(this::invalidateAll);
+        }
+    }
+
+    @EventListener(CausewayModuleExtSecmanApplib.ActionDomainEvent.class)
+    public void onActionDomainEvent(final CausewayModuleExtSecmanApplib.ActionDomainEvent<?> ev) {
+        if(ev.getEventPhase().isExecuted()) {
+            nowAndAfterCompletion(this::invalidateAll);
+        }
+    }
+
+    /**
+     * Published for any entity about to be updated, irrespective of its lifecycle event configuration.
+     */
+    @EventListener(PreStoreEvent.class)
+    public void onPreStore(final PreStoreEvent ev) {
+        var domainObject = ev.getPersistableObject();
+        if(isUserOrTenancy(domainObject)) {
+            nowAndAfterCompletion(this::invalidateAll);
+            return;
+        }
+        if(expiryNanos<=0) return; // not caching across interactions
+        bookmarkLookup.apply(domainObject)
+            .ifPresent(bookmark->nowAndAfterCompletion(()->invalidate(bookmark)));
+    }
+
+    // -- HELPER
+
+    private Optional<String> computeIfAbsentAcrossInteractions(
+            final Key key,
+            final Supplier<Optional<String>> evaluation) {
+        if(expiryNanos<=0) {
+            return evaluate(evaluation);
+        }
+        var now = System.nanoTime();
+        var entry = entriesByKey.get(key);
+        if(entry!=null
+                && now - entry.expiresAtNanos() < 0) {
+            return entry.reason();
+        }
+        var generationBeforeEvaluation = generation.get();
+        var reason = evaluate(evaluation);
+        if(generation.get()!=generationBeforeEvaluation) {
+            return reason; // invalidated meanwhile, so don't cache
+        }
+        if(entriesByKey.size() >= maxSizeInEntries) {
+            entriesByKey.values().removeIf(anyEntry->now - anyEntry.expiresAtNanos() >= 0);
+            if(entriesByKey.size() >= maxSizeInEntries) {
+                entriesByKey.clear();
+            }
+        }
+        var newEntry = new Entry(reason, now + expiryNanos);
+        entriesByKey.put(key, newEntry);
+        // an invalidation might have raced the put
+        if(generation.get()!=generationBeforeEvaluation) {
+            entriesByKey.remove(key, newEntry);
+        }
+        return reason;
+    }
+
+    private static boolean isUserOrTenancy(final Object domainObject) {
+        return domainObject instanceof ApplicationUser
+                || domainObject instanceof ApplicationTenancy;
+    }
+
+    private static void nowAndAfterCompletion(final Runnable invalidation) {
+        invalidation.run();
+        // also after completion, so that concurrent evaluations of not yet committed state are discarded
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private Optional<String> evaluate(final Supplier<Optional<String>> evaluation) {
+        missCount.increment();
+        return evaluation.get();
+    }
+
+}
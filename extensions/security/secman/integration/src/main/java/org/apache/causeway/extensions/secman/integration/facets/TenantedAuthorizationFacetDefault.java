@@ -23,6 +23,7 @@
 
 import jakarta.inject.Provider;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
 import org.apache.causeway.applib.services.user.UserService;
 import org.apache.causeway.core.metamodel.consent.Consent.VetoReason;
@@ -48,41 +49,52 @@ private static Class<? extends Facet> type() {
     private final ApplicationUserRepository applicationUserRepository;
     private final UserService userService;
     private final Provider<QueryResultsCache> queryResultsCacheProvider;
+    private final Provider<TenancyEvaluationCache> tenancyEvaluationCacheProvider;
 
     public TenantedAuthorizationFacetDefault(
             final List<ApplicationTenancyEvaluator> evaluators,
             final ApplicationUserRepository applicationUserRepository,
             final Provider<QueryResultsCache> queryResultsCacheProvider,
+            final Provider<TenancyEvaluationCache> tenancyEvaluationCacheProvider,
             final UserService userService,
             final FacetHolder holder) {
         super(type(), holder);
         this.evaluators = evaluators;
         this.applicationUserRepository = applicationUserRepository;
         this.queryResultsCacheProvider = queryResultsCacheProvider;
+        this.tenancyEvaluationCacheProvider = tenancyEvaluationCacheProvider;
         this.userService = userService;
     }
 
     @Override
     public String hides(final VisibilityContext ic) {
-        return evaluate(ApplicationTenancyEvaluator::hides, ic.getHead())
+        return evaluate(ApplicationTenancyEvaluator::hides, true, ic.getHead())
                 .orElse(null);
     }
 
     @Override
     public Optional<VetoReason> disables(final UsabilityContext ic) {
-        return evaluate(ApplicationTenancyEvaluator::disables, ic.getHead())
+        return evaluate(ApplicationTenancyEvaluator::disables, false, ic.getHead())
                 .map(VetoReason::explicit);
     }
 
-    private Optional<String> evaluate(final EvaluationDispatcher evaluationDispatcher, final InteractionHead head) {
+    private Optional<String> evaluate(
+            final EvaluationDispatcher evaluationDispatcher,
+            final boolean hides,
+            final InteractionHead head) {
         if(evaluators == null
                 || evaluators.isEmpty()
                 || userService.isCurrentUserWithSudoAccessAllRole()) {
             return Optional.empty();
         }
 
-        var domainObject = head.getOwner().getPojo();
+        var owner = head.getOwner();
+        var domainObject = owner.getPojo();
         var userName = userService.currentUserNameElseNobody();
+        // only entities have bookmarks that are both cheap and stable enough to key a cache with
+        var bookmarkIfAny = owner.getSpecialization().isEntity()
+                ? owner.getBookmark()
+                : Optional.<Bookmark>empty();
 
         var applicationUser = findApplicationUser(userName);
         if (applicationUser == null) {
@@ -91,9 +103,14 @@ private Optional<String> evaluate(final EvaluationDispatcher evaluationDispatche
         }
 
         for (var evaluator : evaluators) {
-            final String reasonString = evaluationDispatcher.dispatch(evaluator, domainObject, applicationUser);
-            if(reasonString != null) {
-                return Optional.of(reasonString);
+            var reasonIfAny = evaluator.isObjectLevel()
+                    && bookmarkIfAny.isPresent()
+                ? tenancyEvaluationCacheProvider.get().computeIfAbsent(
+                        new TenancyEvaluationCache.Key(userName, bookmarkIfAny.get(), hides, evaluator.getClass()),
+                        ()->Optional.ofNullable(evaluationDispatcher.dispatch(evaluator, domainObject, applicationUser)))
+                : Optional.ofNullable(evaluationDispatcher.dispatch(evaluator, domainObject, applicationUser));
+            if(reasonIfAny.isPresent()) {
+                return reasonIfAny;
             }
         }
         return Optional.empty();
@@ -59,6 +59,7 @@ public void refineProgrammingModel(final ProgrammingModel programmingModel) {
     @Inject Provider<UserService> userServiceProvider;
     @Inject Provider<ApplicationUserRepository> userRepositoryProvider;
     @Inject Provider<QueryResultsCache> queryResultsCacheProvider;
+    @Inject Provider<TenancyEvaluationCache> tenancyEvaluationCacheProvider;
     @Inject ObjectProvider<ApplicationTenancyEvaluator> applicationTenancyEvaluators;
 
     @Inject
@@ -104,7 +105,8 @@ private Optional<TenantedAuthorizationFacetDefault> createFacet(
                 ? Optional.empty()
                 : Optional.of(new TenantedAuthorizationFacetDefault(
                         evaluators, userRepositoryProvider.get(),
-                        queryResultsCacheProvider, userServiceProvider.get(),
+                        queryResultsCacheProvider, tenancyEvaluationCacheProvider,
+                        userServiceProvider.get(),
                         holder));
     }
 
@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman.PermissionCache;
+import org.apache.causeway.extensions.secman.integration.permissions.ApplicationFeatureIdTransformerIdentity;
+import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
+import org.apache.causeway.extensions.secman.integration.permissions.exampledomain.Customer;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.VIEWING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+
+class AuthorizorSecman_PermissionCache_Test {
+
+    private final Identifier lastName = Identifier.propertyIdentifier(
+            LogicalType.eager(Customer.class, "customer.Customer"), "lastName");
+
+    private PermissionCache cache;
+    private AtomicInteger lookups;
+    private AtomicInteger evaluations;
+
+    @BeforeEach
+    void setup() {
+        cache = new PermissionCache(5);
+        lookups = new AtomicInteger();
+        evaluations = new AtomicInteger();
+    }
+
+    @Test
+    void permissions_are_looked_up_once_until_invalidated() {
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(lookups.get()).isEqualTo(1);
+
+        cache.invalidateAll();
+
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void permissions_looked_up_while_invalidated_are_not_cached() {
+        cache.computeIfAbsent("sven", ()->{
+            cache.invalidateAll(); // as if concurrently
+            return lookup();
+        });
+
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void decisions_are_memoized_per_identifier_and_mode() {
+        var userPermissions = cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(userPermissions.grants(lastName, VIEWING)).isTrue();
+        var evaluationsAfterViewing = evaluations.get();
+        assertThat(evaluationsAfterViewing).isPositive();
+
+        assertThat(userPermissions.grants(lastName, VIEWING)).isTrue();
+        assertThat(evaluations.get()).isEqualTo(evaluationsAfterViewing);
+
+        assertThat(userPermissions.grants(lastName, CHANGING)).isFalse();
+        var evaluationsAfterChanging = evaluations.get();
+        assertThat(evaluationsAfterChanging).isGreaterThan(evaluationsAfterViewing);
+
+        assertThat(userPermissions.grants(lastName, CHANGING)).isFalse();
+        assertThat(evaluations.get()).isEqualTo(evaluationsAfterChanging);
+    }
+
+    @Test
+    void unknown_user_is_granted_nothing() {
+        var userPermissions = cache.computeIfAbsent("nobody", Optional::empty);
+
+        assertThat(userPermissions.grants(lastName, VIEWING)).isFalse();
+    }
+
+    // -- HELPER
+
+    private Optional<ApplicationPermissionValueSet> lookup() {
+        lookups.incrementAndGet();
+        var evaluator = PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build();
+        return Optional.of(new ApplicationPermissionValueSet(
+                List.of(new ApplicationPermissionValue(newNamespace("customer"), ALLOW, VIEWING)),
+                (targetMemberId, mode, permissionValues)->{
+                    evaluations.incrementAndGet();
+                    return evaluator.evaluate(targetMemberId, mode, permissionValues);
+                }));
+    }
+
+}
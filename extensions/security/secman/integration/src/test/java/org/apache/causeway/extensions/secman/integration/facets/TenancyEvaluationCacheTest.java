@@ -0,0 +1,151 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.facets;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.core.transaction.changetracking.events.PreStoreEvent;
+import org.apache.causeway.extensions.secman.applib.tenancy.spi.ApplicationTenancyEvaluator;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+class TenancyEvaluationCacheTest {
+
+    private final TenancyEvaluationCache.Key key = new TenancyEvaluationCache.Key(
+            "sven", Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "1"), true,
+            ApplicationTenancyEvaluator.class);
+
+    /** simulates the interaction scope of the QueryResultsCache */
+    private final AtomicReference<QueryResultsCache> currentInteraction = new AtomicReference<>();
+    private AtomicInteger evaluations;
+
+    private final Object customer = new Object();
+    private final Object otherCustomer = new Object();
+
+    @BeforeEach
+    void setup() {
+        currentInteraction.set(new QueryResultsCache());
+        evaluations = new AtomicInteger();
+    }
+
+    @Test
+    void memoized_within_interaction() {
+        var cache = new TenancyEvaluationCache(currentInteraction::get, this::bookmarkFor, 0, 100);
+
+        assertThat(cache.computeIfAbsent(key, this::evaluate)).contains("hidden");
+        assertThat(cache.computeIfAbsent(key, this::evaluate)).contains("hidden");
+
+        assertThat(evaluations.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        currentInteraction.set(new QueryResultsCache());
+        cache.computeIfAbsent(key, this::evaluate);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void memoized_across_interactions_if_configured() {
+        var cache = newCacheAcrossInteractions();
+
+        cache.computeIfAbsent(key, this::evaluate);
+        currentInteraction.set(new QueryResultsCache());
+        cache.computeIfAbsent(key, this::evaluate);
+
+        assertThat(evaluations.get()).isEqualTo(1);
+
+        cache.invalidateAll();
+        currentInteraction.set(new QueryResultsCache());
+        cache.computeIfAbsent(key, this::evaluate);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidated_when_entity_is_updated() {
+        var cache = newCacheAcrossInteractions();
+        cache.computeIfAbsent(key, this::evaluate);
+
+        cache.onPreStore(PreStoreEvent.of(otherCustomer));
+        currentInteraction.set(new QueryResultsCache());
+        cache.computeIfAbsent(key, this::evaluate);
+
+        assertThat(evaluations.get()).isEqualTo(1);
+
+        cache.onPreStore(PreStoreEvent.of(customer));
+        currentInteraction.set(new QueryResultsCache());
+        cache.computeIfAbsent(key, this::evaluate);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidated_when_user_is_updated() {
+        var cache = newCacheAcrossInteractions();
+        cache.computeIfAbsent(key, this::evaluate);
+
+        cache.onPreStore(PreStoreEvent.of(Mockito.mock(ApplicationUser.class)));
+        currentInteraction.set(new QueryResultsCache());
+        cache.computeIfAbsent(key, this::evaluate);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void not_cached_if_invalidated_during_evaluation() {
+        var cache = newCacheAcrossInteractions();
+        cache.computeIfAbsent(key, ()->{
+            cache.invalidateAll(); // simulates a concurrent invalidation
+            return evaluate();
+        });
+
+        currentInteraction.set(new QueryResultsCache());
+        cache.computeIfAbsent(key, this::evaluate);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    // -- HELPER
+
+    private TenancyEvaluationCache newCacheAcrossInteractions() {
+        return new TenancyEvaluationCache(currentInteraction::get, this::bookmarkFor, 60, 100);
+    }
+
+    private Optional<Bookmark> bookmarkFor(final Object domainObject) {
+        if(domainObject == customer) return Optional.of(key.bookmark());
+        if(domainObject == otherCustomer) return Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "2"));
+        return Optional.empty();
+    }
+
+    private Optional<String> evaluate() {
+        evaluations.incrementAndGet();
+        return Optional.of("hidden");
+    }
+
+}
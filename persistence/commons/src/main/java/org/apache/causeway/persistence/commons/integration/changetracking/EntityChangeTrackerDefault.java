@@ -19,10 +19,7 @@
  */
 package org.apache.causeway.persistence.commons.integration.changetracking;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -71,17 +68,16 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
-import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
-import org.apache.causeway.core.metamodel.object.MmEntityUtils;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
-import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
@@ -128,7 +124,8 @@ public EntityChangeTrackerDefault(
             EntityPropertyChangePublisher entityPropertyChangePublisher,
             EntityChangesPublisher entityChangesPublisher,
             Provider<InteractionProvider> interactionProviderProvider,
-            PreAndPostValueEvaluatorService preAndPostValueEvaluatorService) {
+            PreAndPostValueEvaluatorService preAndPostValueEvaluatorService,
+            InstrumentationService instrumentationService) {
 
         if(log.isDebugEnabled()) {
             var interactionId = interactionProviderProvider.get().currentInteraction().map(Interaction::getInteractionId).orElseGet(null);
@@ -139,6 +136,7 @@ public EntityChangeTrackerDefault(
         this.entityChangesPublisher = entityChangesPublisher;
         this.interactionProviderProvider = interactionProviderProvider;
         this.preAndPostValueEvaluatorService = preAndPostValueEvaluatorService;
+        this.instrumentationService = instrumentationService;
     }
 
     @Programmatic
@@ -151,38 +149,22 @@ public int getOrder() {
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
     private final PreAndPostValueEvaluatorService preAndPostValueEvaluatorService;
+    private final InstrumentationService instrumentationService;
 
     /**
-     * Contains a record for every objectId/propertyId that was changed.
-     * @implNote access to this {@link Map} must be thread-safe and the map also should preserve insertion order. We
-     *           cannot use <code>newConcurrentHashMap</code> as this doesn't preserve insertion order; instead we
-     *           make sure that it is only ever accessed within a <code>synchronized</code> block.
+     * Contains the pre-values of every (publishable) property of every entity that was enlisted,
+     * in order of enlistment.
+     * @implNote as with the transaction this service is scoped to, not meant to be accessed concurrently
      */
-    private final Map<PropertyChangeRecordId, PropertyChangeRecord> enlistedPropertyChangeRecordsById = _Maps.newLinkedHashMap();
-
-    /**
-     * As used when {@link #enlistCreated(ManagedObject)} or {@link #enlistUpdating(ManagedObject, Function)}
-     */
-    private void addPropertyChangeRecordIfAbsent(PropertyChangeRecordId pcrId, PropertyChangeRecord pcr) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, id -> pcr);
-    }
-    /**
-     * As used when {@link #enlistDeleting(ManagedObject)}.
-     */
-    private void addPropertyChangeRecordIfAbsent(PropertyChangeRecordId pcrId, Function<PropertyChangeRecordId, PropertyChangeRecord> func) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, func);
-    }
+    private final _PropertyChangeLog propertyChangeLog = new _PropertyChangeLog();
 
     private Changes evaluateChanges() {
-        var changedProperties = evaluateChangedProperties();
+        var changedProperties = propertyChangeLog.evaluate(deadlockRecognizer, this::shouldPublish);
 
         var isCountersAndDetail = causewayConfiguration.getApplib().getService().getMetricsService().getLevel().isCountersAndDetail();
         Set<Bookmark> loadedBookmarks =
                 isCountersAndDetail
-                        ? enlistedPropertyChangeRecordsById.keySet()
-                                .stream()
-                                .map(PropertyChangeRecordId::getBookmark)
-                                .collect(Collectors.<Bookmark>toSet())
+                        ? propertyChangeLog.enlistedBookmarks()
                         : Collections.emptySet();
 
         Set<Bookmark> dirtiedBookmarks =
@@ -193,29 +175,11 @@ private Changes evaluateChanges() {
                                 .collect(Collectors.<Bookmark>toSet())
                         :  Collections.emptySet();
 
-        enlistedPropertyChangeRecordsById.clear();
+        propertyChangeLog.clear();
 
         return new Changes(changedProperties, loadedBookmarks, dirtiedBookmarks);
     }
 
-    private Set<PropertyChangeRecord> evaluateChangedProperties() {
-        Set<PropertyChangeRecord> dirtiedProperties;
-        try {
-            dirtiedProperties = changedRecords(enlistedPropertyChangeRecordsById.values());
-        } catch (ConcurrentModificationException ex) {
-            log.warn(
-                    "A concurrent modification exception, one of these properties seemed to change as we looked at it :\n" +
-                            enlistedPropertyChangeRecordsById.keySet()
-                                    .stream()
-                                    .map(PropertyChangeRecordId::toString)
-                                    .collect(Collectors.joining("\n"))
-            );
-            // instead, we take a copy
-            dirtiedProperties = changedRecords(new ArrayList<>(enlistedPropertyChangeRecordsById.values()));
-        }
-        return dirtiedProperties;
-    }
-
     @RequiredArgsConstructor
     static class Changes {
         @Getter private final Set<PropertyChangeRecord> dirtiedProperties;
@@ -228,25 +192,6 @@ static class Changes {
      */
     private final _Lazy<Changes> changes = _Lazy.of(this::evaluateChanges);
 
-    /**
-     * when iterating over the original value set, if any of the properties causes the entity to change state as it is
-     * evaluated then a ConcurrentModificationException will be thrown because an enlist will occur.
-     */
-    private Set<PropertyChangeRecord> changedRecords(Collection<PropertyChangeRecord> propertyChangeRecords)
-            throws ConcurrentModificationException {
-        return propertyChangeRecords.stream()
-                // set post values, which have been left empty up to now
-                .peek(rec -> {
-                    if (MmEntityUtils.getEntityState(rec.getEntity()).isTransientOrRemoved()) {
-                        rec.withPostValueSetToDeleted();
-                    } else {
-                        rec.withPostValueSetToCurrentElseUnknown(deadlockRecognizer);
-                    }
-                })
-                .filter(managedProperty -> shouldPublish(managedProperty.getPreAndPostValue()))
-                .collect(_Sets.toUnmodifiable());
-    }
-
     private Changes memoizeChangesIfRequired() {
         return changes.get();
     }
@@ -272,7 +217,7 @@ public void destroy() {
     }
 
     private void clearAndReset() {
-        enlistedPropertyChangeRecordsById.clear();
+        propertyChangeLog.clear();
         changes.clear();
 
         changeKindByEnlistedAdapter.clear();
@@ -282,15 +227,6 @@ private void clearAndReset() {
         persistentChangesEncountered.set(false);
     }
 
-    /**
-     * @implNote sets a lock on the {@code enlistedPropertyChangeRecordsById} {@link Map}
-     *      until given {@code runnable} completes<p>
-     *      Note: Java supports reentrant locks,
-     *      which allow a thread to acquire the same lock multiple times without deadlocking itself.
-     *      Reentrant locks maintain a count of the number of times a thread has acquired the lock
-     *      and ensure that the lock is released only when the thread exits the synchronized block
-     *      or method the same number of times it entered it.
-     */
     private void suppressAutoFlushIfRequired(final Runnable runnable) {
         if (configuration.isSuppressAutoFlush()) {
             FlushMgmt.suppressAutoFlush(runnable);
@@ -333,11 +269,14 @@ public void beforeCommit(boolean readOnly) {
             log.debug("EntityChangeTrackerDefault.beforeCommit(readOnly={}) xactn={} interactionId={} thread={}", readOnly, transactionCounter.get(), interactionId, Thread.currentThread().getName());
         }
 
-        // we memoize the property changes to (hopefully) avoid ConcurrentModificationExceptions with ourselves later
-        memoizeChangesIfRequired();
+        instrumentationService.observe(Point.ENTITY_CHANGES_PUBLISHING, null, null, ()->{
+            // we memoize the property changes to (hopefully) avoid ConcurrentModificationExceptions with ourselves later
+            memoizeChangesIfRequired();
 
-        entityPropertyChangePublisher.publishChangedProperties();
-        entityChangesPublisher.publishChangingEntities(this);
+            entityPropertyChangePublisher.publishChangedProperties();
+            entityChangesPublisher.publishChangingEntities(this);
+            return null;
+        });
     }
 
     @Override
@@ -520,7 +459,7 @@ private boolean enlistForChangeKindPublishing(
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return enlistedPropertyChangeRecordsById.size();
+        return propertyChangeLog.countCapturedPreValues();
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -539,8 +478,7 @@ public void enlistCreated(final ManagedObject entity) {
         suppressAutoFlushIfRequired(() -> {
             enlistForChangeKindPublishing(entity, EntityChangeKind.CREATE);
 
-            MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                .forEach(pcrId -> addPropertyChangeRecordIfAbsent(pcrId, PropertyChangeRecord.ofNew(pcrId)));
+            propertyChangeLog.enlistCreated(entity);
         });
     }
 
@@ -569,16 +507,11 @@ public void enlistUpdating(
                     : null;
 
             if(ormPropertyChangeRecords != null) {
-                // provided by ORM
-                ormPropertyChangeRecords
-                    .stream()
-                    .forEach(pcr -> addPropertyChangeRecordIfAbsent(pcr.getId(), pcr));
+                // provided by ORM (only the dirty properties)
+                propertyChangeLog.enlistProvided(entity, ormPropertyChangeRecords);
             } else {
                 // home-grown approach
-                MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                    .forEach(pcrId -> {
-                        addPropertyChangeRecordIfAbsent(pcrId, PropertyChangeRecord.ofCurrent(pcrId, deadlockRecognizer));
-                    });
+                propertyChangeLog.enlistCurrent(entity, deadlockRecognizer);
             }
         });
     }
@@ -597,10 +530,8 @@ public void enlistDeleting(final ManagedObject entity) {
                     log.debug("enlist entity's property changes for publishing {}", entity);
                 }
 
-                MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                    .forEach(pcrId -> {
-                        addPropertyChangeRecordIfAbsent(pcrId, id -> PropertyChangeRecord.ofDeleting(id, deadlockRecognizer));
-                    });
+                // post-values are set to deleted when evaluated
+                propertyChangeLog.enlistCurrent(entity, deadlockRecognizer);
             }
         });
     }
@@ -0,0 +1,259 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.collections._Sets;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmEntityUtils;
+import org.apache.causeway.core.metamodel.services.deadlock.DeadlockRecognizer;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Insertion-ordered log of the entities enlisted for change publishing within a transaction,
+ * holding for each entity the pre-values of its publishable properties, indexed by property.
+ *
+ * <p>
+ * Compared to keeping a {@link PropertyChangeRecord} per (entity, property), this avoids any per-property
+ * allocation for created entities (whose pre-values are all {@link PropertyValuePlaceholder#NEW}), and for
+ * updated entities only holds the pre-values of those properties the ORM reports as dirty (if it does so).
+ * {@link PropertyChangeRecord}s are only created, when evaluated, for the properties that actually changed.
+ *
+ * <p>
+ * Not thread-safe, as is not the transaction it belongs to.
+ */
+final class _PropertyChangeLog {
+
+    private static final PreAndPostValue PRE_VALUE_NEW = PreAndPostValue.pre(PropertyValuePlaceholder.NEW);
+
+    /**
+     * Per entity type, its properties enabled for change publishing.
+     */
+    private final Map<ObjectSpecification, PublishedProperties> publishedPropertiesBySpec = new HashMap<>();
+
+    private final Map<Bookmark, EnlistedEntity> enlistedEntitiesByBookmark = new LinkedHashMap<>();
+
+    // -- ENLISTING
+
+    /**
+     * Pre-values of all properties are {@link PropertyValuePlaceholder#NEW}, unless already captured.
+     */
+    void enlistCreated(final @NonNull ManagedObject entity) {
+        var bookmark = ManagedObjects.bookmarkElseFail(entity);
+        var enlistedEntity = enlistedEntitiesByBookmark.get(bookmark);
+        if(enlistedEntity == null) {
+            enlistedEntitiesByBookmark.put(bookmark, EnlistedEntity.created(entity, publishedProperties(entity)));
+            return;
+        }
+        enlistedEntity.captureAbsentPreValues(index -> PRE_VALUE_NEW);
+    }
+
+    /**
+     * Pre-values of all properties are set to their current values, unless already captured.
+     */
+    void enlistCurrent(final @NonNull ManagedObject entity, final DeadlockRecognizer deadlockRecognizer) {
+        var enlistedEntity = enlistedEntityFor(entity);
+        var properties = enlistedEntity.publishedProperties.properties();
+        enlistedEntity.captureAbsentPreValues(index -> PreAndPostValue.pre(
+                PropertyChangeRecord.currentValueElseUnknown(entity, properties[index], deadlockRecognizer)));
+    }
+
+    /**
+     * Pre-values as provided by the ORM (typically for the dirty properties only), unless already captured.
+     */
+    void enlistProvided(final @NonNull ManagedObject entity, final @NonNull Can<PropertyChangeRecord> propertyChangeRecords) {
+        var enlistedEntity = enlistedEntityFor(entity);
+        propertyChangeRecords.forEach(propertyChangeRecord -> {
+            var index = enlistedEntity.publishedProperties.indexOf(propertyChangeRecord.getProperty());
+            if(index >= 0) {
+                enlistedEntity.capturePreValueIfAbsent(index, propertyChangeRecord.getPreAndPostValue());
+            }
+        });
+    }
+
+    // -- EVALUATION
+
+    /**
+     * Evaluates the post-values of all captured properties,
+     * returning (in order of enlistment) the records of those, that satisfy given predicate.
+     */
+    Set<PropertyChangeRecord> evaluate(
+            final DeadlockRecognizer deadlockRecognizer,
+            final Predicate<PreAndPostValue> shouldPublish) {
+        var changedRecords = new ArrayList<PropertyChangeRecord>();
+        // evaluating post-values could cause further entities to be enlisted, so we iterate over a copy
+        for (var enlistedEntity : new ArrayList<>(enlistedEntitiesByBookmark.values())) {
+            var entity = enlistedEntity.entity;
+            var isDeleted = MmEntityUtils.getEntityState(entity).isTransientOrRemoved();
+            var properties = enlistedEntity.publishedProperties.properties();
+            for (int index = 0; index < properties.length; index++) {
+                var preValue = enlistedEntity.preValue(index);
+                if(preValue == null) {
+                    continue; // not captured, hence not changed
+                }
+                var preAndPostValue = preValue.withPost(isDeleted
+                        ? PropertyValuePlaceholder.DELETED
+                        : PropertyChangeRecord.currentValueElseUnknown(entity, properties[index], deadlockRecognizer));
+                if(shouldPublish.test(preAndPostValue)) {
+                    changedRecords.add(PropertyChangeRecord.of(
+                            PropertyChangeRecordId.of(entity, properties[index]),
+                            preAndPostValue));
+                }
+            }
+        }
+        return changedRecords.stream()
+                .collect(_Sets.toUnmodifiable());
+    }
+
+    Set<Bookmark> enlistedBookmarks() {
+        return Set.copyOf(enlistedEntitiesByBookmark.keySet());
+    }
+
+    /**
+     * Number of pre-values captured, hence potential property change records.
+     */
+    long countCapturedPreValues() {
+        return enlistedEntitiesByBookmark.values().stream()
+                .mapToLong(EnlistedEntity::countCapturedPreValues)
+                .sum();
+    }
+
+    void clear() {
+        enlistedEntitiesByBookmark.clear();
+        publishedPropertiesBySpec.clear();
+    }
+
+    // -- HELPER
+
+    private EnlistedEntity enlistedEntityFor(final ManagedObject entity) {
+        return enlistedEntitiesByBookmark.computeIfAbsent(
+                ManagedObjects.bookmarkElseFail(entity),
+                bookmark -> EnlistedEntity.captured(entity, publishedProperties(entity)));
+    }
+
+    private PublishedProperties publishedProperties(final ManagedObject entity) {
+        return publishedPropertiesBySpec.computeIfAbsent(
+                entity.getSpecification(),
+                spec -> PublishedProperties.of(entity));
+    }
+
+    private record PublishedProperties(
+            OneToOneAssociation[] properties,
+            Map<String, Integer> indexById) {
+
+        static PublishedProperties of(final ManagedObject entity) {
+            var properties = MmEntityUtils.streamPropertiesEnabledForChangePublishing(entity)
+                    .toArray(OneToOneAssociation[]::new);
+            var indexById = new HashMap<String, Integer>(properties.length * 2);
+            for (int index = 0; index < properties.length; index++) {
+                indexById.put(properties[index].getId(), index);
+            }
+            return new PublishedProperties(properties, indexById);
+        }
+
+        int indexOf(final OneToOneAssociation property) {
+            return indexById.getOrDefault(property.getId(), -1);
+        }
+    }
+
+    private static final class EnlistedEntity {
+
+        final ManagedObject entity;
+        final PublishedProperties publishedProperties;
+
+        /**
+         * Indexed by property, {@code null} if not captured;
+         * itself {@code null} while all pre-values are {@link PropertyValuePlaceholder#NEW}.
+         */
+        PreAndPostValue[] preValues;
+
+        static EnlistedEntity created(final ManagedObject entity, final PublishedProperties publishedProperties) {
+            return new EnlistedEntity(entity, publishedProperties, null);
+        }
+
+        static EnlistedEntity captured(final ManagedObject entity, final PublishedProperties publishedProperties) {
+            return new EnlistedEntity(entity, publishedProperties,
+                    new PreAndPostValue[publishedProperties.properties().length]);
+        }
+
+        private EnlistedEntity(
+                final ManagedObject entity,
+                final PublishedProperties publishedProperties,
+                final PreAndPostValue[] preValues) {
+            this.entity = entity;
+            this.publishedProperties = publishedProperties;
+            this.preValues = preValues;
+        }
+
+        PreAndPostValue preValue(final int index) {
+            return preValues != null
+                    ? preValues[index]
+                    : PRE_VALUE_NEW;
+        }
+
+        void capturePreValueIfAbsent(final int index, final PreAndPostValue preValue) {
+            if(preValues != null
+                    && preValues[index] == null) {
+                preValues[index] = preValue;
+            }
+        }
+
+        void captureAbsentPreValues(final IntFunction<PreAndPostValue> preValueFactory) {
+            if(preValues == null) {
+                return; // all captured (as NEW) already
+            }
+            for (int index = 0; index < preValues.length; index++) {
+                if(preValues[index] == null) {
+                    preValues[index] = preValueFactory.apply(index);
+                }
+            }
+        }
+
+        long countCapturedPreValues() {
+            if(preValues == null) {
+                return publishedProperties.properties().length;
+            }
+            long count = 0;
+            for (var preValue : preValues) {
+                if(preValue != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+}
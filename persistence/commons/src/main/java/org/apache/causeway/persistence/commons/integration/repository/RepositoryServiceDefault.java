@@ -25,6 +25,7 @@
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Priority;
@@ -207,6 +208,29 @@ public <T> List<T> allMatches(final Query<T> query) {
         return submitQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        if(autoFlush && !FlushMgmt.isAutoFlushSuppressed() && !suppressFlush.get()) {
+            transactionService.flushTransaction();
+        }
+        var resultTypeSpec = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
+
+        if(resultTypeSpec==null) {
+            return Stream.empty();
+        }
+
+        var repositoryServiceConfig = causewayConfiguration.getPersistence().getCommons().getRepositoryService();
+        var queryRequest = new BulkLoadRequest(resultTypeSpec, query);
+        return getObjectManager()
+                .streamObjects(queryRequest,
+                        repositoryServiceConfig.getStreamFetchSize(),
+                        repositoryServiceConfig.getStreamClearInterval())
+                .map(MmUnwrapUtils::single)
+                .map(_Casts::<T>uncheckedCast);
+    }
+
     <T> List<T> submitQuery(final Query<T> query) {
         var resultTypeSpec = getSpecificationLoader()
                 .specForType(query.getResultType())
@@ -0,0 +1,244 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.services.deadlock.DeadlockRecognizer;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+class _PropertyChangeLogTest {
+
+    private final DeadlockRecognizer deadlockRecognizer = Mockito.mock(DeadlockRecognizer.class);
+    private final ObjectSpecification spec = Mockito.mock(ObjectSpecification.class);
+    private OneToOneAssociation name;
+    private OneToOneAssociation rating;
+
+    private _PropertyChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        name = property("name");
+        rating = property("rating");
+        when(spec.streamProperties(MixedIn.EXCLUDED)).thenAnswer(__->Stream.of(name, rating));
+        changeLog = new _PropertyChangeLog();
+    }
+
+    @Test
+    void created_publishesAllProperties_asNew() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 3);
+
+        changeLog.enlistCreated(entity.managedObject);
+
+        assertEquals(2, changeLog.countCapturedPreValues());
+        assertEquals(
+                Map.of("name", "[NEW] -> Fred", "rating", "[NEW] -> 3"),
+                evaluate());
+    }
+
+    @Test
+    void updated_publishesChangedProperties_only() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 3);
+
+        changeLog.enlistCurrent(entity.managedObject, deadlockRecognizer);
+        entity.with("rating", 4);
+
+        assertEquals(
+                Map.of("rating", "3 -> 4"),
+                evaluate());
+    }
+
+    @Test
+    void provided_capturesDirtyProperties_only() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 4);
+
+        changeLog.enlistProvided(entity.managedObject, Can.of(
+                PropertyChangeRecord.of(PropertyChangeRecordId.of(entity.managedObject, rating), PreAndPostValue.pre(3))));
+
+        assertEquals(1, changeLog.countCapturedPreValues());
+        assertEquals(
+                Map.of("rating", "3 -> 4"),
+                evaluate());
+    }
+
+    @Test
+    void deleted_publishesAllProperties_asDeleted() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 3);
+
+        changeLog.enlistCurrent(entity.managedObject, deadlockRecognizer);
+        entity.entityState = EntityState.REMOVED;
+
+        assertEquals(
+                Map.of("name", "Fred -> [DELETED]", "rating", "3 -> [DELETED]"),
+                evaluate());
+    }
+
+    @Test
+    void createdThenDeleted_publishesNothing() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 3);
+
+        changeLog.enlistCreated(entity.managedObject);
+        changeLog.enlistCurrent(entity.managedObject, deadlockRecognizer);
+        entity.entityState = EntityState.REMOVED;
+
+        assertEquals(Map.of(), evaluate());
+    }
+
+    @Test
+    void reEnlisted_keepsFirstPreValues() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 3);
+
+        changeLog.enlistCurrent(entity.managedObject, deadlockRecognizer);
+        entity.with("rating", 4);
+        changeLog.enlistCurrent(entity.managedObject, deadlockRecognizer);
+        changeLog.enlistProvided(entity.managedObject, Can.of(
+                PropertyChangeRecord.of(PropertyChangeRecordId.of(entity.managedObject, rating), PreAndPostValue.pre(4))));
+        entity.with("rating", 5);
+
+        assertEquals(1, changeLog.enlistedBookmarks().size());
+        assertEquals(
+                Map.of("rating", "3 -> 5"),
+                evaluate());
+    }
+
+    @Test
+    void providedThenCurrent_capturesRemainingProperties() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 4);
+
+        changeLog.enlistProvided(entity.managedObject, Can.of(
+                PropertyChangeRecord.of(PropertyChangeRecordId.of(entity.managedObject, rating), PreAndPostValue.pre(3))));
+        changeLog.enlistCurrent(entity.managedObject, deadlockRecognizer);
+        entity.with("name", "Freddy");
+
+        assertEquals(2, changeLog.countCapturedPreValues());
+        assertEquals(
+                Map.of("name", "Fred -> Freddy", "rating", "3 -> 4"),
+                evaluate());
+    }
+
+    @Test
+    void evaluation_iteratesOverSnapshot() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 3);
+        var other = new FakeEntity("2").with("name", "Bill").with("rating", 1);
+        changeLog.enlistCurrent(entity.managedObject, deadlockRecognizer);
+
+        // reading the post-value enlists another entity, as could a lazily loaded reference
+        Mockito.doAnswer(__->{
+            changeLog.enlistCurrent(other.managedObject, deadlockRecognizer);
+            return pojo("Freddy");
+        }).when(name).get(entity.managedObject, InteractionInitiatedBy.PASS_THROUGH);
+        var records = changeLog.evaluate(deadlockRecognizer, PreAndPostValue::shouldPublish);
+
+        assertEquals(
+                Set.of(entity.bookmark),
+                records.stream().map(PropertyChangeRecord::getBookmark).collect(Collectors.toSet()));
+        assertEquals(
+                Set.of(entity.bookmark, other.bookmark),
+                changeLog.enlistedBookmarks());
+    }
+
+    @Test
+    void clear_forgetsEnlistedEntities() {
+        var entity = new FakeEntity("1").with("name", "Fred").with("rating", 3);
+
+        changeLog.enlistCreated(entity.managedObject);
+        changeLog.clear();
+
+        assertTrue(changeLog.enlistedBookmarks().isEmpty());
+        assertEquals(0, changeLog.countCapturedPreValues());
+        assertEquals(Map.of(), evaluate());
+    }
+
+    // -- HELPER
+
+    /**
+     * Changed property ids mapped to their pre- and post-values.
+     */
+    private Map<String, String> evaluate() {
+        return changeLog.evaluate(deadlockRecognizer, PreAndPostValue::shouldPublish).stream()
+                .collect(Collectors.toMap(
+                        PropertyChangeRecord::getPropertyId,
+                        record->record.getPreAndPostValue().toString()));
+    }
+
+    private static OneToOneAssociation property(final String id) {
+        var property = Mockito.mock(OneToOneAssociation.class);
+        var elementType = Mockito.mock(ObjectSpecification.class);
+        when(property.getId()).thenReturn(id);
+        when(property.getElementType()).thenReturn(elementType);
+        Mockito.<Class<?>>when(elementType.getCorrespondingClass()).thenReturn(Object.class);
+        return property;
+    }
+
+    private static ManagedObject pojo(final Object value) {
+        var managedObject = Mockito.mock(ManagedObject.class);
+        when(managedObject.getPojo()).thenReturn(value);
+        return managedObject;
+    }
+
+    private class FakeEntity {
+
+        final Bookmark bookmark;
+        final ManagedObject managedObject = Mockito.mock(ManagedObject.class);
+        final Map<String, Object> values = new HashMap<>();
+        EntityState entityState = EntityState.ATTACHED;
+
+        FakeEntity(final String id) {
+            this.bookmark = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", id);
+            when(managedObject.getSpecification()).thenReturn(spec);
+            when(managedObject.getBookmark()).thenReturn(Optional.of(bookmark));
+            when(managedObject.getEntityState()).thenAnswer(__->entityState);
+            for (var property : new OneToOneAssociation[] {name, rating}) {
+                when(property.get(Mockito.eq(managedObject), any(InteractionInitiatedBy.class)))
+                    .thenAnswer(__->pojo(values.get(property.getId())));
+            }
+        }
+
+        FakeEntity with(final String propertyId, final Object value) {
+            values.put(propertyId, value);
+            return this;
+        }
+    }
+
+}
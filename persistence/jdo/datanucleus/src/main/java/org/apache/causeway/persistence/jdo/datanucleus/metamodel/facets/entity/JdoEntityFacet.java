@@ -23,10 +23,14 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.jdo.FetchGroup;
+import javax.jdo.FetchPlan;
 import javax.jdo.JDOHelper;
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
 
 import jakarta.inject.Inject;
@@ -56,6 +60,7 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata;
+import org.apache.causeway.core.metamodel.facets.object.entity._EntityStreams;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
@@ -83,6 +88,16 @@
 extends FacetAbstract
 implements EntityFacet {
 
+    /**
+     * Upper bound for the number of object ids passed to a single
+     * {@link PersistenceManager#getObjectsById(java.util.Collection, boolean)} call,
+     * when fetching entities in bulk.
+     */
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
+    /** DataNucleus query extension, that controls caching of the objects of a query result. */
+    private static final String PROPERTY_QUERY_RESULT_CACHE_TYPE = "datanucleus.query.resultCacheType";
+
     // self managed injections via constructor ...
     @Inject private TransactionAwarePersistenceManagerFactoryProxy pmf;
     @Inject private TransactionService txService;
@@ -215,6 +230,40 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    @Override
+    public Can<Optional<Object>> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        if(bookmarks.size()<2) {
+            return bookmarks.map(this::fetchByBookmark);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks.size());
+
+        var persistenceManager = getPersistenceManager();
+        var fetchPlan = persistenceManager.getFetchPlan();
+        fetchPlan.addGroup(FetchGroup.DEFAULT);
+
+        return bookmarks
+            .partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+            .flatMap(chunk->fetchChunkByBookmarks(persistenceManager, chunk));
+    }
+
+    private Can<Optional<Object>> fetchChunkByBookmarks(
+            final PersistenceManager persistenceManager,
+            final Can<Bookmark> chunk) {
+        var objectIds = chunk
+                .map(bookmark->primaryKeyTypeForDecoding().destring(bookmark.getIdentifier()))
+                .map(primaryKey->persistenceManager.newObjectIdInstance(entityClass, primaryKey))
+                .toList();
+        try {
+            // order of the result corresponds to the order of the object ids passed in
+            return Can.<Object>ofCollection(persistenceManager.getObjectsById(objectIds, true))
+                    .map(Optional::of);
+        } catch (final JDOObjectNotFoundException e) {
+            // at least one is missing, so resolve this chunk one by one to find out which
+            return chunk.map(this::fetchByBookmark);
+        }
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
@@ -222,6 +271,63 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             log.debug("about to execute Query: {}", query.getDescription());
         }
 
+        var range = query.getRange();
+        var jdoQuery = prepareQuery(getPersistenceManager(), query);
+        var resultList = fetchWithinTransaction(jdoQuery.executor());
+
+        if(range.hasLimit()) {
+            _Assert.assertTrue(resultList.size()<=range.getLimit());
+        }
+
+        return resultList;
+    }
+
+    @Override
+    public Stream<ManagedObject> streamByQuery(final Query<?> query, final int fetchSize, final int clearInterval) {
+
+        if(!txService.currentTransactionState().isInProgress()) {
+            // a cursor cannot outlive a transaction created just for running the query
+            return fetchByQuery(query).stream();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to stream Query: {}; fetchSize={}, clearInterval={}",
+                    query.getDescription(), fetchSize, clearInterval);
+        }
+
+        var persistenceManager = getPersistenceManager();
+        var jdoQuery = prepareQuery(persistenceManager, query);
+        if(fetchSize>0) {
+            jdoQuery.fetchPlan().setFetchSize(fetchSize);
+        }
+        // don't have the query result hold on to rows already iterated over
+        jdoQuery.extension().accept(PROPERTY_QUERY_RESULT_CACHE_TYPE, "none");
+
+        var resultList = jdoQuery.executor().get();
+
+        return _EntityStreams.clearingPeriodically(
+                    _NullSafe.stream(resultList).onClose(jdoQuery.closer()),
+                    clearInterval,
+                    ()->{
+                        // dirty instances must be flushed, as these would not be evicted
+                        persistenceManager.flush();
+                        persistenceManager.evictAll();
+                    })
+                .map(fetchedObject->adapt(objectLifecyclePublisher, fetchedObject));
+    }
+
+    /**
+     * A JDO query (typed or named) ready for execution.
+     */
+    private record PreparedQuery(
+            FetchPlan fetchPlan,
+            BiConsumer<String, Object> extension,
+            Supplier<List<?>> executor,
+            Runnable closer) {
+    }
+
+    private PreparedQuery prepareQuery(final PersistenceManager persistenceManager, final Query<?> query) {
+
         var range = query.getRange();
 
         if(query instanceof AllInstancesQuery) {
@@ -232,8 +338,6 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             // guard against misuse
             _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
 
-            var persistenceManager = getPersistenceManager();
-
             var typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
             typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
 
@@ -241,21 +345,17 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 typedQuery.range(range.getStart(), range.getEnd());
             }
 
-            var resultList = fetchWithinTransaction(typedQuery::executeList);
-
-            if(range.hasLimit()) {
-                _Assert.assertTrue(resultList.size()<=range.getLimit());
-            }
-
-            return resultList;
+            return new PreparedQuery(
+                    typedQuery.getFetchPlan(),
+                    typedQuery::extension,
+                    typedQuery::executeList,
+                    typedQuery::closeAll);
 
         } else if(query instanceof NamedQuery) {
 
             var applibNamedQuery = (NamedQuery<?>) query;
             var queryResultType = applibNamedQuery.getResultType();
 
-            var persistenceManager = getPersistenceManager();
-
             var namedParams = _Maps.<String, Object>newHashMap();
             var namedQuery = persistenceManager.newNamedQuery(queryResultType, applibNamedQuery.getName())
                     .setNamedParameters(namedParams);
@@ -283,13 +383,12 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             Supplier<List<?>> executeMethod = hasResultPhrase(namedQuery)
                     ? namedQuery::executeResultList     // eg SELECT DISTINCT this.paymentMethod FROM IncomingInvoice WHERE ...
                     : namedQuery::executeList;          // eg SELECT FROM IncomingInvoice WHERE ...
-            var resultList = fetchWithinTransaction(executeMethod);
-
-            if(range.hasLimit()) {
-                _Assert.assertTrue(resultList.size()<=range.getLimit());
-            }
 
-            return resultList;
+            return new PreparedQuery(
+                    namedQuery.getFetchPlan(),
+                    namedQuery::extension,
+                    executeMethod,
+                    namedQuery::closeAll);
         }
 
         throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
@@ -19,11 +19,16 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Type.PersistenceType;
 
 import org.springframework.data.jpa.repository.JpaContext;
 import org.jspecify.annotations.Nullable;
@@ -42,6 +47,7 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata;
+import org.apache.causeway.core.metamodel.facets.object.entity._EntityStreams;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 import org.apache.causeway.persistence.jpa.applib.integration.HasVersion;
@@ -55,6 +61,17 @@
         extends FacetAbstract
         implements EntityFacet {
 
+    /**
+     * Upper bound for the number of primary keys passed to a single {@code IN (...)} clause,
+     * when fetching entities in bulk.
+     */
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
+    /** JDBC fetch size query hint as recognized by EclipseLink. */
+    private static final String HINT_FETCH_SIZE_ECLIPSELINK = "eclipselink.jdbc.fetch-size";
+    /** JDBC fetch size query hint as recognized by Hibernate. */
+    private static final String HINT_FETCH_SIZE_HIBERNATE = "org.hibernate.fetchSize";
+
     // self managed injections via constructor
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
@@ -114,12 +131,89 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    @Override
+    public Can<Optional<Object>> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        if(bookmarks.size()<2) {
+            return bookmarks.map(this::fetchByBookmark);
+        }
+
+        var entityManager = getEntityManager();
+        var entityType = entityManager.getMetamodel().entity(entityClass);
+        if(!entityType.hasSingleIdAttribute()
+                || entityType.getIdType().getPersistenceType()!=PersistenceType.BASIC) {
+            // composite or embedded primary keys are not supported by IN (...) across all providers
+            return bookmarks.map(this::fetchByBookmark);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks.size());
+
+        var idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        var primaryKeys = bookmarks.map(bookmark->primaryKeyType.destring(bookmark.getIdentifier()));
+        var entityPojoByPrimaryKey = new HashMap<Object, Object>();
+
+        primaryKeys.distinct()
+            .partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+            .forEach(chunk->
+                queryByPrimaryKeys(entityManager, entityClass, idAttributeName, chunk.toList())
+                    .forEach(entityPojo->entityPojoByPrimaryKey
+                            .put(persistenceUnitUtil.getIdentifier(entityPojo), entityPojo)));
+
+        // preserve input order, missing ones are empty
+        return primaryKeys.map(primaryKey->Optional.ofNullable(entityPojoByPrimaryKey.get(primaryKey)));
+    }
+
+    private static <E> List<E> queryByPrimaryKeys(
+            final EntityManager entityManager,
+            final Class<E> entityClass,
+            final String idAttributeName,
+            final List<?> primaryKeys) {
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(entityClass);
+        var root = cr.from(entityClass);
+        cr.select(root)
+            .where(root.get(idAttributeName).in(primaryKeys));
+        return entityManager.createQuery(cr).getResultList();
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
 
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
+        var entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                createTypedQuery(getEntityManager(), query)
+                        .getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
+    @Override
+    public Stream<ManagedObject> streamByQuery(final Query<?> query, final int fetchSize, final int clearInterval) {
+        var entityManager = getEntityManager();
+        var typedQuery = createTypedQuery(entityManager, query);
+        if (fetchSize > 0) {
+            // vendor specific hints, silently ignored by providers not recognizing them
+            typedQuery.setHint(HINT_FETCH_SIZE_ECLIPSELINK, fetchSize);
+            typedQuery.setHint(HINT_FETCH_SIZE_HIBERNATE, fetchSize);
+        }
+
+        log.debug("about to stream query {}; fetchSize={}, clearInterval={}",
+                query.getDescription(), fetchSize, clearInterval);
+
+        var entitySpec = getEntitySpecification();
+        return _EntityStreams.clearingPeriodically(
+                    typedQuery.getResultStream(),
+                    clearInterval,
+                    ()->{
+                        entityManager.flush();
+                        entityManager.clear();
+                    })
+                .map(entity -> ManagedObject.adaptSingular(entitySpec, entity));
+    }
+
+    private TypedQuery<?> createTypedQuery(final EntityManager entityManager, final Query<?> query) {
 
         var range = query.getRange();
 
@@ -131,8 +225,6 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             // guard against misuse
             _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
 
-            var entityManager = getEntityManager();
-
             var cb = entityManager.getCriteriaBuilder();
             var cr = cb.createQuery(entityClass);
 
@@ -148,18 +240,13 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 typedQuery.setMaxResults(range.getLimitAsInt());
             }
 
-            var entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    typedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return typedQuery;
 
         } else if (query instanceof NamedQuery) {
 
             var applibNamedQuery = (NamedQuery<?>) query;
             var queryResultType = applibNamedQuery.getResultType();
 
-            var entityManager = getEntityManager();
-
             var namedQuery = entityManager
                     .createNamedQuery(applibNamedQuery.getName(), queryResultType);
 
@@ -175,10 +262,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                     .forEach((paramName, paramValue) ->
                             namedQuery.setParameter(paramName, paramValue));
 
-            var entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    namedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return namedQuery;
 
         }
 
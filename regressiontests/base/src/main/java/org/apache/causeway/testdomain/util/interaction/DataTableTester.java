@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.testdomain.util.interaction;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -51,6 +52,13 @@ public void assertFilteredDataElements(final List<Object> expectedPojoElements)
                 .map(MmUnwrapUtils::single).toList());
     }
 
+    public void assertFilteredDataElementsPage(final int skip, final int limit, final List<Object> expectedPojoElements) {
+        var actual = new ArrayList<Object>();
+        dataTable.dataRowsFilteredAndSortedPage(skip, limit)
+            .forEachRemaining(dataRow->actual.add(MmUnwrapUtils.single(dataRow.rowElement())));
+        assertEquals(expectedPojoElements, actual);
+    }
+
     public void assertSelectedDataElements(final List<Object> expectedPojoElements) {
         assertEquals(expectedPojoElements,
                 dataTable.dataRowsSelectedObservable().getValue()
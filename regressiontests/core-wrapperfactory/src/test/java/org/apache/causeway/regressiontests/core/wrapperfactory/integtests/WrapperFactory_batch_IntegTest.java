@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.core.wrapperfactory.integtests;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.wrapper.control.BatchControl;
+import org.apache.causeway.testdomain.wrapperfactory.Counter;
+
+/**
+ * Run "sh enhance.sh -w" first, to enhance the test JDO entities.
+ */
+class WrapperFactory_batch_IntegTest extends CoreWrapperFactory_IntegTestAbstract {
+
+    @Inject WrapperFactory wrapperFactory;
+
+    @BeforeEach
+    void setup_counters() {
+        runWithNewTransaction(() -> {
+            counterRepository.removeAll();
+            counterRepository.persist(newCounter("counter-1"));
+            counterRepository.persist(newCounter("counter-2"));
+            counterRepository.persist(newCounter("counter-3"));
+        });
+    }
+
+    @Test
+    void batch_invokes_each_in_order() {
+
+        // when
+        runWithNewTransaction(() -> {
+            var counters = sortedCounters();
+
+            var results = wrapperFactory.wrapBatch(counters, (i, counter) -> {
+                counter.increment();
+                return counter.increment().getNum() + i;
+            });
+
+            // then - results are aligned with the domain objects
+            assertThat(results).containsExactly(2L, 3L, 4L);
+        });
+
+        // then
+        runWithNewTransaction(() -> {
+            assertThat(sortedCounters())
+                .extracting(Counter::getNum)
+                .containsExactly(2L, 2L, 2L);
+        });
+    }
+
+    @Test
+    void batch_in_chunks() {
+
+        // when
+        runWithNewTransaction(() -> {
+            var counters = sortedCounters();
+
+            var results = wrapperFactory.wrapBatch(counters, (i, counter) -> counter.increment().getName(),
+                    BatchControl.control().withChunkSize(2));
+
+            assertThat(results).containsExactly("counter-1", "counter-2", "counter-3");
+        });
+
+        // then
+        runWithNewTransaction(() -> {
+            assertThat(sortedCounters())
+                .extracting(Counter::getNum)
+                .containsExactly(1L, 1L, 1L);
+        });
+    }
+
+    // -- HELPER
+
+    private List<Counter> sortedCounters() {
+        return counterRepository.find().stream().sorted().toList();
+    }
+
+}
@@ -74,6 +74,7 @@ void multiSelect() {
         var tableTester = tester.tableTester();
 
         tableTester.assertUnfilteredDataElements(expectedElements);
+        tableTester.assertFilteredDataElementsPage(1, 2, expectedElements.subList(1, 3));
 
         // toggle on 'second' and 'last' item for selection
         tableTester.assertDataRowSelectionWhenToggledOn(List.of(1, 3), List.of(
@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jdo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Commit;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.entities.JdoBook;
+
+/**
+ * Covers {@code JdoEntityFacet#fetchByBookmarks} and {@link ObjectManager#loadObjects(Can)}:
+ * results must be aligned with the bookmarks, also when spanning more than one chunk (of 500)
+ * and when some of the entities are missing.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JdoFetchByBookmarksTest",
+        })
+@Transactional
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JdoFetchByBookmarksTest {
+
+    private static final int ENTITY_COUNT = 1_010; // spans 3 chunks
+    private static final int MISSING_INDEX = 501;
+
+    @Inject private RepositoryService repository;
+    @Inject private BookmarkService bookmarkService;
+    @Inject private ObjectManager objectManager;
+    @Inject private SpecificationLoader specificationLoader;
+
+    private static List<Bookmark> bookmarks;
+
+    @Test @Order(0) @Commit
+    void setUp() {
+        bookmarks = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            var entity = repository.persistAndFlush(
+                    JdoBook.of("Book-" + i, "A book for bulk fetching.", 10., "Author", "ISBN-" + i, "Publisher"));
+            bookmarks.add(bookmarkService.bookmarkForElseFail(entity));
+        }
+    }
+
+    @Test @Order(1) @Commit
+    void removeOne() {
+        repository.removeAndFlush(bookmarkService.lookup(bookmarks.get(MISSING_INDEX)).orElseThrow());
+    }
+
+    @Test @Order(2)
+    void fetchByBookmarks_shouldBeAligned() {
+        var entityFacet = specificationLoader.specForTypeElseFail(JdoBook.class)
+                .entityFacetElseFail();
+        var reversed = Can.ofCollection(bookmarks).reverse();
+
+        var pojos = entityFacet.fetchByBookmarks(reversed);
+
+        assertAligned(reversed, pojos);
+    }
+
+    @Test @Order(3)
+    void loadObjects_shouldBeAligned() {
+        var reversed = Can.ofCollection(bookmarks).reverse();
+
+        var pojos = objectManager.loadObjects(reversed)
+                .map(objectIfAny->objectIfAny.map(ManagedObject::getPojo));
+
+        assertAligned(reversed, pojos);
+    }
+
+    // -- HELPER
+
+    private void assertAligned(final Can<Bookmark> expected, final Can<Optional<Object>> actual) {
+        assertEquals(expected.size(), actual.size());
+        var missing = bookmarks.get(MISSING_INDEX);
+        for (int i = 0; i < expected.size(); i++) {
+            var bookmark = expected.getElseFail(i);
+            var pojoIfAny = actual.getElseFail(i);
+            if(bookmark.equals(missing)) {
+                assertTrue(pojoIfAny.isEmpty());
+            } else {
+                assertEquals(bookmark, bookmarkService.bookmarkForElseFail(pojoIfAny.orElseThrow()));
+            }
+        }
+    }
+
+}
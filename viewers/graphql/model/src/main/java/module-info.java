@@ -19,6 +19,7 @@
 module org.apache.causeway.incubator.viewer.graphql.model {
     exports org.apache.causeway.viewer.graphql.model;
     exports org.apache.causeway.viewer.graphql.model.context;
+    exports org.apache.causeway.viewer.graphql.model.cost;
     exports org.apache.causeway.viewer.graphql.model.domain;
     exports org.apache.causeway.viewer.graphql.model.domain.common;
     exports org.apache.causeway.viewer.graphql.model.domain.common.interactors;
@@ -46,4 +47,5 @@
     requires spring.context;
     requires com.graphqljava;
     requires com.graphqljava.extendedscalars;
+    requires org.dataloader;
 }
\ No newline at end of file
@@ -25,6 +25,7 @@
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLEnumType;
 
@@ -44,9 +45,11 @@
 import org.apache.causeway.core.metamodel.spec.ActionScope;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.TypeNames;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainObject;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainService;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkBatchLoader;
 import org.apache.causeway.viewer.graphql.model.registry.GraphQLTypeRegistry;
 import org.apache.causeway.viewer.graphql.model.types.TypeMapper;
 
@@ -65,9 +68,11 @@ public class Context {
     public final CausewaySystemEnvironment causewaySystemEnvironment;
     public final ObjectManager objectManager;
     public final GraphQLTypeRegistry graphQLTypeRegistry;
+    public final BookmarkBatchLoader bookmarkBatchLoader;
 
     public final Map<String, CommonDomainService> domainServiceByTypeName = new LinkedHashMap<>();
     public final Map<String, CommonDomainObject> domainObjectByTypeName = new LinkedHashMap<>();
+    public final Map<FieldCoordinates, FieldCost> fieldCostByCoordinates = new LinkedHashMap<>();
 
     private GraphQLEnumType logicalTypeNames;
 
@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.cost;
+
+import java.util.Optional;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.actcoll.typeof.TypeOfFacet;
+import org.apache.causeway.core.metamodel.facets.object.paged.PagedFacet;
+import org.apache.causeway.core.metamodel.facets.properties.update.modify.PropertySetterFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+
+/**
+ * Estimated cost of resolving a field, derived from the metamodel and used to score an operation before it is
+ * executed.
+ *
+ * @param cost - the cost of resolving the field itself
+ * @param cardinality - for list-valued fields the estimated number of elements, otherwise 1; the cost of the
+ *      field's sub-selection is multiplied by this
+ */
+public record FieldCost(int cost, int cardinality) {
+
+    public static final FieldCost DEFAULT = new FieldCost(1, 1);
+
+    public int complexity(final int childComplexity) {
+        return cost + cardinality * childComplexity;
+    }
+
+    public static FieldCost forAssociation(
+            final ObjectAssociation association,
+            final CausewayConfiguration.Viewer.Graphql.QueryCost queryCostConfig) {
+
+        if (association.isCollection()) {
+            var cardinality = explicitPageSize(association)
+                    .orElseGet(()->cardinalityOf(association.getElementType(), queryCostConfig));
+            return new FieldCost(association.isMixedIn() ? queryCostConfig.getDerivedPropertyCost() : 1, cardinality);
+        }
+
+        var derived = association.isMixedIn()
+                || !association.containsNonFallbackFacet(PropertySetterFacet.class);
+        return derived
+                ? new FieldCost(queryCostConfig.getDerivedPropertyCost(), 1)
+                : DEFAULT;
+    }
+
+    public static FieldCost forAction(
+            final ObjectAction objectAction,
+            final CausewayConfiguration.Viewer.Graphql.QueryCost queryCostConfig) {
+        if (!objectAction.getReturnType().getBeanSort().isCollection()) {
+            return DEFAULT;
+        }
+        return objectAction.lookupFacet(TypeOfFacet.class)
+                .map(typeOfFacet -> forListOf(typeOfFacet.elementSpec(), queryCostConfig))
+                .orElse(DEFAULT);
+    }
+
+    public static FieldCost forListOf(
+            final ObjectSpecification elementSpec,
+            final CausewayConfiguration.Viewer.Graphql.QueryCost queryCostConfig) {
+        return new FieldCost(1, cardinalityOf(elementSpec, queryCostConfig));
+    }
+
+    // -- HELPER
+
+    private static int cardinalityOf(
+            final ObjectSpecification elementSpec,
+            final CausewayConfiguration.Viewer.Graphql.QueryCost queryCostConfig) {
+        return explicitPageSize(elementSpec)
+                .orElse(queryCostConfig.getDefaultCardinality());
+    }
+
+    /**
+     * The page size as explicitly declared (eg. <code>@DomainObjectLayout(paged=...)</code>), ignoring the one every
+     * type and collection is given from configuration; otherwise the default cardinality would never apply.
+     */
+    private static Optional<Integer> explicitPageSize(final FacetHolder facetHolder) {
+        return facetHolder.lookupFacet(PagedFacet.class, facet->
+                    !facet.getPrecedence().isFallback()
+                    && !facet.getPrecedence().isInferred())
+                .map(PagedFacet::value);
+    }
+
+}
@@ -19,10 +19,12 @@
 package org.apache.causeway.viewer.graphql.model.domain;
 
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLFieldDefinition;
 
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.rich.scenario.ScenarioStep;
 
 import lombok.Getter;
@@ -56,9 +58,9 @@ protected final GraphQLFieldDefinition setField(final GraphQLFieldDefinition fie
     public final void addDataFetcher(Parent parent) {
         if (getField() != null) {
             // in some cases there might not be a field, eg RichCollectionGet for DomainObjectList#objects
-            context.codeRegistryBuilder.dataFetcher(
-                    parent.coordinatesFor(getField()),
-                    this::fetchData);
+            var coordinates = parent.coordinatesFor(getField());
+            context.codeRegistryBuilder.dataFetcher(coordinates, this::fetchDataBatchingLookups);
+            registerFieldCost(coordinates);
         }
 
         addDataFetchersForChildren();
@@ -72,9 +74,9 @@ public final void addDataFetcher(Parent parent) {
      * </p>
      */
     public final void addDataFetcher(Parent parent, String fieldName) {
-        context.codeRegistryBuilder.dataFetcher(
-                parent.coordinatesFor(fieldName),
-                this::fetchData);
+        var coordinates = parent.coordinatesFor(fieldName);
+        context.codeRegistryBuilder.dataFetcher(coordinates, this::fetchDataBatchingLookups);
+        registerFieldCost(coordinates);
 
         addDataFetchersForChildren();
     }
@@ -83,4 +85,27 @@ protected void addDataFetchersForChildren() {
     }
 
     protected abstract Object fetchData(DataFetchingEnvironment environment);
+
+    /**
+     * The estimated cost of resolving this element's field, used to score an operation against the configured
+     * {@link CausewayConfiguration.Viewer.Graphql.QueryCost query cost} budget.
+     *
+     * <p>
+     *     Subclasses that resolve to a list, or that resolve a derived value, should override.
+     * </p>
+     */
+    protected FieldCost fieldCost() {
+        return FieldCost.DEFAULT;
+    }
+
+    private void registerFieldCost(final FieldCoordinates coordinates) {
+        var fieldCost = fieldCost();
+        if (!FieldCost.DEFAULT.equals(fieldCost)) {
+            context.fieldCostByCoordinates.put(coordinates, fieldCost);
+        }
+    }
+
+    private Object fetchDataBatchingLookups(DataFetchingEnvironment environment) {
+        return context.bookmarkBatchLoader.fetchData(environment, this::fetchData);
+    }
 }
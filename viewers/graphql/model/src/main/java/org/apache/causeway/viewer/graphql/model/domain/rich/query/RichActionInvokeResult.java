@@ -33,6 +33,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.Environment;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.ActionInteractor;
@@ -98,6 +99,11 @@ private GraphQLOutputType typeFor(final ObjectAction objectAction){
         }
     }
 
+    @Override
+    protected FieldCost fieldCost() {
+        return FieldCost.forAction(actionInteractor.getObjectMember(), graphqlConfiguration.getQueryCost());
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
 
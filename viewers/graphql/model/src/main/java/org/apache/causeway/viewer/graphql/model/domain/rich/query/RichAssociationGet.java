@@ -26,6 +26,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.MemberInteractor;
 import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
@@ -53,6 +54,11 @@ public RichAssociationGet(
 
     abstract GraphQLOutputType outputTypeFor(MemberInteractor<T> holder);
 
+    @Override
+    protected FieldCost fieldCost() {
+        return FieldCost.forAssociation(memberInteractor.getObjectMember(), graphqlConfiguration.getQueryCost());
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
 
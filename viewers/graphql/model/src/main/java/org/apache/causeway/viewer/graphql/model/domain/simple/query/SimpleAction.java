@@ -35,6 +35,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.*;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.Environment;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.ObjectInteractor;
@@ -290,6 +291,11 @@ GraphQLArgument gqlArgumentFor(final OneToManyActionParameter otmap) {
                 .build();
     }
 
+    @Override
+    protected FieldCost fieldCost() {
+        return FieldCost.forAction(objectMember, graphqlConfiguration.getQueryCost());
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
 
@@ -25,6 +25,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.ObjectInteractor;
 import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
@@ -61,6 +62,11 @@ public String getId() {
         return objectMember.asciiId();
     }
 
+    @Override
+    protected FieldCost fieldCost() {
+        return FieldCost.forAssociation(objectMember, graphqlConfiguration.getQueryCost());
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
 
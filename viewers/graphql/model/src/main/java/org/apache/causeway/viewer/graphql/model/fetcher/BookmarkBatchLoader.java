@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.dataloader.DataLoader;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.IndexedConsumer;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+
+/**
+ * Resolves the target pojos of {@link BookmarkedPojo}s through {@link DataLoader}s, one per entity logical type,
+ * so that the lookups of the fields of an operation are batched and de-duplicated rather than performed one at a time.
+ *
+ * <p>
+ *     The batch loaders themselves are registered by the viewer, using {@link #dataLoaderNameFor(String)} and
+ *     {@link #loadAll(ObjectSpecification, Set)}.
+ * </p>
+ *
+ * <p>
+ *     Batching is only in effect for queries resolved within a single interaction, that is, with
+ *     {@link CausewayConfiguration.Viewer.Graphql.InteractionScope#PER_OPERATION}.  Otherwise the futures returned
+ *     by the data loaders could be completed after the interaction of the field that requested them was closed.
+ * </p>
+ */
+@Component
+public class BookmarkBatchLoader {
+
+    private static final String DATA_LOADER_NAME_PREFIX = "causeway.bookmark:";
+
+    private final CausewayConfiguration.Viewer.Graphql graphqlConfiguration;
+
+    public BookmarkBatchLoader(final CausewayConfiguration causewayConfiguration) {
+        this.graphqlConfiguration = causewayConfiguration.getViewer().getGraphql();
+    }
+
+    public static String dataLoaderNameFor(final String logicalTypeName) {
+        return DATA_LOADER_NAME_PREFIX + logicalTypeName;
+    }
+
+    /**
+     * Fetches the entities of the given type for all of the provided {@link Bookmark}s; any that cannot be found
+     * are absent from the returned map.
+     */
+    public Map<Bookmark, Object> loadAll(
+            final ObjectSpecification entitySpec,
+            final Set<Bookmark> bookmarks) {
+        var entityFacet = entitySpec.entityFacetElseFail();
+        var bookmarksInOrder = Can.ofCollection(bookmarks);
+        var pojoByBookmark = new HashMap<Bookmark, Object>(bookmarks.size());
+        entityFacet.fetchByBookmarks(bookmarksInOrder)
+            .forEach(IndexedConsumer.zeroBased((index, pojoIfAny)->
+                pojoIfAny.ifPresent(pojo->pojoByBookmark.put(bookmarksInOrder.getElseFail(index), pojo))));
+        return pojoByBookmark;
+    }
+
+    /**
+     * If the source of the given environment is a {@link BookmarkedPojo} and batching applies, then
+     * loads its target through the appropriate {@link DataLoader} and calls the fetcher with that target
+     * as the source, once available.  Otherwise just calls the fetcher.
+     */
+    public Object fetchData(
+            final DataFetchingEnvironment environment,
+            final Function<DataFetchingEnvironment, Object> fetcher) {
+
+        var source = environment.getSource();
+        if (!(source instanceof BookmarkedPojo)) {
+            return fetcher.apply(environment);
+        }
+        var bookmark = ((BookmarkedPojo) source).getBookmark();
+        var dataLoader = dataLoaderFor(environment, bookmark);
+        if (dataLoader == null) {
+            return fetcher.apply(environment);
+        }
+        return dataLoader.load(bookmark)
+                .thenApply(targetPojo->{
+                    if (targetPojo == null) {
+                        throw _Exceptions.noSuchElement("no object found for bookmark %s", bookmark);
+                    }
+                    return fetcher.apply(
+                            DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environment)
+                                .source(targetPojo)
+                                .build());
+                });
+    }
+
+    /**
+     * Primes the appropriate {@link DataLoader} (if any), such that the target of the {@link Bookmark} is
+     * not looked up again while resolving the rest of the operation.
+     */
+    public void prime(
+            final DataFetchingEnvironment environment,
+            final Bookmark bookmark,
+            final Object pojo) {
+        var dataLoader = dataLoaderFor(environment, bookmark);
+        if (dataLoader != null) {
+            dataLoader.prime(bookmark, pojo);
+        }
+    }
+
+    // -- HELPER
+
+    private DataLoader<Bookmark, Object> dataLoaderFor(
+            final DataFetchingEnvironment environment,
+            final Bookmark bookmark) {
+        if (!isBatching(environment)) {
+            return null;
+        }
+        // null for view models and any other types that have no batch loader registered
+        return environment.getDataLoader(dataLoaderNameFor(bookmark.getLogicalTypeName()));
+    }
+
+    private boolean isBatching(final DataFetchingEnvironment environment) {
+        return graphqlConfiguration.getInteractionScope().isPerOperation()
+                && environment.getOperationDefinition().getOperation() != OperationDefinition.Operation.MUTATION;
+    }
+
+}
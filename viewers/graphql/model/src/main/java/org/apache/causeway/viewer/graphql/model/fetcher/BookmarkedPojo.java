@@ -47,10 +47,18 @@ public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment)
     public static BookmarkedPojo sourceFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
         var sourcePojo = sourceFrom(dataFetchingEnvironment);
         return context.bookmarkService.bookmarkFor(sourcePojo)
-                .map(bookmark -> new BookmarkedPojo(bookmark, context.bookmarkService))
+                .map(bookmark -> {
+                    // so that children resolving this bookmark need not look up the pojo again
+                    context.bookmarkBatchLoader.prime(dataFetchingEnvironment, bookmark, sourcePojo);
+                    return new BookmarkedPojo(bookmark, context.bookmarkService);
+                })
                 .orElseThrow();
     }
 
+    public Bookmark getBookmark() {
+        return bookmark;
+    }
+
     public Object getTargetPojo() {
         return bookmarkService.lookup(bookmark).orElseThrow();
     }
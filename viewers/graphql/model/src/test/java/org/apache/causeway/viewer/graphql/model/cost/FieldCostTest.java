@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.cost;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.facetapi.Facet.Precedence;
+import org.apache.causeway.core.metamodel.facets.object.paged.PagedFacet;
+import org.apache.causeway.core.metamodel.facets.object.paged.PagedFacetAbstract;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+class FieldCostTest {
+
+    @Test
+    void defaultComplexity() {
+        assertEquals(1, FieldCost.DEFAULT.complexity(0)); // leaf
+        assertEquals(4, FieldCost.DEFAULT.complexity(3)); // one plus its sub-selection
+    }
+
+    @Test
+    void cardinalityMultipliesSubSelection() {
+        var listOfTen = new FieldCost(1, 10);
+        assertEquals(1, listOfTen.complexity(0));
+        assertEquals(31, listOfTen.complexity(3));
+
+        var derived = new FieldCost(5, 1);
+        assertEquals(5, derived.complexity(0));
+        assertEquals(8, derived.complexity(3));
+    }
+
+    @Test
+    void listOf_usesDefaultCardinality_whenPageSizeOnlyFromConfiguration() {
+        var queryCostConfig = new CausewayConfiguration.Viewer.Graphql.QueryCost();
+        queryCostConfig.setDefaultCardinality(7);
+        var elementSpec = Mockito.mock(ObjectSpecification.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(new PagedFacetAbstract(25, elementSpec, Precedence.INFERRED) {}) // as PagedFacetFromConfiguration
+            .when(elementSpec).getFacet(PagedFacet.class);
+
+        assertEquals(new FieldCost(1, 7), FieldCost.forListOf(elementSpec, queryCostConfig));
+    }
+
+    @Test
+    void listOf_usesPageSize_whenExplicit() {
+        var queryCostConfig = new CausewayConfiguration.Viewer.Graphql.QueryCost();
+        queryCostConfig.setDefaultCardinality(7);
+        var elementSpec = Mockito.mock(ObjectSpecification.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(new PagedFacetAbstract(25, elementSpec, Precedence.DEFAULT) {})
+            .when(elementSpec).getFacet(PagedFacet.class);
+
+        assertEquals(new FieldCost(1, 25), FieldCost.forListOf(elementSpec, queryCostConfig));
+    }
+
+}
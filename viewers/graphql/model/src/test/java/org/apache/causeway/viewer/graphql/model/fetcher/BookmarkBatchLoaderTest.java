@@ -0,0 +1,190 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+
+class BookmarkBatchLoaderTest {
+
+    private final Bookmark fred = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1");
+    private final Bookmark bill = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "2");
+    private final Bookmark gone = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "3");
+
+    private final List<Set<Bookmark>> batches = new ArrayList<>();
+    private ObjectSpecification entitySpec;
+    private CausewayConfiguration causewayConfiguration;
+    private BookmarkBatchLoader bookmarkBatchLoader;
+    private DataLoaderRegistry dataLoaderRegistry;
+
+    @BeforeEach
+    void setUp() {
+        causewayConfiguration = CausewayConfiguration.builder().build();
+        causewayConfiguration.getViewer().getGraphql()
+            .setInteractionScope(CausewayConfiguration.Viewer.Graphql.InteractionScope.PER_OPERATION);
+        bookmarkBatchLoader = new BookmarkBatchLoader(causewayConfiguration);
+
+        var entityFacet = Mockito.mock(EntityFacet.class);
+        Mockito.when(entityFacet.fetchByBookmarks(Mockito.any())).thenAnswer(invocation->{
+            Can<Bookmark> bookmarks = invocation.getArgument(0);
+            return bookmarks.map(bookmark->
+                bookmark.equals(gone)
+                    ? Optional.empty()
+                    : Optional.of("pojo-" + bookmark.getIdentifier()));
+        });
+        entitySpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(entitySpec.entityFacetElseFail()).thenReturn(entityFacet);
+
+        // as registered by the viewer
+        dataLoaderRegistry = new DataLoaderRegistry();
+        dataLoaderRegistry.register(
+                BookmarkBatchLoader.dataLoaderNameFor("test.Customer"),
+                DataLoaderFactory.<Bookmark, Object>newMappedDataLoader(bookmarks->{
+                    batches.add(bookmarks);
+                    return CompletableFuture.completedFuture(bookmarkBatchLoader.loadAll(entitySpec, bookmarks));
+                }));
+    }
+
+    @Test
+    void loadAll_omitsMissing() {
+        assertEquals(
+                Map.of(fred, "pojo-1", bill, "pojo-2"),
+                bookmarkBatchLoader.loadAll(entitySpec, Set.of(fred, bill, gone)));
+    }
+
+    @Test
+    void fetchData_failsForMissing() {
+        var goneTarget = fetch(OperationDefinition.Operation.QUERY, gone);
+
+        dispatch();
+
+        assertThrows(CompletionException.class, goneTarget::join);
+    }
+
+    @Test
+    void fetchData_batchesAndDeduplicates() {
+        var fredTarget = fetch(OperationDefinition.Operation.QUERY, fred);
+        var billTarget = fetch(OperationDefinition.Operation.QUERY, bill);
+        var fredAgainTarget = fetch(OperationDefinition.Operation.QUERY, fred);
+        assertTrue(batches.isEmpty()); // not until dispatched
+
+        dispatch();
+
+        assertEquals(List.of(Set.of(fred, bill)), batches);
+        assertEquals("pojo-1", fredTarget.join());
+        assertEquals("pojo-2", billTarget.join());
+        assertEquals("pojo-1", fredAgainTarget.join());
+    }
+
+    @Test
+    void prime_avoidsLookup() {
+        bookmarkBatchLoader.prime(environment(OperationDefinition.Operation.QUERY, fred), fred, "primed");
+
+        var fredTarget = fetch(OperationDefinition.Operation.QUERY, fred);
+        dispatch();
+
+        assertTrue(batches.isEmpty());
+        assertEquals("primed", fredTarget.join());
+    }
+
+    @Test
+    void fetchData_doesNotBatch_forMutations() {
+        var result = bookmarkBatchLoader.fetchData(
+                environment(OperationDefinition.Operation.MUTATION, fred),
+                DataFetchingEnvironment::getSource);
+
+        assertTrue(result instanceof BookmarkedPojo);
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void fetchData_doesNotBatch_perField() {
+        causewayConfiguration.getViewer().getGraphql()
+            .setInteractionScope(CausewayConfiguration.Viewer.Graphql.InteractionScope.PER_FIELD);
+
+        var result = bookmarkBatchLoader.fetchData(
+                environment(OperationDefinition.Operation.QUERY, fred),
+                DataFetchingEnvironment::getSource);
+
+        assertTrue(result instanceof BookmarkedPojo);
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void fetchData_passesThrough_nonBookmarkedSource() {
+        var environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .source("plain")
+                .dataLoaderRegistry(dataLoaderRegistry)
+                .operationDefinition(OperationDefinition.newOperationDefinition()
+                        .operation(OperationDefinition.Operation.QUERY)
+                        .build())
+                .build();
+
+        assertEquals("plain", bookmarkBatchLoader.fetchData(environment, DataFetchingEnvironment::getSource));
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> fetch(final OperationDefinition.Operation operation, final Bookmark bookmark) {
+        return (CompletableFuture<Object>) bookmarkBatchLoader.fetchData(
+                environment(operation, bookmark),
+                DataFetchingEnvironment::getSource);
+    }
+
+    private DataFetchingEnvironment environment(final OperationDefinition.Operation operation, final Bookmark bookmark) {
+        return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .source(new BookmarkedPojo(bookmark, null))
+                .dataLoaderRegistry(dataLoaderRegistry)
+                .operationDefinition(OperationDefinition.newOperationDefinition()
+                        .operation(operation)
+                        .build())
+                .build();
+    }
+
+    private void dispatch() {
+        dataLoaderRegistry.dispatchAll();
+    }
+
+}
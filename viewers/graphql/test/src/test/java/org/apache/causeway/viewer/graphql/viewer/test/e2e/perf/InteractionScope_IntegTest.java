@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.test.e2e.perf;
+
+import java.util.Locale;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Graphql.InteractionScope;
+import org.apache.causeway.viewer.graphql.viewer.integration.AsyncExecutionStrategyResolvingWithinInteraction;
+import org.apache.causeway.viewer.graphql.viewer.test.e2e.Abstract_IntegTest;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compares the number of interactions opened and the latency of a nested query,
+ * for each of the {@link InteractionScope}s.
+ */
+//NOT USING @Transactional since we are running server within same transaction otherwise
+@Order(1000)
+@ActiveProfiles("test")
+@Log4j2
+public class InteractionScope_IntegTest extends Abstract_IntegTest {
+
+    static final int WARMUP_ITERATIONS = 10;
+    static final int ITERATIONS = 100;
+
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject AsyncExecutionStrategyResolvingWithinInteraction executionStrategy;
+
+    @AfterAll
+    void restoreDefault() {
+        causewayConfiguration.getViewer().getGraphql().setInteractionScope(InteractionScope.PER_FIELD);
+    }
+
+    @Test
+    void nested_query() {
+
+        var perField = measure(InteractionScope.PER_FIELD);
+        var perOperation = measure(InteractionScope.PER_OPERATION);
+
+        // both modes must yield the same payload
+        assertThat(perOperation.response).isEqualTo(perField.response);
+
+        // exactly one interaction per query, irrespective of the number of fields resolved
+        assertThat(perOperation.interactionsPerQuery).isEqualTo(1.0);
+        assertThat(perField.interactionsPerQuery).isGreaterThanOrEqualTo(perOperation.interactionsPerQuery);
+    }
+
+    private Measurement measure(final InteractionScope interactionScope) {
+        causewayConfiguration.getViewer().getGraphql().setInteractionScope(interactionScope);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            submitFileNamed(resourceName());
+        }
+
+        var interactionsBefore = executionStrategy.getInteractionsOpened();
+        var response = new String[1];
+        var watch = _Timing.run(()->{
+            for (int i = 0; i < ITERATIONS; i++) {
+                response[0] = submitFileNamed(resourceName());
+            }
+        });
+        var interactionsPerQuery = (double) (executionStrategy.getInteractionsOpened() - interactionsBefore) / ITERATIONS;
+
+        log.info(String.format(Locale.US, "%s: %d queries took %d ms (%.2f ms/query), %.1f interactions/query",
+                interactionScope, ITERATIONS, watch.getMillis(), (double) watch.getMillis() / ITERATIONS, interactionsPerQuery));
+
+        return new Measurement(response[0], interactionsPerQuery);
+    }
+
+    private String resourceName() {
+        return getClass().getSimpleName() + ".nested_query._.gql";
+    }
+
+    private record Measurement(String response, double interactionsPerQuery) {}
+
+}
@@ -18,32 +18,95 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 
+import graphql.ExecutionResult;
 import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
 import graphql.execution.FieldValueInfo;
+import graphql.execution.NonNullableFieldWasNullException;
+import graphql.language.OperationDefinition;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.viewer.graphql.applib.auth.UserMementoProvider;
 
+import lombok.SneakyThrows;
+
+/**
+ * Resolves each field within an {@link org.apache.causeway.applib.services.iactn.Interaction}.
+ *
+ * <p>
+ *     By default, an interaction is called into for every field
+ *     ({@link CausewayConfiguration.Viewer.Graphql.InteractionScope#PER_FIELD}).  Alternatively, with
+ *     {@link CausewayConfiguration.Viewer.Graphql.InteractionScope#PER_OPERATION}, a single interaction (within a
+ *     single read-only transaction) is opened for a query, while for mutations one interaction is opened per
+ *     top-level mutation field.
+ * </p>
+ */
 @Service
 public class AsyncExecutionStrategyResolvingWithinInteraction extends AsyncExecutionStrategy {
 
     private final InteractionService interactionService;
-
+    private final TransactionService transactionService;
     private final UserMementoProvider userMementoProvider;
+    private final CausewayConfiguration.Viewer.Graphql graphqlConfiguration;
+    private final InstrumentationService instrumentationService;
+
+    private final LongAdder interactionsOpened = new LongAdder();
 
     public AsyncExecutionStrategyResolvingWithinInteraction(
             final InteractionService interactionService,
-            final UserMementoProvider userMementoProvider) {
+            final TransactionService transactionService,
+            final UserMementoProvider userMementoProvider,
+            final CausewayConfiguration causewayConfiguration,
+            final InstrumentationService instrumentationService) {
 
         this.interactionService = interactionService;
+        this.transactionService = transactionService;
         this.userMementoProvider = userMementoProvider;
+        this.graphqlConfiguration = causewayConfiguration.getViewer().getGraphql();
+        this.instrumentationService = instrumentationService;
+    }
+
+    /**
+     * The number of (top-level) interactions opened so far in order to resolve fields.
+     */
+    public long getInteractionsOpened() {
+        return interactionsOpened.sum();
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> execute(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters) throws NonNullableFieldWasNullException {
+
+        if(!isPerOperation()
+                || !parameters.getPath().isRootPath()
+                || isMutation(executionContext)) {
+            return super.execute(executionContext, parameters);
+        }
+
+        // a query (or subscription), so resolve all of its fields within a single interaction and read-only transaction
+        return transactionService.callTransactional(readOnlyTransaction(), ()->
+                    callWithinInteraction(executionContext, parameters, ()->
+                        awaitCompletion(super.execute(executionContext, parameters))))
+                .fold(
+                        CompletableFuture::<ExecutionResult>failedFuture,
+                        resultIfAny->CompletableFuture.completedFuture(resultIfAny.orElse(null)));
     }
 
     @Override
@@ -51,18 +114,24 @@ protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo(
             final ExecutionContext executionContext,
             final ExecutionStrategyParameters parameters) {
 
-        var userMemento = userMementoProvider.userMemento(executionContext, parameters);
-
-        if (userMemento != null) {
-            return interactionService.call(
-                    InteractionContext.builder().user(userMemento).build(),
-                    () -> resolveFieldWithInfo2(executionContext, parameters)
-            );
-        } else {
-            return interactionService.callAnonymous(
-                    () -> resolveFieldWithInfo2(executionContext, parameters)
-            );
+        if(isPerOperation()) {
+            if(!isMutation(executionContext)) {
+                // already within the interaction opened for the operation as a whole
+                return resolveFieldWithInfo2(executionContext, parameters);
+            }
+            if(isTopLevelField(parameters)) {
+                // isolate each top-level mutation field, along with its sub-selection
+                return Try.call(()->
+                            callWithinInteraction(executionContext, parameters, ()->
+                                awaitCompletion(resolveFieldWithInfo2(executionContext, parameters))))
+                        .fold(
+                                CompletableFuture::<FieldValueInfo>failedFuture,
+                                valueIfAny->CompletableFuture.completedFuture(valueIfAny.orElse(null)));
+            }
         }
+
+        return callWithinInteraction(executionContext, parameters, ()->
+                resolveFieldWithInfo2(executionContext, parameters));
     }
 
     /**
@@ -79,4 +148,69 @@ protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo2(
                 : (CompletableFuture<FieldValueInfo>)obj;
     }
 
+    // -- HELPER
+
+    private <T> T callWithinInteraction(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters,
+            final Callable<T> callable) {
+
+        if(!interactionService.isInInteraction()) {
+            interactionsOpened.increment();
+        }
+
+        var userMemento = userMementoProvider.userMemento(executionContext, parameters);
+
+        return instrumentationService.observe(Point.GRAPHQL_RESOLUTION, null, resolutionName(executionContext, parameters), ()->
+            userMemento != null
+                ? interactionService.call(
+                        InteractionContext.builder().user(userMemento).build(),
+                        callable)
+                : interactionService.callAnonymous(callable));
+    }
+
+    /**
+     * The operation kind (eg. {@code query}) when resolving an operation as a whole, otherwise the field's name,
+     * either of which is of bounded cardinality.
+     */
+    private static String resolutionName(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters) {
+        return parameters.getPath().isRootPath()
+                ? executionContext.getOperationDefinition().getOperation().name().toLowerCase()
+                : parameters.getField().getName();
+    }
+
+    /**
+     * Waits for the given future to complete while still within the current interaction, so that no field is
+     * resolved after the interaction (and its transaction) has been closed.  Any failure is rethrown, so that the
+     * interaction is rolled back.
+     */
+    @SneakyThrows
+    private static <T> T awaitCompletion(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() != null ? ex.getCause() : ex;
+        }
+    }
+
+    private boolean isPerOperation() {
+        return graphqlConfiguration.getInteractionScope().isPerOperation();
+    }
+
+    private static boolean isMutation(final ExecutionContext executionContext) {
+        return executionContext.getOperationDefinition().getOperation() == OperationDefinition.Operation.MUTATION;
+    }
+
+    private static boolean isTopLevelField(final ExecutionStrategyParameters parameters) {
+        return parameters.getPath().getLevel() == 1;
+    }
+
+    private static TransactionDefinition readOnlyTransaction() {
+        var def = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRED);
+        def.setReadOnly(true);
+        return def;
+    }
+
 }
@@ -28,11 +28,21 @@
 import org.springframework.graphql.execution.GraphQlSource;
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkBatchLoader;
+
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 /**
  * Defers calling of {@link GraphQlSourceForCauseway#schema()} until after the metamodel is fully introspected.
+ *
+ * <p>
+ *     Also registers a {@link BookmarkBatchLoader batch loader} per entity type, at which point the metamodel is
+ *     likewise known to be fully introspected.
+ * </p>
  */
 @Service()
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
@@ -40,6 +50,8 @@ public class ExecutionGraphQlServiceForCauseway implements ExecutionGraphQlServi
 
     private final BatchLoaderRegistry batchLoaderRegistry;
     private final GraphQlSource graphQlSource;
+    private final Context context;
+    private final BookmarkBatchLoader bookmarkBatchLoader;
 
     DefaultExecutionGraphQlService delegate;
 
@@ -47,6 +59,7 @@ public class ExecutionGraphQlServiceForCauseway implements ExecutionGraphQlServi
     public Mono<ExecutionGraphQlResponse> execute(final ExecutionGraphQlRequest request) {
         if(delegate == null) {
             try {
+                registerBookmarkBatchLoaders();
                 delegate = new DefaultExecutionGraphQlService(graphQlSource);
                 delegate.addDataLoaderRegistrar(batchLoaderRegistry);
             } catch (Exception e) {
@@ -56,4 +69,12 @@ public Mono<ExecutionGraphQlResponse> execute(final ExecutionGraphQlRequest requ
         }
         return delegate.execute(request);
     }
+
+    private void registerBookmarkBatchLoaders() {
+        context.objectSpecifications(ObjectSpecification::isEntity)
+            .forEach(entitySpec->
+                batchLoaderRegistry.<Bookmark, Object>forName(BookmarkBatchLoader.dataLoaderNameFor(entitySpec.logicalTypeName()))
+                    .registerMappedBatchLoader((bookmarks, batchLoaderEnvironment)->
+                            Mono.fromSupplier(()->bookmarkBatchLoader.loadAll(entitySpec, bookmarks))));
+    }
 }
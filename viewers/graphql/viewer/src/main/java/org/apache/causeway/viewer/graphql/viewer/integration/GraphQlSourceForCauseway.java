@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.ArrayList;
+
 import jakarta.annotation.PostConstruct;
 
 import org.springframework.graphql.execution.GraphQlSource;
@@ -37,7 +39,10 @@
 import org.apache.causeway.viewer.graphql.model.toplevel.BothTopLevelQuery;
 
 import graphql.GraphQL;
+import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.schema.GraphQLSchema;
 
 @Service()
@@ -49,6 +54,7 @@ public class GraphQlSourceForCauseway implements GraphQlSource {
     private final GraphQLTypeRegistry graphQLTypeRegistry;
     private final Context context;
     private final AsyncExecutionStrategyResolvingWithinInteraction executionStrategy;
+    private final QueryCostInstrumentation queryCostInstrumentation;
 
     private CausewayConfiguration.Viewer.Graphql graphqlConfiguration;
 
@@ -58,13 +64,15 @@ public GraphQlSourceForCauseway(
             final SpecificationLoader specificationLoader,
             final GraphQLTypeRegistry graphQLTypeRegistry,
             final Context context,
-            final AsyncExecutionStrategyResolvingWithinInteraction executionStrategy) {
+            final AsyncExecutionStrategyResolvingWithinInteraction executionStrategy,
+            final QueryCostInstrumentation queryCostInstrumentation) {
         this.causewayConfiguration = causewayConfiguration;
         this.causewaySystemEnvironment = causewaySystemEnvironment;
         this.specificationLoader = specificationLoader;
         this.graphQLTypeRegistry = graphQLTypeRegistry;
         this.context = context;
         this.executionStrategy = executionStrategy;
+        this.queryCostInstrumentation = queryCostInstrumentation;
 
         this.graphqlConfiguration = causewayConfiguration.getViewer().getGraphql();
     }
@@ -86,11 +94,22 @@ public GraphQL graphQl() {
                     .defaultDataFetcherExceptionHandler(new SimpleDataFetcherExceptionHandler())
                     .queryExecutionStrategy(executionStrategy)
                     .mutationExecutionStrategy(executionStrategy)
+                    .instrumentation(instrumentation())
                     .build();
         }
         return graphQL;
     }
 
+    private Instrumentation instrumentation() {
+        var instrumentations = new ArrayList<Instrumentation>();
+        var maxDepth = graphqlConfiguration.getQueryCost().getMaxDepth();
+        if (maxDepth > 0) {
+            instrumentations.add(new MaxQueryDepthInstrumentation(maxDepth));
+        }
+        instrumentations.add(queryCostInstrumentation);
+        return new ChainedInstrumentation(instrumentations);
+    }
+
     @Override
     public GraphQLSchema schema() {
 
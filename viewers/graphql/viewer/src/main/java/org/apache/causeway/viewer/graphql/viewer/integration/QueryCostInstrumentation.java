@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.QueryComplexityInfo;
+import graphql.execution.AbortExecutionException;
+import graphql.schema.FieldCoordinates;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Scores every operation before it is executed, using the {@link FieldCost}s derived from the metamodel when the
+ * schema was built, and rejects any operation whose cost exceeds the configured
+ * {@link CausewayConfiguration.Viewer.Graphql.QueryCost#getMaxCost() budget}.
+ *
+ * <p>
+ *     The cost is calculated (and recorded) even if no budget is configured, so that a realistic budget can be
+ *     chosen by observing the costs of the queries that clients actually submit.
+ * </p>
+ */
+@Component
+@Log4j2
+public class QueryCostInstrumentation extends MaxQueryComplexityInstrumentation {
+
+    private final CausewayConfiguration.Viewer.Graphql.QueryCost queryCostConfig;
+    private final Recorder recorder;
+
+    public QueryCostInstrumentation(
+            final Context context,
+            final CausewayConfiguration causewayConfiguration) {
+        this(context, new Recorder(causewayConfiguration.getViewer().getGraphql().getQueryCost()));
+    }
+
+    private QueryCostInstrumentation(
+            final Context context,
+            final Recorder recorder) {
+        // a maximum of zero means that the recorder is called for every (non-empty) operation;
+        // it is the recorder that decides whether to reject, against the configured budget.
+        super(0, fieldComplexityCalculator(context), recorder);
+        this.queryCostConfig = recorder.queryCostConfig;
+        this.recorder = recorder;
+    }
+
+    public long getOperationsScored() {
+        return recorder.operationsScored.sum();
+    }
+
+    public long getOperationsRejected() {
+        return recorder.operationsRejected.sum();
+    }
+
+    public long getTotalCost() {
+        return recorder.totalCost.sum();
+    }
+
+    public long getMaxCost() {
+        return recorder.maxCost.get();
+    }
+
+    @Override
+    protected AbortExecutionException mkAbortException(final int totalComplexity, final int maxComplexity) {
+        return new AbortExecutionException(String.format(
+                "maximum query cost exceeded %d > %d", totalComplexity, queryCostConfig.getMaxCost()));
+    }
+
+    // -- HELPER
+
+    private static FieldComplexityCalculator fieldComplexityCalculator(final Context context) {
+        return (final FieldComplexityEnvironment environment, final int childComplexity) -> {
+            var coordinates = FieldCoordinates.coordinates(
+                    environment.getParentType().getName(),
+                    environment.getFieldDefinition().getName());
+            return context.fieldCostByCoordinates
+                    .getOrDefault(coordinates, FieldCost.DEFAULT)
+                    .complexity(childComplexity);
+        };
+    }
+
+    /**
+     * Called by the superclass once an operation has been scored; records the cost and returns whether to reject.
+     */
+    private static class Recorder implements Function<QueryComplexityInfo, Boolean> {
+
+        private final CausewayConfiguration.Viewer.Graphql.QueryCost queryCostConfig;
+
+        private final LongAdder operationsScored = new LongAdder();
+        private final LongAdder operationsRejected = new LongAdder();
+        private final LongAdder totalCost = new LongAdder();
+        private final LongAccumulator maxCost = new LongAccumulator(Long::max, 0L);
+
+        Recorder(final CausewayConfiguration.Viewer.Graphql.QueryCost queryCostConfig) {
+            this.queryCostConfig = queryCostConfig;
+        }
+
+        @Override
+        public Boolean apply(final QueryComplexityInfo queryComplexityInfo) {
+            var cost = queryComplexityInfo.getComplexity();
+            var budget = queryCostConfig.getMaxCost();
+            var reject = budget > 0 && cost > budget;
+
+            operationsScored.increment();
+            totalCost.add(cost);
+            maxCost.accumulate(cost);
+            if (reject) {
+                operationsRejected.increment();
+                log.warn("rejecting GraphQL operation; cost {} exceeds budget of {}", cost, budget);
+            } else if (log.isDebugEnabled()) {
+                log.debug("GraphQL operation cost {} (budget {})", cost, budget > 0 ? budget : "unlimited");
+            }
+            return reject;
+        }
+    }
+
+}
@@ -18,11 +18,15 @@
  */
 package org.apache.causeway.viewer.restfulobjects.applib.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -59,6 +63,17 @@ public static String getEntityAsStringFrom(final Response response) {
             return (String) result;
         }
 
+        if(result instanceof StreamingOutput) {
+            // server-side response, entity not yet written out
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try {
+                ((StreamingOutput) result).write(buffer);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+
         // TODO [andi-huber] just a wild guess
         return response.readEntity(String.class);
 
@@ -150,4 +165,17 @@ public String write(final Object object) throws JsonGenerationException, JsonMap
         return objectMapper.writeValueAsString(object);
     }
 
+    /**
+     * Serializes the object directly onto the provided stream (UTF-8 encoded), without first
+     * buffering it as a {@link String}.
+     *
+     * <p>
+     * The stream is flushed but not closed.
+     */
+    public void write(final Object object, final OutputStream outputStream) throws JsonGenerationException, JsonMappingException, IOException {
+        objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValue(outputStream, object);
+    }
+
 }
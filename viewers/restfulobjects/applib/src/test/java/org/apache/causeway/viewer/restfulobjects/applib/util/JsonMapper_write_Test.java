@@ -0,0 +1,53 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.applib.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+class JsonMapper_write_Test {
+
+    @Test
+    void streamed_same_as_string() throws Exception {
+        final JsonRepresentation repr = JsonRepresentation.newMap();
+        repr.mapPutString("name", "Fred é");
+        final JsonRepresentation list = JsonRepresentation.newArray();
+        list.arrayAdd(1);
+        list.arrayAdd(2);
+        repr.mapPutJsonRepresentation("values", list);
+
+        for (final JsonMapper.PrettyPrinting prettyPrinting : JsonMapper.PrettyPrinting.values()) {
+            final JsonMapper jsonMapper = JsonMapper.instance(prettyPrinting);
+
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            jsonMapper.write(repr, buffer);
+
+            assertThat(buffer.toString(StandardCharsets.UTF_8), is(equalTo(jsonMapper.write(repr))));
+        }
+    }
+
+}
@@ -74,6 +74,14 @@ public interface IResourceContext extends HasMetaModelContext {
     List<List<String>> getFollowLinks();
     boolean isValidateOnly();
 
+    /**
+     * The {@link Paging} requested by the client, if any; applies to standalone collections and to list-returning
+     * action results.
+     */
+    default Optional<Paging> getPaging() {
+        return Optional.empty();
+    }
+
     default Restfulobjects config() {
         return getMetaModelContext().getConfiguration().getViewer().getRestfulobjects();
     }
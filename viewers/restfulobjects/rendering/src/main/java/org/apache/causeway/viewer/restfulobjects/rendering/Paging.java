@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+
+/**
+ * Server-side paging of collections and list-returning action results, as requested by the client using the
+ * {@link RequestParameter#PAGE x-ro-page} and {@link RequestParameter#PAGE_SIZE x-ro-page-size} query parameters.
+ *
+ * @param page - 1-based
+ * @param pageSize - maximum number of elements to render
+ * @param hrefForPage - if available, the (restful-relative) href to request any given page; used to render
+ *      <code>previous</code>/<code>next</code> links
+ */
+public record Paging(
+        int page,
+        int pageSize,
+        @Nullable IntFunction<String> hrefForPage) {
+
+    public Paging {
+        if(page < 1) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    "%s must be at least 1, was %d", RequestParameter.PAGE, page);
+        }
+        if(pageSize < 1) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    "%s must be at least 1, was %d", RequestParameter.PAGE_SIZE, pageSize);
+        }
+    }
+
+    /**
+     * The elements of a page, and whether there are further elements following it.
+     */
+    public record Page<T>(
+            Paging paging,
+            List<T> elements,
+            boolean hasNext) {
+
+        public boolean hasPrevious() {
+            return paging.page() > 1;
+        }
+
+        public Optional<String> hrefForPrevious() {
+            return hasPrevious()
+                    ? paging.hrefFor(paging.page() - 1)
+                    : Optional.empty();
+        }
+
+        public Optional<String> hrefForNext() {
+            return hasNext()
+                    ? paging.hrefFor(paging.page() + 1)
+                    : Optional.empty();
+        }
+    }
+
+    public long offset() {
+        return (long)(page - 1) * pageSize;
+    }
+
+    /**
+     * Skips to and collects just the elements of this page, consuming at most one element beyond it
+     * (to determine whether there is a next page).
+     */
+    public <T> Page<T> pageOf(final Stream<T> elements) {
+        var elementsOfPageAndNext = elements
+                .skip(offset())
+                .limit(pageSize + 1L)
+                .toList();
+        var hasNext = elementsOfPageAndNext.size() > pageSize;
+        return new Page<>(this,
+                hasNext
+                    ? elementsOfPageAndNext.subList(0, pageSize)
+                    : elementsOfPageAndNext,
+                hasNext);
+    }
+
+    // -- HELPER
+
+    private Optional<String> hrefFor(final int page) {
+        return Optional.ofNullable(hrefForPage)
+                .map(hrefForPage->hrefForPage.apply(page));
+    }
+
+}
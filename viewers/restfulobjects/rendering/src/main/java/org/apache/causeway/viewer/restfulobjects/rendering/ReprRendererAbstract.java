@@ -170,6 +170,24 @@ public ReprRendererAbstract<T> withExtensions(final JsonRepresentation extension
         return this;
     }
 
+    /**
+     * Adds <code>previous</code>/<code>next</code> links for the rendered page (if the request can be repeated
+     * for another page), along with a <code>paging</code> extension describing the page.
+     */
+    protected void addPagingLinksAndExtensions(final Paging.Page<?> page) {
+        // href is already URL-encoded, so must not be used as a format string
+        page.hrefForPrevious().ifPresent(href->getLinks().arrayAdd(
+                LinkBuilder.newBuilder(resourceContext, Rel.PREVIOUS.getName(), representationType, "%s", href).build()));
+        page.hrefForNext().ifPresent(href->getLinks().arrayAdd(
+                LinkBuilder.newBuilder(resourceContext, Rel.NEXT.getName(), representationType, "%s", href).build()));
+
+        final JsonRepresentation paging = JsonRepresentation.newMap();
+        paging.mapPutInt("page", page.paging().page());
+        paging.mapPutInt("pageSize", page.paging().pageSize());
+        paging.mapPutBoolean("hasNext", page.hasNext());
+        getExtensions().mapPutJsonRepresentation("paging", paging);
+    }
+
     @Override
     public abstract JsonRepresentation render();
 
@@ -145,7 +145,8 @@ private ReprRendererAbstract<?> buildResultRenderer(
 
             final ListReprRenderer listReprRenderer =
                     new ListReprRenderer(resourceContext, null, representation).withElementRel(Rel.ELEMENT);
-            listReprRenderer.with(collectionAdapters)
+            listReprRenderer.withPaging(resourceContext.getPaging().orElse(null))
+            .with(collectionAdapters)
             .withReturnType(action.getReturnType())
             .withElementType(returnedAdapter.getElementSpecification().orElse(null));
 
@@ -29,6 +29,7 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
 
 public class ListReprRenderer
@@ -39,6 +40,8 @@
     private ObjectSpecification elementType;
     private ObjectSpecification returnType;
     private Rel elementRel;
+    private Paging paging;
+    private Paging.Page<ManagedObject> page;
 
     public ListReprRenderer(
             final IResourceContext resourceContext,
@@ -53,14 +56,30 @@ public ListReprRenderer usingLinkToBuilder(final ObjectAdapterLinkTo objectAdapt
         return this;
     }
 
+    /**
+     * If specified, then only the requested page of the list will be rendered.
+     * Must be called before {@link #with(Stream)}.
+     */
+    public ListReprRenderer withPaging(final Paging paging) {
+        this.paging = paging;
+        return this;
+    }
+
     @Override
     public ListReprRenderer with(final Stream<ManagedObject> objectAdapters) {
-        this.objectAdapters = objectAdapters!=null
-                ? objectAdapters
-                        .filter(adapter->!adapter.getSpecification().isHidden())
-                        .collect(Collectors.toList())
-                        : null;
-                        return this;
+        if(objectAdapters == null) {
+            this.objectAdapters = null;
+            return this;
+        }
+        var visibleAdapters = objectAdapters
+                .filter(adapter->!adapter.getSpecification().isHidden());
+        if(paging != null) {
+            this.page = paging.pageOf(visibleAdapters);
+            this.objectAdapters = page.elements();
+        } else {
+            this.objectAdapters = visibleAdapters.collect(Collectors.toList());
+        }
+        return this;
     }
 
     public ListReprRenderer withElementRel(final Rel elementRel) {
@@ -91,6 +110,9 @@ public JsonRepresentation render() {
         addLinkToElementType();
 
         getExtensions();
+        if(page != null) {
+            addPagingLinksAndExtensions(page);
+        }
 
         return representation;
     }
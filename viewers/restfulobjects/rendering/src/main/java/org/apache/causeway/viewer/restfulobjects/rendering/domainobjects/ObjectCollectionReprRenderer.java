@@ -19,11 +19,13 @@
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -33,6 +35,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
 
 public class ObjectCollectionReprRenderer
@@ -102,7 +105,16 @@ private void addValue(final LinkFollowSpecs linkFollower) {
 
         final List<JsonRepresentation> list = _Lists.newArrayList();
 
-        CollectionFacet.streamAdapters(valueAdapter)
+        // paging only applies when the collection is the resource being requested
+        final Optional<Paging.Page<ManagedObject>> page = mode.isStandalone()
+                ? resourceContext.getPaging()
+                        .map(paging->paging.pageOf(CollectionFacet.streamAdapters(valueAdapter)))
+                : Optional.empty();
+        final List<ManagedObject> elementAdapters = page
+                .map(Paging.Page::elements)
+                .orElseGet(()->CollectionFacet.streamAdapters(valueAdapter).toList());
+
+        elementAdapters
         .forEach(elementAdapter->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
                     .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
@@ -121,6 +133,7 @@ private void addValue(final LinkFollowSpecs linkFollower) {
         });
 
         representation.mapPut("value", list);
+        page.ifPresent(this::addPagingLinksAndExtensions);
     }
 
     // ///////////////////////////////////////////////////
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.service.swagger;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -32,12 +36,19 @@
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.core.config.RestEasyConfiguration;
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.viewer.restfulobjects.applib.CausewayModuleViewerRestfulObjectsApplib;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.OpenApiSpecGenerator;
 
 /**
  * Default implementation of {@link SwaggerService}.
  *
+ * <p>
+ *     Once the metamodel is fully introspected, the generated spec is cached (along with its UTF-8 encoding)
+ *     per {@link Visibility} and {@link Format}, until any specification is
+ *     {@link SpecificationLoader#reloadSpecification(Class) reloaded}.
+ * </p>
+ *
  * @since 1.x revised for 2.0 {@index}
  */
 @Service
@@ -53,15 +64,22 @@ public class SwaggerServiceDefault implements SwaggerService {
             CausewayModuleViewerRestfulObjectsApplib.NAMESPACE + ".swaggerServiceDefault";
 
     private final OpenApiSpecGenerator swaggerSpecGenerator;
+    private final SpecificationLoader specificationLoader;
     private final String basePath;
 
+    private record SpecKey(Visibility visibility, Format format) {}
+    private record Spec(long reloadCount, String spec, byte[] utf8) {}
+    private final Map<SpecKey, Spec> specCache = new ConcurrentHashMap<>();
+
     @Inject
     public SwaggerServiceDefault(
             final OpenApiSpecGenerator swaggerSpecGenerator,
+            final SpecificationLoader specificationLoader,
             final RestEasyConfiguration restEasyConfiguration,
             final WebAppContextPath webAppContextPath) {
 
         this.swaggerSpecGenerator = swaggerSpecGenerator;
+        this.specificationLoader = specificationLoader;
 
         var restfulPath = restEasyConfiguration.getJaxrs().getDefaultPath();
         var restfulBase = webAppContextPath.prependContextPath(restfulPath);
@@ -73,7 +91,39 @@ public SwaggerServiceDefault(
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
-        return swaggerSpecGenerator.generate(basePath, visibility, format);
+        return spec(visibility, format).spec();
+    }
+
+    @Override
+    public byte[] generateSwaggerSpecAsUtf8(
+            final Visibility visibility,
+            final Format format) {
+        return spec(visibility, format).utf8().clone();
+    }
+
+    // -- HELPER
+
+    private Spec spec(
+            final Visibility visibility,
+            final Format format) {
+        if(!specificationLoader.isMetamodelFullyIntrospected()) {
+            // metamodel could still grow, so don't cache
+            return generate(visibility, format, -1L);
+        }
+        var reloadCount = specificationLoader.getReloadCount();
+        // concurrent callers for the same key block until the spec has been generated, rather than each generating it
+        return specCache.compute(new SpecKey(visibility, format), (key, cached)->
+            cached != null && cached.reloadCount() == reloadCount
+                ? cached
+                : generate(visibility, format, reloadCount));
+    }
+
+    private Spec generate(
+            final Visibility visibility,
+            final Format format,
+            final long reloadCount) {
+        var spec = swaggerSpecGenerator.generate(basePath, visibility, format);
+        return new Spec(reloadCount, spec, spec.getBytes(StandardCharsets.UTF_8));
     }
 
 }
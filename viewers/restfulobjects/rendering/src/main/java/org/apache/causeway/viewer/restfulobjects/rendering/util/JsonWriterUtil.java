@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.util;
 
+import jakarta.ws.rs.core.StreamingOutput;
+
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -35,6 +37,16 @@ public String jsonFor(final Object object, final JsonMapper.PrettyPrinting prett
         return JsonMapper.instance(prettyPrinting).write(object);
     }
 
+    /**
+     * As {@link #jsonFor(Object, JsonMapper.PrettyPrinting)}, but deferring serialization until the
+     * JAX-RS runtime writes the response entity, at which point the JSON is generated straight onto the
+     * response's output stream rather than being buffered as a {@link String} first.
+     */
+    public StreamingOutput streamingJsonFor(final Object object, final JsonMapper.PrettyPrinting prettyPrinting) {
+        var jsonMapper = JsonMapper.instance(prettyPrinting);
+        return outputStream->jsonMapper.write(object, outputStream);
+    }
+
     public String jsonFor(final Object object, final @Nullable CausewaySystemEnvironment systemEnvironment) {
         var prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapper.PrettyPrinting.ENABLE
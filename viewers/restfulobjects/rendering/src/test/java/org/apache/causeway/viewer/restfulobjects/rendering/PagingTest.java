@@ -0,0 +1,91 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PagingTest {
+
+    @Test
+    void first_page() {
+        var page = new Paging(1, 3, p->"items?x-ro-page=" + p).pageOf(numbers(7));
+
+        assertThat(page.elements(), is(List.of(1, 2, 3)));
+        assertThat(page.hasPrevious(), is(false));
+        assertThat(page.hasNext(), is(true));
+        assertThat(page.hrefForPrevious(), is(Optional.empty()));
+        assertThat(page.hrefForNext(), is(Optional.of("items?x-ro-page=2")));
+    }
+
+    @Test
+    void last_page_partially_filled() {
+        var page = new Paging(3, 3, p->"items?x-ro-page=" + p).pageOf(numbers(7));
+
+        assertThat(page.elements(), is(List.of(7)));
+        assertThat(page.hasNext(), is(false));
+        assertThat(page.hrefForPrevious(), is(Optional.of("items?x-ro-page=2")));
+    }
+
+    @Test
+    void last_page_exactly_filled() {
+        var page = new Paging(2, 3, null).pageOf(numbers(6));
+
+        assertThat(page.elements(), is(List.of(4, 5, 6)));
+        assertThat(page.hasNext(), is(false));
+        assertThat(page.hrefForPrevious(), is(Optional.empty())); // not repeatable
+    }
+
+    @Test
+    void beyond_last_page() {
+        var page = new Paging(5, 3, null).pageOf(numbers(7));
+
+        assertThat(page.elements().isEmpty(), is(true));
+        assertThat(page.hasNext(), is(false));
+    }
+
+    @Test
+    void only_consumes_one_element_beyond_page() {
+        var page = new Paging(1, 3, null).pageOf(Stream.iterate(1, i->i + 1)); // infinite
+
+        assertThat(page.elements(), is(List.of(1, 2, 3)));
+        assertThat(page.hasNext(), is(true));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(RestfulObjectsApplicationException.class, ()->new Paging(0, 3, null));
+        assertThrows(RestfulObjectsApplicationException.class, ()->new Paging(1, 0, null));
+    }
+
+    // -- HELPER
+
+    private static Stream<Integer> numbers(final int count) {
+        return IntStream.rangeClosed(1, count).boxed();
+    }
+
+}
@@ -18,11 +18,16 @@
  */
 package org.apache.causeway.viewer.restfulobjects.viewer.context;
 
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -47,6 +52,7 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
@@ -201,6 +207,60 @@ public <Q> Q getArg(final RequestParameter<Q> requestParameter) {
         return requestParameter.valueOf(queryStringJsonRepr);
     }
 
+    /**
+     * Only present if either of the {@link RequestParameter#PAGE} or {@link RequestParameter#PAGE_SIZE}
+     * query parameters were provided.
+     */
+    @Override
+    public Optional<Paging> getPaging() {
+        final JsonRepresentation queryStringJsonRepr = getQueryStringAsJsonRepr();
+        if(queryStringJsonRepr == null
+                || !queryStringJsonRepr.isMap()
+                || !(queryStringJsonRepr.mapHas(RequestParameter.PAGE.getName())
+                        || queryStringJsonRepr.mapHas(RequestParameter.PAGE_SIZE.getName()))) {
+            return Optional.empty();
+        }
+        return Optional.of(new Paging(
+                getArg(RequestParameter.PAGE),
+                getArg(RequestParameter.PAGE_SIZE),
+                canRepeatRequestForAnyPage()
+                    ? this::hrefForPage
+                    : null));
+    }
+
+    /**
+     * Only simple GET requests can be repeated just by varying the {@link RequestParameter#PAGE} query parameter.
+     */
+    private boolean canRepeatRequestForAnyPage() {
+        return httpServletRequest != null
+                && "GET".equalsIgnoreCase(httpServletRequest.getMethod())
+                && httpServletRequest.getRequestURI() != null
+                && simpleQueryArgs(httpServletRequest.getParameterMap());
+    }
+
+    private String hrefForPage(final int page) {
+        final String restfulBasePath = _Strings.suffix(URI.create(restfulAbsoluteBase).getPath(), "/");
+        final String requestUri = httpServletRequest.getRequestURI();
+        final int restfulBasePathIdx = requestUri.indexOf(restfulBasePath);
+        final String resourcePath = restfulBasePathIdx >= 0
+                ? requestUri.substring(restfulBasePathIdx + restfulBasePath.length())
+                : _Strings.removePrefix(requestUri, "/");
+
+        final String queryString = Stream.concat(
+                httpServletRequest.getParameterMap().entrySet().stream()
+                    .filter(entry->!entry.getKey().equals(RequestParameter.PAGE.getName()))
+                    .flatMap(entry->Stream.of(entry.getValue())
+                            .map(value->urlEncode(entry.getKey()) + "=" + urlEncode(value))),
+                Stream.of(RequestParameter.PAGE.getName() + "=" + page))
+            .collect(Collectors.joining("&"));
+
+        return resourcePath + "?" + queryString;
+    }
+
+    private static String urlEncode(final String str) {
+        return URLEncoder.encode(str, StandardCharsets.UTF_8);
+    }
+
     @Override
     public Where getWhere() {
         return where;
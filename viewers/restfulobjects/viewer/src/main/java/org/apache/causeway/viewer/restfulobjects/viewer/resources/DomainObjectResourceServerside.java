@@ -60,6 +60,7 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.causeway.viewer.restfulobjects.applib.domainobjects.DomainObjectResource;
+import org.apache.causeway.viewer.restfulobjects.rendering.Caching;
 import org.apache.causeway.viewer.restfulobjects.rendering.Responses;
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
@@ -170,10 +171,25 @@ public Response object(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "GET /objects/{}/{}", domainType, instanceId, roEx));
+
+        // honor If-None-Match before doing any rendering work
+        var entityTagIfAny = _EntityTags.entityTagFor(resourceContext, objectAdapter);
+        var notModifiedIfAny = entityTagIfAny
+                .map(resourceContext.getRequest()::evaluatePreconditions);
+        if(notModifiedIfAny.isPresent()) {
+            return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
+                    notModifiedIfAny.get()
+                        .cacheControl(Caching.NONE.getCacheControl())
+                        .build());
+        }
+
         var domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
+        var response = domainResourceHelper.objectRepresentation();
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                entityTagIfAny
+                    .map(entityTag->Response.fromResponse(response).tag(entityTag).build())
+                    .orElse(response));
     }
 
     @Override
@@ -68,8 +68,8 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/private",
+    public byte[] swaggerPrivate() {
+        return _EndpointLogging.utf8Response(log, "GET /swagger/private",
                 swagger(Visibility.PRIVATE));
     }
 
@@ -79,8 +79,8 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/prototyping",
+    public byte[] swaggerPrototyping() {
+        return _EndpointLogging.utf8Response(log, "GET /swagger/prototyping",
                 swagger(Visibility.PRIVATE_WITH_PROTOTYPING));
     }
 
@@ -90,14 +90,14 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/public",
+    public byte[] swaggerPublic() {
+        return _EndpointLogging.utf8Response(log, "GET /swagger/public",
                 swagger(Visibility.PUBLIC));
     }
 
     // -- HELPER
 
-    private String swagger(final Visibility visibility) {
+    private byte[] swagger(final Visibility visibility) {
 
         var format = deriveFrom(httpHeaders);
         var callable = new MyCallable(swaggerService, visibility, format);
@@ -125,20 +125,20 @@ private Format deriveFrom(final HttpHeaders httpHeaders) {
     }
 
     @RequiredArgsConstructor
-    static class MyCallable implements Callable<String> {
+    static class MyCallable implements Callable<byte[]> {
 
         private final SwaggerService swaggerService;
         private final Visibility visibility;
         private final Format format;
 
         @Override
-        public String call() throws Exception {
+        public byte[] call() throws Exception {
 
 //            return format==Format.YAML
 //                    ? _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.yaml", StandardCharsets.UTF_8)
 //                    : _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.json", StandardCharsets.UTF_8);
 
-            return swaggerService.generateSwaggerSpec(visibility, format);
+            return swaggerService.generateSwaggerSpecAsUtf8(visibility, format);
         }
 
     }
@@ -18,13 +18,17 @@
  */
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
+import java.nio.charset.StandardCharsets;
+
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import org.apache.logging.log4j.Logger;
 
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.internal.collections._Collections;
 import org.apache.causeway.commons.io.JaxbUtils;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 
 import lombok.experimental.UtilityClass;
@@ -33,17 +37,17 @@
 class _EndpointLogging {
 
     /**
-     * Returns given {@code stringResponse} untampered.
+     * Returns given UTF-8 encoded {@code bytesResponse} untampered.
      */
-    String stringResponse(
+    byte[] utf8Response(
             final Logger log,
             final String format,
-            final String stringResponse) {
+            final byte[] bytesResponse) {
         if(log.isDebugEnabled()) {
             logRequest(log, format);
-            logResponse(log, stringResponse);
+            logResponse(log, new String(bytesResponse, StandardCharsets.UTF_8));
         }
-        return stringResponse;
+        return bytesResponse;
     }
 
     /**
@@ -184,6 +188,8 @@ private void logResponse(final Logger log, final Response response) {
         if(dto==null
                 || dto instanceof String) {
             log.debug(dto);
+        } else if(dto instanceof StreamingOutput) {
+            log.debug(JsonMapper.getEntityAsStringFrom(response));
         } else if(_Collections.isAnyCollectionOrArrayType(dto.getClass())){
             log.debug("non-scalar content of type {}", dto.getClass());
         } else {
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import jakarta.ws.rs.core.EntityTag;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmEntityUtils;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.viewer.restfulobjects.viewer.context.ResourceContext;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Computes strong {@link EntityTag}s for the representations of persistent entities, so that conditional
+ * requests (<code>If-None-Match</code>) can be answered with <i>304 Not Modified</i>.
+ */
+@UtilityClass
+class _EntityTags {
+
+    /**
+     * Only for attached entities, and only if no links are to be followed (<code>x-ro-follow-links</code>): the
+     * representation would then inline the referenced objects, whose state is not covered by the tag.
+     *
+     * <p>
+     * Derived from the entity's version, if its {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet}
+     * exposes one (in which case no rendering work is required), else from the values of its (non mixed-in) properties.
+     * Either way, is combined with everything else the rendered representation depends upon: the current user and
+     * their locale, the acceptable media types and the query string.
+     */
+    Optional<EntityTag> entityTagFor(
+            final ResourceContext resourceContext,
+            final ManagedObject objectAdapter) {
+
+        if(!objectAdapter.getSpecification().isEntity()
+                || !MmEntityUtils.getEntityState(objectAdapter).isAttached()
+                || !resourceContext.getFollowLinks().isEmpty()) {
+            return Optional.empty();
+        }
+
+        var bookmark = ManagedObjects.bookmark(objectAdapter).orElse(null);
+        if(bookmark == null) {
+            return Optional.empty();
+        }
+
+        var digest = HashAlgorithm.SHA256.tryGetMessageDigest().valueAsNonNullElseFail();
+        update(digest, bookmark.stringify());
+
+        var version = objectAdapter.getSpecification().entityFacetElseFail().versionOf(objectAdapter.getPojo());
+        if(version != null) {
+            update(digest, "version");
+            update(digest, version.toString());
+        } else {
+            update(digest, "properties");
+            objectAdapter.getSpecification().streamProperties(MixedIn.EXCLUDED)
+            .forEach(property->{
+                update(digest, property.getId());
+                update(digest, stringify(property.get(objectAdapter, InteractionInitiatedBy.FRAMEWORK)));
+            });
+        }
+
+        resourceContext.getInteractionService().currentInteractionContext()
+        .ifPresent(interactionContext->{
+            update(digest, interactionContext.getUser().getName());
+            update(digest, interactionContext.getLocale().toString());
+        });
+        update(digest, resourceContext.getAcceptableMediaTypes().toString());
+        update(digest, resourceContext.getHttpServletRequest() != null
+                ? String.valueOf(resourceContext.getHttpServletRequest().getQueryString())
+                : "");
+
+        return Optional.of(new EntityTag(HexFormat.of().formatHex(digest.digest())));
+    }
+
+    // -- HELPER
+
+    private static String stringify(final ManagedObject value) {
+        if(value == null
+                || value.getPojo() == null) {
+            return "";
+        }
+        return ManagedObjects.bookmark(value)
+                .map(Bookmark::stringify)
+                .orElseGet(()->value.getPojo().toString());
+    }
+
+    private static void update(final MessageDigest digest, final String str) {
+        digest.update(str.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0); // separator
+    }
+
+}
@@ -47,6 +47,8 @@
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.factory._InstanceUtil;
 import org.apache.causeway.commons.internal.resources._Resources;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.metamodel.specloader.validator.MetaModelInvalidException;
 import org.apache.causeway.core.webapp.modules.templresources.TemplateResourceCachingFilter;
@@ -154,6 +156,7 @@ public class CausewayRestfulObjectsInteractionFilter implements Filter {
     @Autowired private InteractionService interactionService;
     @Autowired private SpecificationLoader specificationLoader;
     @Autowired private TransactionService transactionService;
+    @Autowired private InstrumentationService instrumentationService;
 
     private List<String> passThruList = Collections.emptyList();
 
@@ -377,14 +380,17 @@ public void doFilter(
 
                 authStrategy.bind(httpServletRequest, httpServletResponse, authentication);
 
-                interactionService.run(
-                        authentication,
-                        ()->{
-                            transactionService.runWithinCurrentTransactionElseCreateNew(()->
-                                chain.doFilter(request, response))
-                            .mapFailure(e->new TransactionalException("", e))
-                            .ifFailureFail();
-                        });
+                instrumentationService.observe(Point.RESTFUL_OBJECTS_REQUEST, null, null, ()->{
+                    interactionService.run(
+                            authentication,
+                            ()->{
+                                transactionService.runWithinCurrentTransactionElseCreateNew(()->
+                                    chain.doFilter(request, response))
+                                .mapFailure(e->new TransactionalException("", e))
+                                .ifFailureFail();
+                            });
+                    return null;
+                });
 
                 return;
             }
@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.causeway.viewer.restfulobjects.viewer.context.ResourceContext;
+
+class EntityTags_Test {
+
+    private ResourceContext resourceContext;
+    private InteractionService interactionService;
+    private HttpServletRequest httpServletRequest;
+    private ObjectSpecification spec;
+    private EntityFacet entityFacet;
+    private ManagedObject entity;
+
+    @BeforeAll
+    static void setUpJaxRs() {
+        // no JAX-RS implementation on the test class-path, as required to initialize EntityTag
+        RuntimeDelegate.setInstance(Mockito.mock(RuntimeDelegate.class));
+    }
+
+    @BeforeEach
+    void setUp() {
+        interactionService = Mockito.mock(InteractionService.class);
+        actAs("sven");
+
+        httpServletRequest = Mockito.mock(HttpServletRequest.class);
+        resourceContext = Mockito.mock(ResourceContext.class);
+        when(resourceContext.getInteractionService()).thenReturn(interactionService);
+        when(resourceContext.getAcceptableMediaTypes()).thenReturn(List.of());
+        when(resourceContext.getHttpServletRequest()).thenReturn(httpServletRequest);
+        when(resourceContext.getFollowLinks()).thenReturn(List.of());
+
+        entityFacet = Mockito.mock(EntityFacet.class);
+        spec = Mockito.mock(ObjectSpecification.class);
+        when(spec.isEntity()).thenReturn(true);
+        when(spec.entityFacetElseFail()).thenReturn(entityFacet);
+
+        entity = Mockito.mock(ManagedObject.class);
+        when(entity.getSpecification()).thenReturn(spec);
+        when(entity.getPojo()).thenReturn(new Object());
+        when(entity.getEntityState()).thenReturn(EntityState.ATTACHED);
+        when(entity.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1")));
+    }
+
+    @Test
+    void none_whenNotAttached() {
+        when(entity.getEntityState()).thenReturn(EntityState.DETACHED);
+
+        assertTrue(_EntityTags.entityTagFor(resourceContext, entity).isEmpty());
+    }
+
+    @Test
+    void none_whenNotAnEntity() {
+        when(spec.isEntity()).thenReturn(false);
+
+        assertTrue(_EntityTags.entityTagFor(resourceContext, entity).isEmpty());
+    }
+
+    @Test
+    void none_whenFollowingLinks() {
+        when(entityFacet.versionOf(Mockito.any())).thenReturn(1L);
+        when(resourceContext.getFollowLinks()).thenReturn(List.of(List.of("members")));
+
+        assertTrue(_EntityTags.entityTagFor(resourceContext, entity).isEmpty());
+    }
+
+    @Test
+    void fromVersion() {
+        when(entityFacet.versionOf(Mockito.any())).thenReturn(1L);
+        var tag = entityTag();
+
+        assertFalse(tag.isWeak());
+        assertEquals(tag, entityTag()); // stable
+        Mockito.verify(spec, Mockito.never()).streamProperties(Mockito.any());
+
+        when(entityFacet.versionOf(Mockito.any())).thenReturn(2L);
+        assertNotEquals(tag, entityTag());
+    }
+
+    @Test
+    void fromProperties_whenNoVersion() {
+        var name = Mockito.mock(OneToOneAssociation.class);
+        when(name.getId()).thenReturn("name");
+        when(spec.streamProperties(MixedIn.EXCLUDED)).thenAnswer(__->Stream.of(name));
+        var fred = value("Fred");
+        when(name.get(entity, InteractionInitiatedBy.FRAMEWORK)).thenReturn(fred);
+        var tag = entityTag();
+
+        assertEquals(tag, entityTag()); // stable
+
+        var freddy = value("Freddy");
+        when(name.get(entity, InteractionInitiatedBy.FRAMEWORK)).thenReturn(freddy);
+        assertNotEquals(tag, entityTag());
+    }
+
+    @Test
+    void variesByUser_andQuery() {
+        when(entityFacet.versionOf(Mockito.any())).thenReturn(1L);
+        var tag = entityTag();
+
+        actAs("dick");
+        var tagForOtherUser = entityTag();
+        assertNotEquals(tag, tagForOtherUser);
+
+        when(httpServletRequest.getQueryString()).thenReturn("x-ro-domain-model=formal");
+        assertNotEquals(tagForOtherUser, entityTag());
+    }
+
+    // -- HELPER
+
+    private jakarta.ws.rs.core.EntityTag entityTag() {
+        return _EntityTags.entityTagFor(resourceContext, entity).orElseThrow();
+    }
+
+    private void actAs(final String userName) {
+        when(interactionService.currentInteractionContext())
+            .thenReturn(Optional.of(InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName))));
+    }
+
+    private static ManagedObject value(final String pojo) {
+        var value = Mockito.mock(ManagedObject.class);
+        when(value.getPojo()).thenReturn(pojo);
+        return value;
+    }
+
+}
@@ -77,9 +77,8 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        var dataTable = getDataTableModel();
-        return dataTable.dataRowsFilteredAndSortedObservable().getValue()
-                .iterator(Math.toIntExact(skip), Math.toIntExact(limit));
+        return getDataTableModel()
+                .dataRowsFilteredAndSortedPage(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
     // -- HELPER
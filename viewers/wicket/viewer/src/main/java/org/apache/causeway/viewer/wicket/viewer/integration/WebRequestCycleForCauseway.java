@@ -59,6 +59,8 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService;
+import org.apache.causeway.core.metamodel.services.instrumentation.InstrumentationService.Point;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
 import org.apache.causeway.core.metamodel.specloader.validator.MetaModelInvalidException;
 import org.apache.causeway.viewer.wicket.model.models.HasCommonContext;
@@ -118,6 +120,9 @@ static boolean isExpiryMessageTimeframeExpired() {
     private static final MetaDataKey<SessionLifecyclePhase> SESSION_LIFECYCLE_PHASE_KEY =
             new MetaDataKey<SessionLifecyclePhase>() { private static final long serialVersionUID = 1L; };
 
+    private static final MetaDataKey<InstrumentationService.Observation> REQUEST_OBSERVATION_KEY =
+            new MetaDataKey<InstrumentationService.Observation>() { private static final long serialVersionUID = 1L; };
+
     @Setter
     private PageClassRegistry pageClassRegistry;
 
@@ -130,6 +135,12 @@ public synchronized void onBeginRequest(final RequestCycle requestCycle) {
             log.trace("onBeginRequest in");
         }
 
+        // stopped with onEndRequest, which is also called if the request handler fails
+        requestCycle.setMetaData(REQUEST_OBSERVATION_KEY,
+                getMetaModelContext().lookupService(InstrumentationService.class)
+                    .orElse(InstrumentationService.NOOP)
+                    .start(Point.WICKET_REQUEST, null, null));
+
         if (!Session.exists()) {
             // Track if session was created from an expired one to notify user of the refresh.
             // If there is no remember me cookie, user will be redirected to sign in and no need to notify.
@@ -291,6 +302,12 @@ public synchronized void onEndRequest(final RequestCycle requestCycle) {
         getMetaModelContext().lookupService(InteractionService.class).ifPresent(
             InteractionService::closeInteractionLayers
         );
+
+        var observation = requestCycle.getMetaData(REQUEST_OBSERVATION_KEY);
+        if(observation!=null) {
+            requestCycle.setMetaData(REQUEST_OBSERVATION_KEY, null);
+            observation.close();
+        }
     }
 
     @Override
@@ -306,6 +323,9 @@ public IRequestHandler onException(final RequestCycle cycle, final Exception ex)
             log.debug("onException {}  took: {}ms", ex.getClass().getSimpleName(), timings.get().took());
         }
 
+        Optional.ofNullable(cycle.getMetaData(REQUEST_OBSERVATION_KEY))
+            .ifPresent(observation->observation.error(ex));
+
         // using side-effect free access to MM validation result
         var validationResult = getMetaModelContext().getSpecificationLoader().getValidationResult()
                 .orElse(null);